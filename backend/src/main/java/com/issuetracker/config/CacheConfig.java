@@ -4,15 +4,14 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -22,11 +21,13 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Configuration class for caching support.
- * Provides both Redis-based distributed caching for production and in-memory caching for development.
+ * Provides Redis-based distributed caching and bounded in-memory caching with the same
+ * per-cache TTLs; cache.store selects one of them ("redis" or "local", the default).
  * Optimized for dashboard metrics and frequently accessed data.
  */
 @Configuration
@@ -51,14 +52,31 @@ public class CacheConfig {
     @Value("${cache.redis.key-prefix:issuetracker}")
     private String keyPrefix;
 
+    @Value("${cache.caffeine.maximum-size:2000}")
+    private long localMaximumSize;
+
+    /**
+     * Time to live of each known cache, shared by the Redis and the in-memory cache managers.
+     */
+    private Map<String, Duration> cacheTtls() {
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+        ttls.put("dashboardMetrics", Duration.ofSeconds(dashboardMetricsTtl));
+        ttls.put("projectStatistics", Duration.ofSeconds(projectStatisticsTtl));
+        ttls.put("sprintStatistics", Duration.ofSeconds(sprintStatisticsTtl));
+        ttls.put("userProjects", Duration.ofSeconds(userDataTtl));
+        ttls.put("userIssues", Duration.ofSeconds(300)); // 5 minutes for issue data
+        ttls.put("sprintIssues", Duration.ofSeconds(180)); // 3 minutes for sprint issues
+        // Outlives the entries keyed by it; a lost generation restarts at a random value
+        ttls.put("cacheGenerations", Duration.ofHours(1));
+        return ttls;
+    }
+
     /**
-     * Redis-based cache manager for production environments.
+     * Redis-based cache manager, selected with cache.store=redis.
      * Provides distributed caching with optimized serialization and TTL configurations.
      */
     @Bean
-    @Primary
-    @Profile("prod")
-    @ConditionalOnProperty(name = "spring.data.redis.host")
+    @ConditionalOnProperty(name = "cache.store", havingValue = "redis")
     public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         // Configure JSON serialization for cache values
         ObjectMapper objectMapper = new ObjectMapper();
@@ -84,27 +102,7 @@ public class CacheConfig {
 
         // Specific cache configurations with different TTLs
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        cacheConfigurations.put("dashboardMetrics", defaultConfig
-            .entryTtl(Duration.ofSeconds(dashboardMetricsTtl)));
-        
-        cacheConfigurations.put("dashboardSummary", defaultConfig
-            .entryTtl(Duration.ofSeconds(dashboardMetricsTtl)));
-        
-        cacheConfigurations.put("projectStatistics", defaultConfig
-            .entryTtl(Duration.ofSeconds(projectStatisticsTtl)));
-        
-        cacheConfigurations.put("sprintStatistics", defaultConfig
-            .entryTtl(Duration.ofSeconds(sprintStatisticsTtl)));
-        
-        cacheConfigurations.put("userProjects", defaultConfig
-            .entryTtl(Duration.ofSeconds(userDataTtl)));
-        
-        cacheConfigurations.put("userIssues", defaultConfig
-            .entryTtl(Duration.ofSeconds(300))); // 5 minutes for issue data
-        
-        cacheConfigurations.put("sprintIssues", defaultConfig
-            .entryTtl(Duration.ofSeconds(180))); // 3 minutes for sprint issues
+        cacheTtls().forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl)));
 
         return RedisCacheManager.builder(redisConnectionFactory)
             .cacheDefaults(defaultConfig)
@@ -114,28 +112,28 @@ public class CacheConfig {
     }
 
     /**
-     * In-memory cache manager for development and testing environments.
-     * Uses concurrent map cache for fast local development.
+     * Bounded in-memory cache manager, selected unless cache.store=redis
+     * (development, tests and production deployments without Redis).
+     * Each cache has its TTL and a size bound; statistics are recorded so the caches
+     * are exported to Micrometer with the other cache metrics.
      */
     @Bean
-    @Profile({"dev", "test"})
-    public CacheManager concurrentMapCacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        
-        // Pre-configure cache names for dashboard metrics
-        cacheManager.setCacheNames(java.util.List.of(
-            "dashboardMetrics",
-            "dashboardSummary", 
-            "projectStatistics",
-            "sprintStatistics",
-            "userProjects",
-            "userIssues",
-            "sprintIssues"
-        ));
-        
-        // Allow dynamic cache creation for future cache names
+    @ConditionalOnProperty(name = "cache.store", havingValue = "local", matchIfMissing = true)
+    public CacheManager caffeineCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAllowNullValues(false);
-        
+
+        // Caches created for future cache names get the default TTL
+        cacheManager.setCaffeine(localCache(Duration.ofSeconds(defaultTtl)));
+        cacheTtls().forEach((name, ttl) -> cacheManager.registerCustomCache(name, localCache(ttl).build()));
+
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private Caffeine<Object, Object> localCache(Duration ttl) {
+        return Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats();
+    }
+}
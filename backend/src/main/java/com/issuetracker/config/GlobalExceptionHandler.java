@@ -2,6 +2,8 @@ package com.issuetracker.config;
 
 import com.issuetracker.dto.ErrorResponse;
 import com.issuetracker.exception.DuplicateResourceException;
+import com.issuetracker.exception.InvalidCursorException;
+import com.issuetracker.exception.InvalidImportException;
 import com.issuetracker.exception.InvalidSprintOperationException;
 import com.issuetracker.exception.InvalidWorkflowTransitionException;
 import com.issuetracker.exception.ResourceNotFoundException;
@@ -169,6 +171,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handle malformed pagination cursors, and sync cursors older than the retained changes
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException ex, HttpServletRequest request) {
+        
+        logger.warn("Invalid cursor on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code(ex.isExpired() ? "CURSOR_EXPIRED" : "INVALID_CURSOR")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        HttpStatus status = ex.isExpired() ? HttpStatus.GONE : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    /**
+     * Handle import files that cannot be read
+     */
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImport(
+            InvalidImportException ex, HttpServletRequest request) {
+        
+        logger.warn("Invalid import on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_IMPORT")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handle authentication errors
      */
@@ -20,6 +20,7 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter that intercepts HTTP requests to validate JWT tokens.
  * Extracts JWT from Authorization header and sets security context if valid.
+ * The principal is an {@link com.issuetracker.service.AuthenticatedUser} built from the token claims.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -54,11 +55,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            // Tokens carry the user ID, so the principal is built from the claims without a lookup
+            UserDetails userDetails = jwtService.extractPrincipal(jwt);
+            userEmail = userDetails != null ? userDetails.getUsername() : jwtService.extractUsername(jwt);
 
             // If user email is present and no authentication exists in context
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                if (userDetails == null) {
+                    // Tokens issued before the user ID claim was added still need the user loaded
+                    userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                }
 
                 // Validate token and set authentication
                 if (jwtService.isTokenValid(jwt, userDetails)) {
@@ -0,0 +1,87 @@
+package com.issuetracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+/**
+ * Bounded store of the rate limiting buckets of one kind of endpoint, keyed by client.
+ *
+ * A bucket left idle until it has refilled completely limits nothing a new bucket would not,
+ * so it expires after that long without requests. The size bound only comes into play under a
+ * flood of distinct keys (many clients behind a CDN, spoofed forwarding headers); least
+ * recently used buckets are evicted then, so memory stays flat whatever the number of keys.
+ * Size, hits and evictions are exported with the cache metrics under cache="rateLimitBuckets".
+ */
+public class RateLimitBucketStore {
+
+    private final Cache<String, Bucket> buckets;
+    private final Bandwidth limit;
+
+    /**
+     * @param type the kind of endpoint, used as the "type" tag of the metrics
+     * @param burstCapacity the bucket capacity
+     * @param requestsPerMinute the tokens added back each minute
+     * @param maximumSize the maximum number of buckets kept
+     * @param meterRegistry the registry for the store metrics
+     */
+    public RateLimitBucketStore(String type, int burstCapacity, int requestsPerMinute, long maximumSize,
+                                MeterRegistry meterRegistry) {
+        this(type, burstCapacity, requestsPerMinute, maximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a store reading the idle time of its buckets from the given ticker.
+     */
+    RateLimitBucketStore(String type, int burstCapacity, int requestsPerMinute, long maximumSize,
+                         MeterRegistry meterRegistry, Ticker ticker) {
+        this.limit = Bandwidth.classic(burstCapacity, Refill.intervally(requestsPerMinute, Duration.ofMinutes(1)));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(timeToRefill(burstCapacity, requestsPerMinute))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets", Tags.of("type", type));
+    }
+
+    /**
+     * Gets the bucket of a client, creating a full one if it has none.
+     *
+     * @param key the client key
+     * @return the client's bucket
+     */
+    public Bucket bucketFor(String key) {
+        return buckets.get(key, k -> Bucket.builder().addLimit(limit).build());
+    }
+
+    /**
+     * @return the approximate number of buckets kept
+     */
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Runs pending evictions now instead of during later requests.
+     */
+    public void cleanUp() {
+        buckets.cleanUp();
+    }
+
+    /**
+     * Time for an empty bucket to refill, in whole refill periods.
+     */
+    static Duration timeToRefill(int burstCapacity, int requestsPerMinute) {
+        long periods = (burstCapacity + requestsPerMinute - 1) / requestsPerMinute;
+        return Duration.ofMinutes(Math.max(1, periods));
+    }
+}
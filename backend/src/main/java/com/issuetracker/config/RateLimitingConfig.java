@@ -1,8 +1,11 @@
 package com.issuetracker.config;
 
-import io.github.bucket4j.Bandwidth;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.JwtService;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,12 +20,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enhanced rate limiting configuration for all API endpoints.
  * Implements different rate limits for authentication and general API endpoints.
+ * Buckets are kept in bounded, expiring stores, so the number of distinct clients
+ * cannot grow memory without limit.
  */
 @Configuration
 public class RateLimitingConfig {
@@ -30,6 +33,7 @@ public class RateLimitingConfig {
     /**
      * Enhanced rate limiting filter for all API endpoints.
      * Implements different rate limits for authentication vs general API endpoints.
+     * API requests with a valid bearer token are limited per user, others per client IP.
      * Only active in non-test profiles.
      */
     @Component
@@ -37,9 +41,17 @@ public class RateLimitingConfig {
     @Profile("!test")
     public static class ApiRateLimitingFilter extends OncePerRequestFilter {
 
-        private final ConcurrentHashMap<String, Bucket> authBuckets = new ConcurrentHashMap<>();
-        private final ConcurrentHashMap<String, Bucket> apiBuckets = new ConcurrentHashMap<>();
-        
+        // Longest IPv6 text form; longer forwarding header values are cut so keys stay small
+        private static final int MAX_IP_KEY_LENGTH = 45;
+
+        private final JwtService jwtService;
+        private final MeterRegistry meterRegistry;
+
+        private RateLimitBucketStore authBuckets;
+        private RateLimitBucketStore apiBuckets;
+        private Counter authRejections;
+        private Counter apiRejections;
+
         @Value("${rate-limit.auth.requests-per-minute:10}")
         private int authRequestsPerMinute;
         
@@ -52,6 +64,24 @@ public class RateLimitingConfig {
         @Value("${rate-limit.api.burst-capacity:200}")
         private int apiBurstCapacity;
 
+        @Value("${rate-limit.store.maximum-size:100000}")
+        private long storeMaximumSize;
+
+        public ApiRateLimitingFilter(JwtService jwtService, MeterRegistry meterRegistry) {
+            this.jwtService = jwtService;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @PostConstruct
+        void init() {
+            authBuckets = new RateLimitBucketStore("authentication", authBurstCapacity, authRequestsPerMinute,
+                    storeMaximumSize, meterRegistry);
+            apiBuckets = new RateLimitBucketStore("api", apiBurstCapacity, apiRequestsPerMinute,
+                    storeMaximumSize, meterRegistry);
+            authRejections = rejections("authentication");
+            apiRejections = rejections("api");
+        }
+
         @Override
         protected void doFilterInternal(
                 HttpServletRequest request,
@@ -60,7 +90,7 @@ public class RateLimitingConfig {
         ) throws ServletException, IOException {
 
             String requestURI = request.getRequestURI();
-            String clientIp = getClientIpAddress(request);
+            String clientIp = truncate(getClientIpAddress(request));
             
             // Skip rate limiting for health checks and actuator endpoints
             if (requestURI.startsWith("/api/actuator/") || 
@@ -79,7 +109,7 @@ public class RateLimitingConfig {
                 rateLimitType = "authentication";
             } else if (requestURI.startsWith("/api/")) {
                 // Apply general rate limiting to all other API endpoints
-                bucket = getApiBucket(clientIp);
+                bucket = getApiBucket(clientKey(request, clientIp));
                 rateLimitType = "api";
             } else {
                 // Skip rate limiting for non-API endpoints
@@ -88,6 +118,7 @@ public class RateLimitingConfig {
             }
 
             if (!bucket.tryConsume(1)) {
+                ("authentication".equals(rateLimitType) ? authRejections : apiRejections).increment();
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 response.setContentType("application/json");
                 response.setHeader("X-RateLimit-Limit", getRateLimitHeader(rateLimitType));
@@ -112,56 +143,59 @@ public class RateLimitingConfig {
 
         /**
          * Gets or creates a rate limiting bucket for authentication endpoints.
+         * More restrictive limits to prevent brute force attacks.
          *
          * @param ip client IP address
          * @return rate limiting bucket for auth endpoints
          */
         private Bucket getAuthBucket(String ip) {
-            return authBuckets.computeIfAbsent(ip, this::createAuthBucket);
+            return authBuckets.bucketFor(ip);
         }
 
         /**
          * Gets or creates a rate limiting bucket for general API endpoints.
+         * More permissive limits for normal API usage.
          *
-         * @param ip client IP address
+         * @param key client key
          * @return rate limiting bucket for API endpoints
          */
-        private Bucket getApiBucket(String ip) {
-            return apiBuckets.computeIfAbsent(ip, this::createApiBucket);
+        private Bucket getApiBucket(String key) {
+            return apiBuckets.bucketFor(key);
         }
 
         /**
-         * Creates a new rate limiting bucket for authentication endpoints.
-         * More restrictive limits to prevent brute force attacks.
+         * Keys API requests by the user of a valid bearer token, so users behind a shared
+         * address do not share a bucket, and by client IP otherwise.
+         * Tokens are verified from the cached claims, without loading the user.
          *
-         * @param ip client IP address
-         * @return new auth bucket
+         * @param request HTTP request
+         * @param clientIp client IP address
+         * @return bucket key
          */
-        private Bucket createAuthBucket(String ip) {
-            Bandwidth limit = Bandwidth.classic(
-                authBurstCapacity, 
-                Refill.intervally(authRequestsPerMinute, Duration.ofMinutes(1))
-            );
-            return Bucket.builder()
-                    .addLimit(limit)
-                    .build();
+        String clientKey(HttpServletRequest request, String clientIp) {
+            String authHeader = request.getHeader("Authorization");
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                try {
+                    AuthenticatedUser principal = jwtService.extractPrincipal(authHeader.substring(7));
+                    if (principal != null) {
+                        return "user:" + principal.getId();
+                    }
+                } catch (Exception e) {
+                    // Invalid or expired token; the request is limited by address and rejected later
+                }
+            }
+            return "ip:" + clientIp;
         }
 
-        /**
-         * Creates a new rate limiting bucket for general API endpoints.
-         * More permissive limits for normal API usage.
-         *
-         * @param ip client IP address
-         * @return new API bucket
-         */
-        private Bucket createApiBucket(String ip) {
-            Bandwidth limit = Bandwidth.classic(
-                apiBurstCapacity, 
-                Refill.intervally(apiRequestsPerMinute, Duration.ofMinutes(1))
-            );
-            return Bucket.builder()
-                    .addLimit(limit)
-                    .build();
+        private Counter rejections(String type) {
+            return Counter.builder("ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+
+        private static String truncate(String ip) {
+            return ip != null && ip.length() > MAX_IP_KEY_LENGTH ? ip.substring(0, MAX_IP_KEY_LENGTH) : ip;
         }
 
         /**
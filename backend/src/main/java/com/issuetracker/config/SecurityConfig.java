@@ -1,5 +1,7 @@
 package com.issuetracker.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +34,8 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
@@ -71,6 +75,8 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/actuator/info").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // WebSocket sessions authenticate with the token in the STOMP CONNECT frame
+                        .requestMatchers("/ws/**").permitAll()
                         
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
@@ -114,21 +120,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         
         // Get allowed origins from environment or use default for development
-        String allowedOrigins = System.getenv("CORS_ALLOWED_ORIGINS");
-        System.out.println("CORS_ALLOWED_ORIGINS from environment: " + allowedOrigins);
-        if (allowedOrigins != null && !allowedOrigins.isEmpty()) {
-            // Production: use specific origins
-            System.out.println("Setting allowed origins: " + allowedOrigins);
-            configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
-        } else {
-            // Development: allow localhost origins
-            configuration.setAllowedOriginPatterns(Arrays.asList(
-                "http://localhost:*",
-                "https://localhost:*",
-                "http://127.0.0.1:*",
-                "https://127.0.0.1:*"
-            ));
-        }
+        configuration.setAllowedOriginPatterns(allowedOriginPatterns());
         
         // Allow specific HTTP methods only
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
@@ -159,6 +151,28 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Resolves the origins allowed to call the API, also used for the WebSocket handshake.
+     * Exact origins are valid patterns, so production origins match as before.
+     *
+     * @return origin patterns from CORS_ALLOWED_ORIGINS, or localhost patterns for development
+     */
+    static List<String> allowedOriginPatterns() {
+        String allowedOrigins = System.getenv("CORS_ALLOWED_ORIGINS");
+        if (allowedOrigins != null && !allowedOrigins.isEmpty()) {
+            // Production: use specific origins
+            logger.debug("Allowed origins from CORS_ALLOWED_ORIGINS: {}", allowedOrigins);
+            return Arrays.asList(allowedOrigins.split(","));
+        }
+        // Development: allow localhost origins
+        return Arrays.asList(
+            "http://localhost:*",
+            "https://localhost:*",
+            "http://127.0.0.1:*",
+            "https://127.0.0.1:*"
+        );
+    }
+
     /**
      * Configures the authentication provider.
      *
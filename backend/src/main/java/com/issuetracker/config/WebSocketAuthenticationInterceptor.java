@@ -0,0 +1,83 @@
+package com.issuetracker.config;
+
+import com.issuetracker.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions with the JWT sent in the CONNECT frame's Authorization header,
+ * since browsers cannot set headers on the WebSocket handshake itself.
+ * Sessions may only subscribe to their own user destinations and cannot send messages.
+ */
+@Component
+public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketAuthenticationInterceptor.class);
+
+    private static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    public WebSocketAuthenticationInterceptor(JwtService jwtService, UserDetailsService userDetailsService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            if (accessor.getUser() == null || destination == null || !destination.startsWith(USER_QUEUE_PREFIX)) {
+                throw new AccessDeniedException("Subscriptions are limited to " + USER_QUEUE_PREFIX + "**");
+            }
+        } else if (command == StompCommand.SEND) {
+            throw new AccessDeniedException("Sending messages is not supported");
+        }
+        return message;
+    }
+
+    /**
+     * Validates a bearer token the same way as {@link JwtAuthenticationFilter}.
+     */
+    private UsernamePasswordAuthenticationToken authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Missing bearer token");
+        }
+        String jwt = authHeader.substring(7);
+        try {
+            // Tokens carry the user ID, so the principal is built from the claims without a lookup
+            UserDetails userDetails = jwtService.extractPrincipal(jwt);
+            if (userDetails == null) {
+                userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+            }
+            if (jwtService.isTokenValid(jwt, userDetails)) {
+                return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            }
+        } catch (Exception e) {
+            logger.debug("WebSocket token validation failed: {}", e.getMessage());
+        }
+        throw new BadCredentialsException("Invalid bearer token");
+    }
+}
@@ -2,8 +2,10 @@ package com.issuetracker.controller;
 
 import com.issuetracker.dto.CommentDto;
 import com.issuetracker.dto.CreateCommentRequest;
+import com.issuetracker.dto.CursorPage;
 import com.issuetracker.dto.UpdateCommentRequest;
 import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
 import com.issuetracker.service.CommentService;
 import com.issuetracker.service.UserService;
 import jakarta.validation.Valid;
@@ -119,6 +121,27 @@ public class CommentController {
         }
     }
 
+    /**
+     * Retrieves comments for a specific issue with keyset pagination, oldest first.
+     *
+     * @param issueId issue ID
+     * @param cursor opaque cursor returned as nextCursor by the previous page
+     * @param limit page size (default 20, at most 100)
+     * @param includeTotal whether to include the total number of comments
+     * @return cursor page of comment DTOs
+     */
+    @GetMapping("/issue/{issueId}/cursor")
+    public ResponseEntity<CursorPage<CommentDto>> getIssueCommentsPage(
+            @PathVariable Long issueId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal) {
+        
+        User currentUser = getCurrentUser();
+        CursorPage<CommentDto> comments = commentService.getIssueCommentsPage(issueId, currentUser, cursor, limit, includeTotal);
+        return ResponseEntity.ok(comments);
+    }
+
     /**
      * Retrieves recent comments for an issue after a specific timestamp.
      *
@@ -197,6 +220,11 @@ public class CommentController {
             throw new RuntimeException("User not authenticated");
         }
 
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
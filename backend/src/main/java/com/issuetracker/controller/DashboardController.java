@@ -2,16 +2,21 @@ package com.issuetracker.controller;
 
 import com.issuetracker.dto.DashboardMetricsDto;
 import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.CacheGenerationService;
+import com.issuetracker.service.DashboardMetricsCache;
 import com.issuetracker.service.DashboardService;
 import com.issuetracker.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -28,53 +33,61 @@ public class DashboardController {
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
 
     private final DashboardService dashboardService;
+    private final DashboardMetricsCache dashboardMetricsCache;
+    private final CacheGenerationService cacheGenerationService;
     private final UserService userService;
 
     @Autowired
-    public DashboardController(DashboardService dashboardService, UserService userService) {
+    public DashboardController(DashboardService dashboardService, DashboardMetricsCache dashboardMetricsCache,
+                               CacheGenerationService cacheGenerationService, UserService userService) {
         this.dashboardService = dashboardService;
+        this.dashboardMetricsCache = dashboardMetricsCache;
+        this.cacheGenerationService = cacheGenerationService;
         this.userService = userService;
     }
 
     /**
      * Retrieves comprehensive dashboard metrics for the authenticated user.
-     * Includes project, issue, and sprint statistics with caching for performance.
+     * Includes project, issue, and sprint statistics with caching for performance;
+     * concurrent misses share one computation and stale entries are refreshed in the background.
+     * Answers 304 Not Modified without loading anything when the client's ETag is current.
      *
+     * @param webRequest the request, checked against the user's data version
      * @return dashboard metrics DTO
      */
     @GetMapping("/metrics")
-    @Cacheable(value = "dashboardMetrics", key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null ? T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName() : 'anonymous'", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
-    public ResponseEntity<DashboardMetricsDto> getDashboardMetrics() {
+    public ResponseEntity<DashboardMetricsDto> getDashboardMetrics(WebRequest webRequest) {
         logger.debug("Retrieving dashboard metrics for authenticated user");
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+        User user = getCurrentUser();
+        if (cacheGenerationService.versionsUsable()
+                && webRequest.checkNotModified(cacheGenerationService.userVersion(user))) {
+            return null;
+        }
 
-        DashboardMetricsDto metrics = dashboardService.calculateDashboardMetrics(user);
+        DashboardMetricsDto metrics = dashboardMetricsCache.get(user);
 
         logger.info("Retrieved dashboard metrics for user {}: {} projects, {} issues, {} sprints",
                    user.getId(), metrics.getProjectMetrics().getTotalProjects(),
                    metrics.getIssueMetrics().getTotalIssues(), metrics.getSprintMetrics().getTotalSprints());
 
-        return ResponseEntity.ok(metrics);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(metrics);
     }
 
     /**
      * Retrieves real-time statistics for a specific project.
      * Provides detailed project metrics including issue distribution and counts.
+     * Cached per user under the project's generation, see {@link com.issuetracker.service.CacheGenerationService}.
      *
      * @param projectId the project ID
      * @return project statistics map
      */
     @GetMapping("/projects/{projectId}/statistics")
-    @Cacheable(value = "projectStatistics", key = "#projectId + '_' + (T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null ? T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName() : 'anonymous')", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
+    @Cacheable(value = "projectStatistics", key = "@cacheGenerationService.projectStatisticsKey(#projectId, T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName())", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
     public ResponseEntity<Map<String, Object>> getProjectStatistics(@PathVariable Long projectId) {
         logger.debug("Retrieving project statistics for project {} and authenticated user", projectId);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+        User user = getCurrentUser();
 
         Map<String, Object> statistics = dashboardService.getProjectStatistics(projectId, user);
 
@@ -92,18 +105,17 @@ public class DashboardController {
     /**
      * Retrieves real-time statistics for a specific sprint.
      * Provides detailed sprint metrics including completion percentage and story points.
+     * Cached per user under the sprint's generation, see {@link com.issuetracker.service.CacheGenerationService}.
      *
      * @param sprintId the sprint ID
      * @return sprint statistics map
      */
     @GetMapping("/sprints/{sprintId}/statistics")
-    @Cacheable(value = "sprintStatistics", key = "#sprintId + '_' + (T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null ? T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName() : 'anonymous')", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
+    @Cacheable(value = "sprintStatistics", key = "@cacheGenerationService.sprintStatisticsKey(#sprintId, T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName())", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
     public ResponseEntity<Map<String, Object>> getSprintStatistics(@PathVariable Long sprintId) {
         logger.debug("Retrieving sprint statistics for sprint {} and authenticated user", sprintId);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+        User user = getCurrentUser();
 
         Map<String, Object> statistics = dashboardService.getSprintStatistics(sprintId, user);
 
@@ -120,20 +132,17 @@ public class DashboardController {
 
     /**
      * Retrieves summary metrics for quick dashboard overview.
-     * Provides essential counts and percentages for dashboard widgets.
+     * Provides essential counts and percentages for dashboard widgets, built from the cached metrics.
      *
      * @return summary metrics map
      */
     @GetMapping("/summary")
-    @Cacheable(value = "dashboardSummary", key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null ? T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName() : 'anonymous'", condition = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication() != null")
     public ResponseEntity<Map<String, Object>> getDashboardSummary() {
         logger.debug("Retrieving dashboard summary for authenticated user");
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+        User user = getCurrentUser();
 
-        DashboardMetricsDto metrics = dashboardService.calculateDashboardMetrics(user);
+        DashboardMetricsDto metrics = dashboardMetricsCache.get(user);
 
         // Create summary with key metrics
         Map<String, Object> summary = Map.of(
@@ -165,15 +174,35 @@ public class DashboardController {
     public ResponseEntity<DashboardMetricsDto> refreshDashboardMetrics() {
         logger.debug("Refreshing dashboard metrics for authenticated user");
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+        User user = getCurrentUser();
 
         // Clear cache and recalculate metrics
         DashboardMetricsDto metrics = dashboardService.calculateDashboardMetrics(user);
 
         logger.info("Refreshed dashboard metrics for user {}", user.getId());
 
-        return ResponseEntity.ok(metrics);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(metrics);
+    }
+
+    /**
+     * Gets the current authenticated user.
+     *
+     * @return current user
+     * @throws RuntimeException if user is not authenticated or not found
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
+        String email = authentication.getName();
+        return userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found: " + email));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.ExportFormat;
+import com.issuetracker.service.ExportService;
+import com.issuetracker.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for data exports.
+ * Exports are streamed to the client as they are read, in NDJSON or CSV format.
+ */
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController {
+
+    private final ExportService exportService;
+    private final UserService userService;
+
+    @Autowired
+    public ExportController(ExportService exportService, UserService userService) {
+        this.exportService = exportService;
+        this.userService = userService;
+    }
+
+    /**
+     * Exports all of the authenticated user's issues with their labels and epic.
+     *
+     * @param format output format (NDJSON or CSV)
+     * @return streamed export
+     */
+    @GetMapping("/issues")
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        User currentUser = getCurrentUser();
+        return streamed("issues", format, out -> exportService.exportIssues(currentUser, format, out));
+    }
+
+    /**
+     * Exports the authenticated user's audit trail, oldest first.
+     *
+     * @param format output format (NDJSON or CSV)
+     * @return streamed export
+     */
+    @GetMapping("/audit")
+    public ResponseEntity<StreamingResponseBody> exportAuditTrail(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        User currentUser = getCurrentUser();
+        return streamed("audit", format, out -> exportService.exportAuditTrail(currentUser, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamed(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    /**
+     * Gets the current authenticated user.
+     *
+     * @return current user
+     * @throws RuntimeException if user is not authenticated or not found
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
+        String email = authentication.getName();
+        return userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found: " + email));
+    }
+}
@@ -5,6 +5,10 @@ import com.issuetracker.entity.IssueStatus;
 import com.issuetracker.entity.Priority;
 import com.issuetracker.entity.User;
 import com.issuetracker.service.AuditService;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.CacheGenerationService;
+import com.issuetracker.service.ExportFormat;
+import com.issuetracker.service.IssueImportService;
 import com.issuetracker.service.IssueService;
 import com.issuetracker.service.UserService;
 import jakarta.validation.Valid;
@@ -12,12 +16,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -32,22 +40,29 @@ public class IssueController {
     private final IssueService issueService;
     private final AuditService auditService;
     private final UserService userService;
+    private final IssueImportService issueImportService;
+    private final CacheGenerationService cacheGenerationService;
 
     @Autowired
-    public IssueController(IssueService issueService, AuditService auditService, UserService userService) {
+    public IssueController(IssueService issueService, AuditService auditService, UserService userService,
+                           IssueImportService issueImportService, CacheGenerationService cacheGenerationService) {
         this.issueService = issueService;
         this.auditService = auditService;
         this.userService = userService;
+        this.issueImportService = issueImportService;
+        this.cacheGenerationService = cacheGenerationService;
     }
 
     /**
      * Retrieves all issues for the authenticated user with pagination and filtering.
+     * Answers 304 Not Modified without loading anything when the client's ETag is current.
      *
      * @param pageable pagination parameters
      * @param projectId optional project filter
      * @param status optional status filter
      * @param priority optional priority filter
      * @param sprintId optional sprint filter
+     * @param webRequest the request, checked against the user's data version
      * @return page of issue DTOs
      */
     @GetMapping
@@ -56,9 +71,14 @@ public class IssueController {
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) IssueStatus status,
             @RequestParam(required = false) Priority priority,
-            @RequestParam(required = false) Long sprintId) {
+            @RequestParam(required = false) Long sprintId,
+            WebRequest webRequest) {
         
         User currentUser = getCurrentUser();
+        if (cacheGenerationService.versionsUsable()
+                && webRequest.checkNotModified(cacheGenerationService.userVersion(currentUser))) {
+            return null;
+        }
         
         Page<IssueDto> issues;
         if (projectId != null || status != null || priority != null || sprintId != null) {
@@ -67,7 +87,41 @@ public class IssueController {
             issues = issueService.getIssues(currentUser, pageable);
         }
         
-        return ResponseEntity.ok(issues);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(issues);
+    }
+
+    /**
+     * Retrieves issues for the authenticated user with keyset pagination, newest first.
+     *
+     * @param cursor opaque cursor returned as nextCursor by the previous page
+     * @param limit page size (default 20, at most 100)
+     * @param includeTotal whether to include the total number of matching issues
+     * @param projectId optional project filter
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param sprintId optional sprint filter
+     * @param webRequest the request, checked against the user's data version
+     * @return cursor page of issue DTOs
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<IssueDto>> getIssuesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) IssueStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long sprintId,
+            WebRequest webRequest) {
+        
+        User currentUser = getCurrentUser();
+        if (cacheGenerationService.versionsUsable()
+                && webRequest.checkNotModified(cacheGenerationService.userVersion(currentUser))) {
+            return null;
+        }
+        CursorPage<IssueDto> issues = issueService.getIssuesPage(
+                currentUser, projectId, status, priority, sprintId, cursor, limit, includeTotal);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(issues);
     }
 
     /**
@@ -96,6 +150,24 @@ public class IssueController {
         return ResponseEntity.status(HttpStatus.CREATED).body(issue);
     }
 
+    /**
+     * Imports issues in bulk from a CSV or NDJSON body with the columns of the issue export.
+     * Rows that fail validation are skipped and reported in the result.
+     *
+     * @param format the body format
+     * @param body the import file
+     * @return import result with per-row errors
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping("/import")
+    public ResponseEntity<IssueImportResultDto> importIssues(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            InputStream body) throws IOException {
+        User currentUser = getCurrentUser();
+        IssueImportResultDto result = issueImportService.importIssues(currentUser, format, body);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Updates an existing issue.
      *
@@ -130,6 +202,21 @@ public class IssueController {
         return ResponseEntity.ok(issue);
     }
 
+    /**
+     * Applies the same status, priority, sprint or label change to many issues at once.
+     *
+     * @param request the issues and the changes to apply
+     * @return counts of the changed issues
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkIssueUpdateResultDto> bulkUpdateIssues(
+            @Valid @RequestBody BulkIssueUpdateRequest request) {
+        
+        User currentUser = getCurrentUser();
+        BulkIssueUpdateResultDto result = issueService.bulkUpdateIssues(request, currentUser);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Deletes an issue and all associated data.
      *
@@ -161,6 +248,31 @@ public class IssueController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * Retrieves audit history for a specific issue with keyset pagination, oldest first.
+     *
+     * @param id issue ID
+     * @param cursor opaque cursor returned as nextCursor by the previous page
+     * @param limit page size (default 20, at most 100)
+     * @param includeTotal whether to include the total number of entries
+     * @return cursor page of audit log DTOs
+     */
+    @GetMapping("/{id}/history/cursor")
+    public ResponseEntity<CursorPage<AuditLogDto>> getIssueHistoryPage(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal) {
+        
+        User currentUser = getCurrentUser();
+        
+        // First verify the user owns the issue
+        issueService.getIssue(id, currentUser);
+        
+        CursorPage<AuditLogDto> history = auditService.getIssueHistoryPage(id, currentUser, cursor, limit, includeTotal);
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * Gets issue statistics for the current user.
      *
@@ -269,6 +381,11 @@ public class IssueController {
             throw new RuntimeException("User not authenticated");
         }
 
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
@@ -4,6 +4,7 @@ import com.issuetracker.dto.CreateLabelRequest;
 import com.issuetracker.dto.LabelDto;
 import com.issuetracker.dto.UpdateLabelRequest;
 import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
 import com.issuetracker.service.LabelService;
 import com.issuetracker.service.UserService;
 import jakarta.validation.Valid;
@@ -197,6 +198,11 @@ public class LabelController {
             throw new RuntimeException("User not authenticated");
         }
 
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
@@ -4,6 +4,7 @@ import com.issuetracker.dto.CreateProjectRequest;
 import com.issuetracker.dto.ProjectDto;
 import com.issuetracker.dto.UpdateProjectRequest;
 import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
 import com.issuetracker.service.ProjectService;
 import com.issuetracker.service.UserService;
 import jakarta.validation.Valid;
@@ -179,6 +180,11 @@ public class ProjectController {
             throw new RuntimeException("User not authenticated");
         }
 
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
@@ -0,0 +1,95 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.AuditLogDto;
+import com.issuetracker.dto.IssueSearchResultDto;
+import com.issuetracker.entity.User;
+import com.issuetracker.service.AuditService;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.IssueSearchService;
+import com.issuetracker.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for full-text search.
+ * Searches issues (title, description and comments) and the audit trail, best matches first.
+ */
+@RestController
+@RequestMapping("/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    private final IssueSearchService issueSearchService;
+    private final AuditService auditService;
+    private final UserService userService;
+
+    @Autowired
+    public SearchController(IssueSearchService issueSearchService, AuditService auditService, UserService userService) {
+        this.issueSearchService = issueSearchService;
+        this.auditService = auditService;
+        this.userService = userService;
+    }
+
+    /**
+     * Searches the authenticated user's issues by title, description and comment content.
+     * Supports web-style queries: quoted phrases, OR and -exclusions.
+     *
+     * @param q the search query
+     * @param pageable pagination parameters
+     * @return page of ranked search results with highlighted fragments
+     */
+    @GetMapping("/issues")
+    public ResponseEntity<Page<IssueSearchResultDto>> searchIssues(
+            @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        User currentUser = getCurrentUser();
+        Page<IssueSearchResultDto> results = issueSearchService.searchIssues(currentUser, q, pageable);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Searches the authenticated user's audit trail by details.
+     *
+     * @param q the search query
+     * @param pageable pagination parameters
+     * @return page of matching audit log DTOs
+     */
+    @GetMapping("/audit")
+    public ResponseEntity<Page<AuditLogDto>> searchAuditLogs(
+            @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        User currentUser = getCurrentUser();
+        Page<AuditLogDto> results = auditService.searchAuditLogs(currentUser, q.trim(), pageable);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Gets the current authenticated user.
+     *
+     * @return current user
+     * @throws RuntimeException if user is not authenticated or not found
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
+        String email = authentication.getName();
+        return userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found: " + email));
+    }
+}
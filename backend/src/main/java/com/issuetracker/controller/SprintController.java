@@ -10,6 +10,8 @@ import com.issuetracker.dto.IssueDto;
 import com.issuetracker.entity.SprintStatus;
 import com.issuetracker.entity.User;
 import com.issuetracker.entity.Issue;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.CacheGenerationService;
 import com.issuetracker.service.SprintService;
 import com.issuetracker.service.UserService;
 import com.issuetracker.service.IssueService;
@@ -18,17 +20,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for sprint management operations.
@@ -44,12 +47,15 @@ public class SprintController {
     private final SprintService sprintService;
     private final UserService userService;
     private final IssueService issueService;
+    private final CacheGenerationService cacheGenerationService;
 
     @Autowired
-    public SprintController(SprintService sprintService, UserService userService, IssueService issueService) {
+    public SprintController(SprintService sprintService, UserService userService, IssueService issueService,
+                            CacheGenerationService cacheGenerationService) {
         this.sprintService = sprintService;
         this.userService = userService;
         this.issueService = issueService;
+        this.cacheGenerationService = cacheGenerationService;
     }
 
     /**
@@ -283,9 +289,7 @@ public class SprintController {
         List<Issue> updatedIssues = sprintService.addIssuesToSprint(id, request.getIssueIds(), currentUser);
         
         // Convert to DTOs using IssueService
-        List<IssueDto> issueDtos = updatedIssues.stream()
-                .map(issue -> issueService.convertIssueToDto(issue))
-                .collect(Collectors.toList());
+        List<IssueDto> issueDtos = issueService.convertIssuesToDtos(updatedIssues);
         
         logger.info("✅ Successfully added {} issues to sprint {}", issueDtos.size(), id);
         return ResponseEntity.ok(issueDtos);
@@ -295,32 +299,35 @@ public class SprintController {
      * Gets all issues that were part of a completed sprint.
      * This includes both completed issues (still in sprint) and incomplete issues 
      * (moved to backlog but marked with lastCompletedSprint).
+     * Answers 304 Not Modified without loading anything when the client's ETag is current.
      *
      * @param id completed sprint ID
+     * @param webRequest the request, checked against the sprint's version
      * @return list of issue DTOs that were part of the sprint
      */
     @GetMapping("/{id}/issues")
-    public ResponseEntity<List<IssueDto>> getCompletedSprintIssues(@PathVariable Long id) {
+    public ResponseEntity<List<IssueDto>> getCompletedSprintIssues(@PathVariable Long id, WebRequest webRequest) {
         logger.info("🔍 Getting issues for sprint {} - endpoint called", id);
         
         User currentUser = getCurrentUser();
+        if (cacheGenerationService.versionsUsable()
+                && webRequest.checkNotModified(cacheGenerationService.sprintVersion(id, currentUser))) {
+            return null;
+        }
         logger.info("🔍 Current user: {}", currentUser.getEmail());
         
         List<Issue> issues = sprintService.getCompletedSprintIssues(id, currentUser);
         logger.info("🔍 Found {} issues for sprint {}", issues.size(), id);
         
         // Convert to DTOs using IssueService
-        List<IssueDto> issueDtos = issues.stream()
-                .map(issue -> {
-                    IssueDto dto = issueService.convertIssueToDto(issue);
-                    logger.info("🔍 Issue DTO: id={}, title={}, status={}, sprintId={}, lastCompletedSprintId={}", 
-                               dto.getId(), dto.getTitle(), dto.getStatus(), dto.getSprintId(), dto.getLastCompletedSprintId());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        List<IssueDto> issueDtos = issueService.convertIssuesToDtos(issues);
+        for (IssueDto dto : issueDtos) {
+            logger.info("🔍 Issue DTO: id={}, title={}, status={}, sprintId={}, lastCompletedSprintId={}", 
+                       dto.getId(), dto.getTitle(), dto.getStatus(), dto.getSprintId(), dto.getLastCompletedSprintId());
+        }
         
         logger.info("🔍 Returning {} issue DTOs", issueDtos.size());
-        return ResponseEntity.ok(issueDtos);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(issueDtos);
     }
 
     /**
@@ -335,6 +342,11 @@ public class SprintController {
             throw new RuntimeException("User not authenticated");
         }
 
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
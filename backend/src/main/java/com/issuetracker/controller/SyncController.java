@@ -0,0 +1,72 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.SyncChangesDto;
+import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.SyncService;
+import com.issuetracker.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the delta sync feed.
+ * Lets clients keep a local copy of their issues, comments and sprints up to date
+ * without reloading whole lists.
+ */
+@RestController
+@RequestMapping("/sync")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SyncController {
+
+    private final SyncService syncService;
+    private final UserService userService;
+
+    @Autowired
+    public SyncController(SyncService syncService, UserService userService) {
+        this.syncService = syncService;
+        this.userService = userService;
+    }
+
+    /**
+     * Retrieves the issues, comments and sprints created, updated or deleted since a cursor.
+     * Without a cursor, all live entries are returned; follow nextCursor while hasMore is true.
+     *
+     * @param cursor opaque cursor returned as nextCursor by the previous request
+     * @param limit maximum number of entries per kind of change (default 20, at most 100)
+     * @return the changes and the cursor to continue from
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesDto> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        
+        User currentUser = getCurrentUser();
+        SyncChangesDto changes = syncService.getChanges(currentUser, cursor, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Gets the current authenticated user.
+     *
+     * @return current user
+     * @throws RuntimeException if user is not authenticated or not found
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        // Token principals carry the user, so no lookup is needed
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUserReference();
+        }
+
+        String email = authentication.getName();
+        return userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found: " + email));
+    }
+}
@@ -0,0 +1,124 @@
+package com.issuetracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.issuetracker.entity.IssueStatus;
+import com.issuetracker.entity.Priority;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for applying the same change to many issues at once.
+ * Only the fields that are set are changed; at least one change is required.
+ */
+public class BulkIssueUpdateRequest {
+
+    @NotNull(message = "Issue IDs cannot be null")
+    @NotEmpty(message = "At least one issue ID must be provided")
+    @Size(max = 1000, message = "At most 1000 issues can be updated at once")
+    private List<Long> issueIds;
+
+    private IssueStatus status;
+
+    private Priority priority;
+
+    private Long sprintId;
+
+    private boolean removeFromSprint;
+
+    private List<Long> addLabelIds;
+
+    private List<Long> removeLabelIds;
+
+    public BulkIssueUpdateRequest() {}
+
+    public BulkIssueUpdateRequest(List<Long> issueIds) {
+        this.issueIds = issueIds;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one change must be provided")
+    public boolean isAnyChangeRequested() {
+        return status != null || priority != null || sprintId != null || removeFromSprint
+                || (addLabelIds != null && !addLabelIds.isEmpty())
+                || (removeLabelIds != null && !removeLabelIds.isEmpty());
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Cannot both move issues to a sprint and remove them from their sprint")
+    public boolean isSprintChangeConsistent() {
+        return sprintId == null || !removeFromSprint;
+    }
+
+    public List<Long> getIssueIds() {
+        return issueIds;
+    }
+
+    public void setIssueIds(List<Long> issueIds) {
+        this.issueIds = issueIds;
+    }
+
+    public IssueStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IssueStatus status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public boolean isRemoveFromSprint() {
+        return removeFromSprint;
+    }
+
+    public void setRemoveFromSprint(boolean removeFromSprint) {
+        this.removeFromSprint = removeFromSprint;
+    }
+
+    public List<Long> getAddLabelIds() {
+        return addLabelIds;
+    }
+
+    public void setAddLabelIds(List<Long> addLabelIds) {
+        this.addLabelIds = addLabelIds;
+    }
+
+    public List<Long> getRemoveLabelIds() {
+        return removeLabelIds;
+    }
+
+    public void setRemoveLabelIds(List<Long> removeLabelIds) {
+        this.removeLabelIds = removeLabelIds;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkIssueUpdateRequest{" +
+                "issueIds=" + (issueIds != null ? issueIds.size() : 0) +
+                ", status=" + status +
+                ", priority=" + priority +
+                ", sprintId=" + sprintId +
+                ", removeFromSprint=" + removeFromSprint +
+                ", addLabelIds=" + addLabelIds +
+                ", removeLabelIds=" + removeLabelIds +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+package com.issuetracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for a bulk issue update.
+ * Counts the issues whose fields actually changed and the label links added or removed,
+ * and lists the epics whose status changed as a result.
+ */
+public class BulkIssueUpdateResultDto {
+
+    private int matchedCount;
+    private int statusChangedCount;
+    private int priorityChangedCount;
+    private int sprintChangedCount;
+    private int labelsAddedCount;
+    private int labelsRemovedCount;
+    private List<Long> updatedEpicIds = new ArrayList<>();
+
+    public BulkIssueUpdateResultDto() {}
+
+    public int getMatchedCount() {
+        return matchedCount;
+    }
+
+    public void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    public int getStatusChangedCount() {
+        return statusChangedCount;
+    }
+
+    public void setStatusChangedCount(int statusChangedCount) {
+        this.statusChangedCount = statusChangedCount;
+    }
+
+    public int getPriorityChangedCount() {
+        return priorityChangedCount;
+    }
+
+    public void setPriorityChangedCount(int priorityChangedCount) {
+        this.priorityChangedCount = priorityChangedCount;
+    }
+
+    public int getSprintChangedCount() {
+        return sprintChangedCount;
+    }
+
+    public void setSprintChangedCount(int sprintChangedCount) {
+        this.sprintChangedCount = sprintChangedCount;
+    }
+
+    public int getLabelsAddedCount() {
+        return labelsAddedCount;
+    }
+
+    public void setLabelsAddedCount(int labelsAddedCount) {
+        this.labelsAddedCount = labelsAddedCount;
+    }
+
+    public int getLabelsRemovedCount() {
+        return labelsRemovedCount;
+    }
+
+    public void setLabelsRemovedCount(int labelsRemovedCount) {
+        this.labelsRemovedCount = labelsRemovedCount;
+    }
+
+    public List<Long> getUpdatedEpicIds() {
+        return updatedEpicIds;
+    }
+
+    public void setUpdatedEpicIds(List<Long> updatedEpicIds) {
+        this.updatedEpicIds = updatedEpicIds;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkIssueUpdateResultDto{" +
+                "matchedCount=" + matchedCount +
+                ", statusChangedCount=" + statusChangedCount +
+                ", priorityChangedCount=" + priorityChangedCount +
+                ", sprintChangedCount=" + sprintChangedCount +
+                ", labelsAddedCount=" + labelsAddedCount +
+                ", labelsRemovedCount=" + labelsRemovedCount +
+                ", updatedEpicIds=" + updatedEpicIds +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.entity.SyncEntityType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact change event pushed to a user's WebSocket sessions.
+ * Carries only the IDs of what changed; clients fetch the entries they show, or read the
+ * delta sync feed. When a burst was too large to list, {@code resync} is set instead.
+ */
+public class ChangeNotificationDto {
+
+    private Map<SyncEntityType, Set<Long>> changed = new EnumMap<>(SyncEntityType.class);
+    private Map<SyncEntityType, Set<Long>> deleted = new EnumMap<>(SyncEntityType.class);
+    private boolean resync;
+
+    public ChangeNotificationDto() {}
+
+    public ChangeNotificationDto(Map<SyncEntityType, Set<Long>> changed, Map<SyncEntityType, Set<Long>> deleted,
+                                 boolean resync) {
+        this.changed = changed;
+        this.deleted = deleted;
+        this.resync = resync;
+    }
+
+    public Map<SyncEntityType, Set<Long>> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(Map<SyncEntityType, Set<Long>> changed) {
+        this.changed = changed;
+    }
+
+    public Map<SyncEntityType, Set<Long>> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(Map<SyncEntityType, Set<Long>> deleted) {
+        this.deleted = deleted;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+
+    public void setResync(boolean resync) {
+        this.resync = resync;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeNotificationDto{" +
+                "changed=" + changed +
+                ", deleted=" + deleted +
+                ", resync=" + resync +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.issuetracker.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of a keyset-paginated timeline.
+ * The total count is optional since it costs a separate count query.
+ *
+ * @param <T> the item type
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasMore;
+    private final Long totalCount;
+
+    public CursorPage(List<T> items, String nextCursor, boolean hasMore, Long totalCount) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Builds a page from rows fetched with one row of look-ahead (limit + 1).
+     *
+     * @param rows the fetched rows, at most limit + 1
+     * @param limit the page size
+     * @param cursorOf extracts the position of a row
+     * @param totalCount total number of items, or null when not requested
+     * @return the page of rows
+     */
+    public static <E> CursorPage<E> of(List<E> rows, int limit, Function<E, PageCursor> cursorOf, Long totalCount) {
+        boolean hasMore = rows.size() > limit;
+        List<E> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore, totalCount);
+    }
+
+    /**
+     * Converts each item, keeping the cursor and count.
+     *
+     * @param mapper converts one item
+     * @return the converted page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return mapItems(list -> list.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts all items at once, keeping the cursor and count.
+     * Used when items are assembled in batch, e.g. with grouped count queries.
+     *
+     * @param converter converts the item list, preserving order
+     * @return the converted page
+     */
+    public <R> CursorPage<R> mapItems(Function<List<T>, List<R>> converter) {
+        return new CursorPage<>(converter.apply(items), nextCursor, hasMore, totalCount);
+    }
+
+    /**
+     * Clamps a requested page size to the supported range.
+     *
+     * @param limit the requested page size, or null for the default
+     * @return a page size between 1 and {@link #MAX_LIMIT}
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+}
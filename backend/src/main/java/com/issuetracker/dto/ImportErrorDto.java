@@ -0,0 +1,52 @@
+package com.issuetracker.dto;
+
+/**
+ * DTO describing why one row of an import was rejected.
+ */
+public class ImportErrorDto {
+
+    private int row;
+    private String field;
+    private String message;
+
+    public ImportErrorDto() {}
+
+    public ImportErrorDto(int row, String field, String message) {
+        this.row = row;
+        this.field = field;
+        this.message = message;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportErrorDto{" +
+                "row=" + row +
+                ", field='" + field + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.issuetracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for a bulk issue import.
+ * Valid rows are imported; each rejected row is reported with the reasons it was rejected.
+ */
+public class IssueImportResultDto {
+
+    private int processedRows;
+    private int importedCount;
+    private int rejectedCount;
+    private List<ImportErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    public IssueImportResultDto() {}
+
+    public int getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(int importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<ImportErrorDto> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportErrorDto> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Override
+    public String toString() {
+        return "IssueImportResultDto{" +
+                "processedRows=" + processedRows +
+                ", importedCount=" + importedCount +
+                ", rejectedCount=" + rejectedCount +
+                ", errors=" + errors.size() +
+                ", errorsTruncated=" + errorsTruncated +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.issuetracker.dto;
+
+/**
+ * DTO for one issue search hit.
+ * Highlighted fragments are HTML-escaped with matched terms wrapped in {@code <mark>} tags.
+ */
+public class IssueSearchResultDto {
+
+    private IssueDto issue;
+    private double rank;
+    private String highlightedTitle;
+    private String snippet;
+    private Long matchedCommentId;
+
+    public IssueSearchResultDto() {}
+
+    public IssueSearchResultDto(IssueDto issue, double rank, String highlightedTitle, String snippet, Long matchedCommentId) {
+        this.issue = issue;
+        this.rank = rank;
+        this.highlightedTitle = highlightedTitle;
+        this.snippet = snippet;
+        this.matchedCommentId = matchedCommentId;
+    }
+
+    public IssueDto getIssue() {
+        return issue;
+    }
+
+    public void setIssue(IssueDto issue) {
+        this.issue = issue;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public void setRank(double rank) {
+        this.rank = rank;
+    }
+
+    public String getHighlightedTitle() {
+        return highlightedTitle;
+    }
+
+    public void setHighlightedTitle(String highlightedTitle) {
+        this.highlightedTitle = highlightedTitle;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public Long getMatchedCommentId() {
+        return matchedCommentId;
+    }
+
+    public void setMatchedCommentId(Long matchedCommentId) {
+        this.matchedCommentId = matchedCommentId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a timeline ordered by (createdAt, id).
+ * Change feeds use the same position over (updatedAt, id).
+ * Clients only ever see the opaque encoded form returned as {@code nextCursor}.
+ */
+public final class PageCursor {
+
+    /**
+     * Start position for timelines read newest first; sorts after every stored row.
+     */
+    public static final PageCursor NEWEST = new PageCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    /**
+     * Start position for timelines read oldest first; sorts before every stored row.
+     */
+    public static final PageCursor OLDEST = new PageCursor(Instant.EPOCH, 0L);
+
+    private static final String SEPARATOR = "|";
+
+    private final Instant createdAt;
+    private final Long id;
+
+    public PageCursor(Instant createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor the encoded cursor, or null for the first page
+     * @param start the position to use when no cursor is given
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor, PageCursor start) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw InvalidCursorException.malformed();
+            }
+            return new PageCursor(Instant.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw InvalidCursorException.malformed();
+        }
+    }
+
+    /**
+     * Encodes this cursor to the opaque form handed out to clients.
+     *
+     * @return URL-safe encoded cursor
+     */
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
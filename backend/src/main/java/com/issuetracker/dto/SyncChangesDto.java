@@ -0,0 +1,80 @@
+package com.issuetracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for the delta sync feed.
+ * Lists the issues, comments and sprints created or updated since the cursor, and the ones deleted.
+ * Clients upsert the changed entities by ID, then apply the deletions, and pass {@code nextCursor}
+ * on the next request. While {@code hasMore} is true, more changes are available right away.
+ */
+public class SyncChangesDto {
+
+    private List<IssueDto> issues = new ArrayList<>();
+    private List<CommentDto> comments = new ArrayList<>();
+    private List<SprintDto> sprints = new ArrayList<>();
+    private List<SyncTombstoneDto> deleted = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+
+    public SyncChangesDto() {}
+
+    public SyncChangesDto(List<IssueDto> issues, List<CommentDto> comments, List<SprintDto> sprints,
+                          List<SyncTombstoneDto> deleted, String nextCursor, boolean hasMore) {
+        this.issues = issues;
+        this.comments = comments;
+        this.sprints = sprints;
+        this.deleted = deleted;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<IssueDto> getIssues() {
+        return issues;
+    }
+
+    public void setIssues(List<IssueDto> issues) {
+        this.issues = issues;
+    }
+
+    public List<CommentDto> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentDto> comments) {
+        this.comments = comments;
+    }
+
+    public List<SprintDto> getSprints() {
+        return sprints;
+    }
+
+    public void setSprints(List<SprintDto> sprints) {
+        this.sprints = sprints;
+    }
+
+    public List<SyncTombstoneDto> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<SyncTombstoneDto> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
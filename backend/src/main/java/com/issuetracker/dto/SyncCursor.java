@@ -0,0 +1,85 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.exception.InvalidCursorException;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Position in the delta sync feed: one (updatedAt, id) position per change stream.
+ * Issues, comments, sprints and tombstones are read independently, each from its own position.
+ * Clients only ever see the opaque encoded form returned as {@code nextCursor}.
+ */
+public final class SyncCursor {
+
+    private static final String SEPARATOR = ".";
+
+    private final PageCursor issues;
+    private final PageCursor comments;
+    private final PageCursor sprints;
+    private final PageCursor tombstones;
+
+    public SyncCursor(PageCursor issues, PageCursor comments, PageCursor sprints, PageCursor tombstones) {
+        this.issues = issues;
+        this.comments = comments;
+        this.sprints = sprints;
+        this.tombstones = tombstones;
+    }
+
+    /**
+     * Start position for a client without local data: every live row is sent,
+     * but no tombstone older than the first read since there is nothing to delete yet.
+     *
+     * @param until the upper bound of the first read
+     * @return the initial cursor
+     */
+    public static SyncCursor initial(Instant until) {
+        return new SyncCursor(PageCursor.OLDEST, PageCursor.OLDEST, PageCursor.OLDEST, new PageCursor(until, 0L));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor the encoded cursor, or null for the first read
+     * @param start the position to use when no cursor is given
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static SyncCursor decode(String cursor, SyncCursor start) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+        String[] parts = cursor.split("\\" + SEPARATOR, -1);
+        if (parts.length != 4 || Arrays.stream(parts).anyMatch(String::isEmpty)) {
+            throw InvalidCursorException.malformed();
+        }
+        return new SyncCursor(PageCursor.decode(parts[0], null), PageCursor.decode(parts[1], null),
+                PageCursor.decode(parts[2], null), PageCursor.decode(parts[3], null));
+    }
+
+    /**
+     * Encodes this cursor to the opaque form handed out to clients.
+     *
+     * @return URL-safe encoded cursor
+     */
+    public String encode() {
+        return issues.encode() + SEPARATOR + comments.encode() + SEPARATOR + sprints.encode() + SEPARATOR +
+               tombstones.encode();
+    }
+
+    public PageCursor getIssues() {
+        return issues;
+    }
+
+    public PageCursor getComments() {
+        return comments;
+    }
+
+    public PageCursor getSprints() {
+        return sprints;
+    }
+
+    public PageCursor getTombstones() {
+        return tombstones;
+    }
+}
@@ -0,0 +1,56 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.entity.SyncEntityType;
+
+import java.time.Instant;
+
+/**
+ * DTO for a deleted entity in the delta sync feed.
+ */
+public class SyncTombstoneDto {
+
+    private SyncEntityType type;
+    private Long id;
+    private Instant deletedAt;
+
+    public SyncTombstoneDto() {}
+
+    public SyncTombstoneDto(SyncEntityType type, Long id, Instant deletedAt) {
+        this.type = type;
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    public SyncEntityType getType() {
+        return type;
+    }
+
+    public void setType(SyncEntityType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncTombstoneDto{" +
+                "type=" + type +
+                ", id=" + id +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
@@ -17,14 +17,15 @@ import java.util.Objects;
 @Table(name = "audit_logs", indexes = {
     @Index(name = "idx_audit_user", columnList = "user_id"),
     @Index(name = "idx_audit_issue", columnList = "issue_id"),
-    @Index(name = "idx_audit_created", columnList = "issue_id, created_at"),
+    @Index(name = "idx_audit_created", columnList = "issue_id, created_at, id"),
     @Index(name = "idx_audit_action", columnList = "action")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_id_seq")
+    @SequenceGenerator(name = "audit_logs_id_seq", sequenceName = "audit_logs_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
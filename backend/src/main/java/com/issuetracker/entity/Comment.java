@@ -18,13 +18,15 @@ import java.util.Objects;
 @Table(name = "comments", indexes = {
     @Index(name = "idx_comment_user", columnList = "user_id"),
     @Index(name = "idx_comment_issue", columnList = "issue_id"),
-    @Index(name = "idx_comment_created", columnList = "issue_id, created_at")
+    @Index(name = "idx_comment_created", columnList = "issue_id, created_at, id"),
+    @Index(name = "idx_comment_user_updated", columnList = "user_id, updated_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_id_seq")
+    @SequenceGenerator(name = "comments_id_seq", sequenceName = "comments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -24,13 +26,48 @@ import java.util.Objects;
     @Index(name = "idx_issue_status", columnList = "status"),
     @Index(name = "idx_issue_priority", columnList = "priority"),
     @Index(name = "idx_issue_sprint", columnList = "sprint_id"),
-    @Index(name = "idx_issue_type", columnList = "issue_type_id")
+    @Index(name = "idx_issue_type", columnList = "issue_type_id"),
+    @Index(name = "idx_issue_user_created", columnList = "user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_issue_user_updated", columnList = "user_id, updated_at, id")
+})
+@NamedEntityGraphs({
+    // Paged issue lists: labels are batch fetched since a collection join cannot be paged in SQL
+    @NamedEntityGraph(name = Issue.LIST_GRAPH, attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("issueType"),
+        @NamedAttributeNode("sprint"),
+        @NamedAttributeNode("lastCompletedSprint"),
+        @NamedAttributeNode("parentIssue")
+    }),
+    // Unpaged sprint board lists: labels are rendered on every card
+    @NamedEntityGraph(name = Issue.BOARD_GRAPH, attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("issueType"),
+        @NamedAttributeNode("sprint"),
+        @NamedAttributeNode("lastCompletedSprint"),
+        @NamedAttributeNode("parentIssue"),
+        @NamedAttributeNode("labels")
+    }),
+    // Single issue view: everything the issue DTO renders
+    @NamedEntityGraph(name = Issue.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("issueType"),
+        @NamedAttributeNode("sprint"),
+        @NamedAttributeNode("lastCompletedSprint"),
+        @NamedAttributeNode("parentIssue"),
+        @NamedAttributeNode("labels")
+    })
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Issue {
 
+    public static final String LIST_GRAPH = "Issue.list";
+    public static final String BOARD_GRAPH = "Issue.board";
+    public static final String DETAIL_GRAPH = "Issue.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issues_id_seq")
+    @SequenceGenerator(name = "issues_id_seq", sequenceName = "issues_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -87,6 +124,15 @@ public class Issue {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // Child progress of an epic. Maintained in SQL by IssueCounterService, never written by the entity
+    @ColumnDefault("0")
+    @Column(name = "child_total", nullable = false, insertable = false, updatable = false)
+    private int childTotal;
+
+    @ColumnDefault("0")
+    @Column(name = "child_done", nullable = false, insertable = false, updatable = false)
+    private int childDone;
+
     // Relationships
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
@@ -98,6 +144,7 @@ public class Issue {
             @Index(name = "idx_issue_labels_label", columnList = "label_id")
         }
     )
+    @BatchSize(size = 50)
     private List<Label> labels = new ArrayList<>();
 
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -276,6 +323,14 @@ public class Issue {
         this.auditLogs = auditLogs;
     }
 
+    public int getChildTotal() {
+        return childTotal;
+    }
+
+    public int getChildDone() {
+        return childDone;
+    }
+
     // Utility methods for epic hierarchy
     
     /**
@@ -0,0 +1,145 @@
+package com.issuetracker.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.Objects;
+
+/**
+ * IssueCounter entity holding precomputed issue counts per user, project, status and priority.
+ * Rows are adjusted in the same transaction as the issue changes they count, so dashboard
+ * and statistics reads scale with the number of buckets instead of the number of issues.
+ */
+@Entity
+@Table(name = "issue_counters",
+    uniqueConstraints = @UniqueConstraint(name = "uk_issue_counter_bucket",
+        columnNames = {"user_id", "project_id", "status", "priority"}),
+    indexes = {
+        @Index(name = "idx_issue_counter_project", columnList = "project_id")
+    })
+public class IssueCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IssueStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Column(name = "issue_count", nullable = false)
+    private long issueCount;
+
+    // Issues in this bucket without a parent issue
+    @Column(name = "top_level_count", nullable = false)
+    private long topLevelCount;
+
+    // Constructors
+    public IssueCounter() {}
+
+    public IssueCounter(User user, Project project, IssueStatus status, Priority priority,
+                        long issueCount, long topLevelCount) {
+        this.user = user;
+        this.project = project;
+        this.status = status;
+        this.priority = priority;
+        this.issueCount = issueCount;
+        this.topLevelCount = topLevelCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public IssueStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IssueStatus status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public long getIssueCount() {
+        return issueCount;
+    }
+
+    public void setIssueCount(long issueCount) {
+        this.issueCount = issueCount;
+    }
+
+    public long getTopLevelCount() {
+        return topLevelCount;
+    }
+
+    public void setTopLevelCount(long topLevelCount) {
+        this.topLevelCount = topLevelCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IssueCounter that = (IssueCounter) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "IssueCounter{" +
+                "id=" + id +
+                ", status=" + status +
+                ", priority=" + priority +
+                ", issueCount=" + issueCount +
+                ", topLevelCount=" + topLevelCount +
+                '}';
+    }
+}
@@ -0,0 +1,111 @@
+package com.issuetracker.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Staging row for the bulk issue import.
+ * Validated, fully resolved rows are loaded here in bulk (COPY on PostgreSQL) and moved into
+ * issues with one INSERT ... SELECT per batch, then deleted. The id is the id the issue will get.
+ * Rows are only written with SQL; the mapping keeps the table in Hibernate-generated schemas.
+ */
+@Entity
+@Table(name = "issue_import_staging", indexes = {
+    @Index(name = "idx_issue_import_staging_import", columnList = "import_id, line_number")
+})
+public class IssueImportStaging {
+
+    @Id
+    private Long id;
+
+    @Column(name = "import_id", nullable = false, length = 36)
+    private String importId;
+
+    @Column(name = "line_number", nullable = false)
+    private Integer lineNumber;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "issue_type_id", nullable = false)
+    private Long issueTypeId;
+
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "parent_issue_id")
+    private Long parentIssueId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private IssueStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Priority priority;
+
+    @Column(name = "story_points")
+    private Integer storyPoints;
+
+    protected IssueImportStaging() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public Integer getLineNumber() {
+        return lineNumber;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getIssueTypeId() {
+        return issueTypeId;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public Long getParentIssueId() {
+        return parentIssueId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public IssueStatus getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public Integer getStoryPoints() {
+        return storyPoints;
+    }
+}
@@ -22,7 +22,8 @@ import java.util.Objects;
 @Table(name = "sprints", indexes = {
     @Index(name = "idx_sprint_user", columnList = "user_id"),
     @Index(name = "idx_sprint_status", columnList = "user_id, status"),
-    @Index(name = "idx_sprint_dates", columnList = "start_date, end_date")
+    @Index(name = "idx_sprint_dates", columnList = "start_date, end_date"),
+    @Index(name = "idx_sprint_user_updated", columnList = "user_id, updated_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Sprint {
@@ -54,6 +55,19 @@ public class Sprint {
     @Column(nullable = false)
     private SprintStatus status = SprintStatus.PLANNED;
 
+    // Totals frozen when the sprint is completed; null until then
+    @Column(name = "snapshot_issue_count")
+    private Integer snapshotIssueCount;
+
+    @Column(name = "snapshot_done_issue_count")
+    private Integer snapshotDoneIssueCount;
+
+    @Column(name = "snapshot_story_points")
+    private Integer snapshotStoryPoints;
+
+    @Column(name = "snapshot_done_story_points")
+    private Integer snapshotDoneStoryPoints;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -141,6 +155,38 @@ public class Sprint {
         this.goal = goal;
     }
 
+    public Integer getSnapshotIssueCount() {
+        return snapshotIssueCount;
+    }
+
+    public void setSnapshotIssueCount(Integer snapshotIssueCount) {
+        this.snapshotIssueCount = snapshotIssueCount;
+    }
+
+    public Integer getSnapshotDoneIssueCount() {
+        return snapshotDoneIssueCount;
+    }
+
+    public void setSnapshotDoneIssueCount(Integer snapshotDoneIssueCount) {
+        this.snapshotDoneIssueCount = snapshotDoneIssueCount;
+    }
+
+    public Integer getSnapshotStoryPoints() {
+        return snapshotStoryPoints;
+    }
+
+    public void setSnapshotStoryPoints(Integer snapshotStoryPoints) {
+        this.snapshotStoryPoints = snapshotStoryPoints;
+    }
+
+    public Integer getSnapshotDoneStoryPoints() {
+        return snapshotDoneStoryPoints;
+    }
+
+    public void setSnapshotDoneStoryPoints(Integer snapshotDoneStoryPoints) {
+        this.snapshotDoneStoryPoints = snapshotDoneStoryPoints;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,10 @@
+package com.issuetracker.entity;
+
+/**
+ * Kinds of entities served by the delta sync feed.
+ */
+public enum SyncEntityType {
+    ISSUE,
+    COMMENT,
+    SPRINT
+}
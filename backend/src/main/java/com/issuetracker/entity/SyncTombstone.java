@@ -0,0 +1,68 @@
+package com.issuetracker.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Record of a deleted issue, comment or sprint for the delta sync feed.
+ * Rows are only written with SQL, in the deleting transaction and before the delete,
+ * so child rows removed by cascades are recorded too. The mapping is used for reads
+ * and keeps the table in Hibernate-generated schemas.
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstone_user_deleted", columnList = "user_id, deleted_at, id"),
+    @Index(name = "idx_sync_tombstone_deleted", columnList = "deleted_at")
+})
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    protected SyncTombstone() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncTombstone{" +
+                "id=" + id +
+                ", entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.issuetracker.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded,
+ * or points further back than the data it would read is kept.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    private final boolean expired;
+
+    public InvalidCursorException(String message) {
+        this(message, false);
+    }
+
+    private InvalidCursorException(String message, boolean expired) {
+        super(message);
+        this.expired = expired;
+    }
+
+    public static InvalidCursorException malformed() {
+        return new InvalidCursorException("Invalid pagination cursor");
+    }
+
+    public static InvalidCursorException expired() {
+        return new InvalidCursorException("Sync cursor has expired, a full resync is required", true);
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+}
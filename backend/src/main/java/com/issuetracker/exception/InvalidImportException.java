@@ -0,0 +1,28 @@
+package com.issuetracker.exception;
+
+/**
+ * Exception thrown when an import file cannot be read as a whole,
+ * as opposed to individual rows failing validation.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static InvalidImportException malformed(int record, Throwable cause) {
+        return new InvalidImportException("Malformed import file at record " + record, cause);
+    }
+
+    public static InvalidImportException missingColumn(String column) {
+        return new InvalidImportException("Import file is missing required column: " + column);
+    }
+
+    public static InvalidImportException tooManyRows(int maxRows) {
+        return new InvalidImportException("Import file exceeds the limit of " + maxRows + " rows");
+    }
+}
@@ -3,15 +3,21 @@ package com.issuetracker.repository;
 import com.issuetracker.entity.AuditLog;
 import com.issuetracker.entity.Issue;
 import com.issuetracker.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for AuditLog entity operations.
@@ -124,6 +130,22 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
                                                             @Param("searchTerm") String searchTerm, 
                                                             Pageable pageable);
 
+    /**
+     * Full-text search over audit details, best matches first (PostgreSQL only).
+     *
+     * @param userId the user ID
+     * @param query web-style search query
+     * @param pageable unsorted pagination information
+     * @return page of matching audit logs
+     */
+    @Query(value = "SELECT a.* FROM audit_logs a " +
+           "WHERE a.user_id = :userId AND a.search_vector @@ websearch_to_tsquery('english', :query) " +
+           "ORDER BY ts_rank_cd(a.search_vector, websearch_to_tsquery('english', :query)) DESC, a.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM audit_logs a " +
+           "WHERE a.user_id = :userId AND a.search_vector @@ websearch_to_tsquery('english', :query)",
+           nativeQuery = true)
+    Page<AuditLog> searchFullText(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
+
     /**
      * Finds audit logs for issues owned by a user (for accessing audit logs on user's issues).
      *
@@ -146,4 +168,93 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
            "ORDER BY a.createdAt ASC")
     List<AuditLog> findByIssueIdAndIssueUserOrderByCreatedAtAsc(@Param("issueId") Long issueId, 
                                                                 @Param("user") User user);
-}
\ No newline at end of file
+
+    /**
+     * Finds the next slice of audit logs for an issue owned by a user after a keyset position,
+     * oldest first.
+     *
+     * @param issueId the issue ID
+     * @param user the issue owner
+     * @param createdAt creation time of the last entry already returned
+     * @param id ID of the last entry already returned
+     * @param limit page request carrying the number of rows to fetch
+     * @return audit logs strictly after the given position, with their user and issue
+     */
+    @Query("SELECT a FROM AuditLog a JOIN FETCH a.user JOIN FETCH a.issue i " +
+           "WHERE i.id = :issueId AND i.user = :user " +
+           "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) " +
+           "ORDER BY a.createdAt ASC, a.id ASC")
+    List<AuditLog> findKeysetPageByIssueIdAndIssueUser(@Param("issueId") Long issueId,
+                                                       @Param("user") User user,
+                                                       @Param("createdAt") Instant createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable limit);
+
+    /**
+     * Counts audit logs for an issue owned by a user.
+     *
+     * @param issueId the issue ID
+     * @param user the issue owner
+     * @return audit log count
+     */
+    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.issue.id = :issueId AND a.issue.user = :user")
+    long countByIssueIdAndIssueUser(@Param("issueId") Long issueId, @Param("user") User user);
+
+    /**
+     * Writes the same audit entry for each of the given issues with a single INSERT ... SELECT.
+     * Native, since Hibernate cannot bind parameters in the select list of an INSERT ... SELECT
+     * for entities with pooled ids; each row takes its id straight from the sequence, which
+     * cannot collide with the blocks Hibernate allocates.
+     *
+     * @param issueIds the affected issue IDs
+     * @param userId the ID of the user who made the change
+     * @param action the action performed
+     * @param details the details of the change
+     * @param createdAt the time of the change
+     * @return number of audit logs written
+     */
+    @Modifying
+    @Query(value = "INSERT INTO audit_logs (id, user_id, issue_id, action, details, created_at) " +
+           "SELECT nextval('audit_logs_id_seq'), :userId, i.id, :action, :details, :createdAt " +
+           "FROM issues i WHERE i.id IN (:issueIds)",
+           nativeQuery = true)
+    int insertForIssues(@Param("issueIds") Collection<Long> issueIds,
+                        @Param("userId") Long userId,
+                        @Param("action") String action,
+                        @Param("details") String details,
+                        @Param("createdAt") Instant createdAt);
+
+    /**
+     * Writes an ISSUE_CREATED entry, with the same details as a single create, for each of the given issues.
+     * Native for the same reason as {@link #insertForIssues}.
+     *
+     * @param issueIds the created issue IDs
+     * @param userId the ID of the user who created the issues
+     * @param createdAt the time of the creation
+     * @return number of audit logs written
+     */
+    @Modifying
+    @Query(value = "INSERT INTO audit_logs (id, user_id, issue_id, action, details, created_at) " +
+           "SELECT nextval('audit_logs_id_seq'), :userId, i.id, 'ISSUE_CREATED', " +
+           "CONCAT('Issue created with title: ', i.title, ', priority: ', i.priority, ', status: ', i.status), " +
+           ":createdAt FROM issues i WHERE i.id IN (:issueIds)",
+           nativeQuery = true)
+    int insertIssueCreatedForIssues(@Param("issueIds") Collection<Long> issueIds,
+                                    @Param("userId") Long userId,
+                                    @Param("createdAt") Instant createdAt);
+
+    /**
+     * Streams the audit trail recorded for a user for export with a forward-only cursor, oldest first.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param userId the ID of the user who made the changes
+     * @return rows of [id, created at, action, details, issue id, issue title]
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id, a.createdAt, a.action, a.details, i.id, i.title " +
+           "FROM AuditLog a JOIN a.issue i WHERE a.user.id = :userId ORDER BY a.createdAt, a.id")
+    Stream<Object[]> streamExportRows(@Param("userId") Long userId);
+}
@@ -2,6 +2,7 @@ package com.issuetracker.repository;
 
 import com.issuetracker.entity.Comment;
 import com.issuetracker.entity.Issue;
+import com.issuetracker.entity.Project;
 import com.issuetracker.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,6 +75,32 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     long countByIssue(Issue issue);
 
+    /**
+     * Finds the next slice of comments on an issue after a keyset position, oldest first.
+     *
+     * @param issue the issue
+     * @param createdAt creation time of the last comment already returned
+     * @param id ID of the last comment already returned
+     * @param limit page request carrying the number of rows to fetch
+     * @return comments strictly after the given position, with their authors
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.issue = :issue " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findKeysetPageByIssue(@Param("issue") Issue issue,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("id") Long id,
+                                        Pageable limit);
+
+    /**
+     * Counts comments for several issues in one grouped query.
+     *
+     * @param issueIds the issue IDs
+     * @return rows of [issue ID, comment count]; issues without comments are omitted
+     */
+    @Query("SELECT c.issue.id, COUNT(c) FROM Comment c WHERE c.issue.id IN :issueIds GROUP BY c.issue.id")
+    List<Object[]> countByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+
     /**
      * Counts total comments by a user.
      *
@@ -105,6 +133,22 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
                                                            @Param("searchTerm") String searchTerm, 
                                                            Pageable pageable);
 
+    /**
+     * Full-text search over comment content, best matches first (PostgreSQL only).
+     *
+     * @param userId the comment author ID
+     * @param query web-style search query
+     * @param pageable unsorted pagination information
+     * @return page of matching comments
+     */
+    @Query(value = "SELECT c.* FROM comments c " +
+           "WHERE c.user_id = :userId AND c.search_vector @@ websearch_to_tsquery('english', :query) " +
+           "ORDER BY ts_rank_cd(c.search_vector, websearch_to_tsquery('english', :query)) DESC, c.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM comments c " +
+           "WHERE c.user_id = :userId AND c.search_vector @@ websearch_to_tsquery('english', :query)",
+           nativeQuery = true)
+    Page<Comment> searchFullText(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
+
     /**
      * Finds comments for issues owned by a user (for accessing comments on user's issues).
      *
@@ -116,6 +160,36 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            "ORDER BY c.createdAt DESC")
     Page<Comment> findCommentsOnUserIssues(@Param("user") User user, Pageable pageable);
 
+    /**
+     * Finds the next slice of a user's comments changed after a keyset position, in change order.
+     * Used by the delta sync feed.
+     *
+     * @param user the comment author
+     * @param updatedAt modification time of the last comment already returned
+     * @param id ID of the last comment already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit page request carrying the number of rows to fetch
+     * @return comments strictly after the given position and before the bound, with their issues and authors
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.issue JOIN FETCH c.user WHERE c.user = :user " +
+           "AND (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.id > :id)) " +
+           "AND c.updatedAt < :until " +
+           "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<Comment> findChangedSince(@Param("user") User user,
+                                   @Param("updatedAt") Instant updatedAt,
+                                   @Param("id") Long id,
+                                   @Param("until") Instant until,
+                                   Pageable limit);
+
+    /**
+     * Finds the IDs of all comments on the issues of a project.
+     *
+     * @param project the project
+     * @return comment IDs in ascending order
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.issue.project = :project ORDER BY c.id")
+    List<Long> findIdsByIssueProject(@Param("project") Project project);
+
     /**
      * Deletes a comment by ID and user for data isolation.
      *
@@ -0,0 +1,189 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.entity.IssueCounter;
+import com.issuetracker.entity.IssueStatus;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for IssueCounter entity operations.
+ * Provides atomic counter adjustments and bucket-level aggregate reads.
+ */
+@Repository
+public interface IssueCounterRepository extends JpaRepository<IssueCounter, Long> {
+
+    /**
+     * Atomically adds deltas to an existing counter bucket.
+     *
+     * @param userId the issue owner ID
+     * @param projectId the project ID
+     * @param status issue status of the bucket
+     * @param priority issue priority of the bucket
+     * @param issueDelta change in issue count
+     * @param topLevelDelta change in count of issues without a parent
+     * @return number of updated rows, 0 if the bucket does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE IssueCounter c SET c.issueCount = c.issueCount + :issueDelta, " +
+           "c.topLevelCount = c.topLevelCount + :topLevelDelta " +
+           "WHERE c.user.id = :userId AND c.project.id = :projectId " +
+           "AND c.status = :status AND c.priority = :priority")
+    int adjust(@Param("userId") Long userId,
+               @Param("projectId") Long projectId,
+               @Param("status") IssueStatus status,
+               @Param("priority") Priority priority,
+               @Param("issueDelta") long issueDelta,
+               @Param("topLevelDelta") long topLevelDelta);
+
+    /**
+     * Adds deltas to a counter bucket, creating it if it does not exist yet, in one statement
+     * so that concurrent first writes to a bucket do not collide on uk_issue_counter_bucket.
+     * PostgreSQL form.
+     *
+     * @param userId the issue owner ID
+     * @param projectId the project ID
+     * @param status issue status of the bucket
+     * @param priority issue priority of the bucket
+     * @param issueDelta change in issue count
+     * @param topLevelDelta change in count of issues without a parent
+     * @return number of inserted or updated rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO issue_counters (user_id, project_id, status, priority, issue_count, top_level_count) " +
+           "VALUES (:userId, :projectId, :status, :priority, :issueDelta, :topLevelDelta) " +
+           "ON CONFLICT (user_id, project_id, status, priority) DO UPDATE SET " +
+           "issue_count = issue_counters.issue_count + EXCLUDED.issue_count, " +
+           "top_level_count = issue_counters.top_level_count + EXCLUDED.top_level_count",
+           nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("projectId") Long projectId,
+               @Param("status") String status,
+               @Param("priority") String priority,
+               @Param("issueDelta") long issueDelta,
+               @Param("topLevelDelta") long topLevelDelta);
+
+    /**
+     * Same as {@link #upsert} for databases without ON CONFLICT, such as H2 in tests.
+     */
+    @Modifying
+    @Query(value = "MERGE INTO issue_counters c " +
+           "USING (VALUES (CAST(:userId AS BIGINT), CAST(:projectId AS BIGINT), CAST(:status AS VARCHAR), " +
+           "CAST(:priority AS VARCHAR), CAST(:issueDelta AS BIGINT), CAST(:topLevelDelta AS BIGINT))) " +
+           "AS d (user_id, project_id, status, priority, issue_delta, top_level_delta) " +
+           "ON c.user_id = d.user_id AND c.project_id = d.project_id " +
+           "AND c.status = d.status AND c.priority = d.priority " +
+           "WHEN MATCHED THEN UPDATE SET issue_count = c.issue_count + d.issue_delta, " +
+           "top_level_count = c.top_level_count + d.top_level_delta " +
+           "WHEN NOT MATCHED THEN INSERT (user_id, project_id, status, priority, issue_count, top_level_count) " +
+           "VALUES (d.user_id, d.project_id, d.status, d.priority, d.issue_delta, d.top_level_delta)",
+           nativeQuery = true)
+    int merge(@Param("userId") Long userId,
+              @Param("projectId") Long projectId,
+              @Param("status") String status,
+              @Param("priority") String priority,
+              @Param("issueDelta") long issueDelta,
+              @Param("topLevelDelta") long topLevelDelta);
+
+    /**
+     * Takes a shared lock on the issue owner's user row, held by counter writers until the end
+     * of the transaction so that reconciliation cannot run between their issue and counter writes.
+     * Key share locks do not conflict with each other nor with ordinary user updates.
+     *
+     * @param userId the issue owner ID
+     * @return the locked user ID
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR KEY SHARE", nativeQuery = true)
+    Long lockUserForKeyShare(@Param("userId") Long userId);
+
+    /**
+     * Locks the issue owner's user row until the end of the transaction. Reconciliation takes it
+     * to wait out and exclude every counter writer of the user; on databases without shared row
+     * locks writers take it as well.
+     *
+     * @param userId the issue owner ID
+     * @return the locked user ID
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Long lockUser(@Param("userId") Long userId);
+
+    /**
+     * Reads a user's counter buckets as plain values straight from the table,
+     * so that deltas applied earlier in the same transaction are visible.
+     *
+     * @param user the issue owner
+     * @return rows of [counter id, project id, status, priority, issue count, parentless issue count]
+     */
+    @Query("SELECT c.id, c.project.id, c.status, c.priority, c.issueCount, c.topLevelCount " +
+           "FROM IssueCounter c WHERE c.user = :user")
+    List<Object[]> findBucketsByUser(@Param("user") User user);
+
+    /**
+     * Overwrites the counts of a counter bucket.
+     *
+     * @param id the counter ID
+     * @param issueCount the issue count
+     * @param topLevelCount the count of issues without a parent
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE IssueCounter c SET c.issueCount = :issueCount, c.topLevelCount = :topLevelCount " +
+           "WHERE c.id = :id")
+    int setCounts(@Param("id") Long id,
+                  @Param("issueCount") long issueCount,
+                  @Param("topLevelCount") long topLevelCount);
+
+    /**
+     * Deletes a counter bucket.
+     *
+     * @param id the counter ID
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM IssueCounter c WHERE c.id = :id")
+    int deleteBucket(@Param("id") Long id);
+
+    /**
+     * Sums a user's counters by status and priority across projects.
+     *
+     * @param user the issue owner
+     * @return rows of [status, priority, issue count, parentless issue count]
+     */
+    @Query("SELECT c.status, c.priority, SUM(c.issueCount), SUM(c.topLevelCount) " +
+           "FROM IssueCounter c WHERE c.user = :user " +
+           "GROUP BY c.status, c.priority")
+    List<Object[]> sumByStatusAndPriority(@Param("user") User user);
+
+    /**
+     * Sums a user's counters per project, including projects without issues.
+     * Rows are ordered by project creation date, newest first, and have the same
+     * shape as IssueRepository.countIssuesPerProject.
+     *
+     * @param user the project and issue owner
+     * @return rows of [project id, project name, issue count]
+     */
+    @Query("SELECT p.id, p.name, COALESCE(SUM(c.issueCount), 0) FROM Project p " +
+           "LEFT JOIN IssueCounter c ON c.project = p AND c.user = :user " +
+           "WHERE p.user = :user " +
+           "GROUP BY p.id, p.name, p.createdAt " +
+           "ORDER BY p.createdAt DESC")
+    List<Object[]> sumIssuesPerProject(@Param("user") User user);
+
+    /**
+     * Sums a user's counters by status and priority for one project.
+     *
+     * @param user the issue owner
+     * @param projectId the project ID
+     * @return rows of [status, priority, issue count]
+     */
+    @Query("SELECT c.status, c.priority, SUM(c.issueCount) FROM IssueCounter c " +
+           "WHERE c.user = :user AND c.project.id = :projectId " +
+           "GROUP BY c.status, c.priority")
+    List<Object[]> sumByStatusAndPriorityForProject(@Param("user") User user, @Param("projectId") Long projectId);
+}
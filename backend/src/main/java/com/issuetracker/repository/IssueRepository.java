@@ -6,15 +6,23 @@ import com.issuetracker.entity.Priority;
 import com.issuetracker.entity.Project;
 import com.issuetracker.entity.Sprint;
 import com.issuetracker.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Issue entity operations.
@@ -30,6 +38,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
     /**
@@ -41,6 +50,16 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      */
     Optional<Issue> findByIdAndUser(Long id, User user);
 
+    /**
+     * Finds an issue by ID and user with everything the issue detail view renders.
+     *
+     * @param id issue ID
+     * @param user issue owner
+     * @return optional issue with its detail associations loaded
+     */
+    @EntityGraph(Issue.DETAIL_GRAPH)
+    Optional<Issue> findDetailByIdAndUser(Long id, User user);
+
     /**
      * Finds issues by project and user.
      *
@@ -49,6 +68,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByProjectAndUserOrderByCreatedAtDesc(Project project, User user, Pageable pageable);
 
     /**
@@ -59,6 +79,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findBySprintAndUserOrderByCreatedAtDesc(Sprint sprint, User user, Pageable pageable);
 
     /**
@@ -69,6 +90,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByStatusAndUserOrderByCreatedAtDesc(IssueStatus status, User user, Pageable pageable);
 
     /**
@@ -79,6 +101,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByPriorityAndUserOrderByCreatedAtDesc(Priority priority, User user, Pageable pageable);
 
     /**
@@ -88,6 +111,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of backlog issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByUserAndSprintIsNullOrderByCreatedAtDesc(User user, Pageable pageable);
 
     /**
@@ -153,6 +177,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of matching issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     @Query("SELECT i FROM Issue i WHERE i.user = :user AND " +
            "LOWER(i.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
            "ORDER BY i.createdAt DESC")
@@ -160,6 +185,82 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
                                                        @Param("searchTerm") String searchTerm, 
                                                        Pageable pageable);
 
+    /**
+     * Finds issues matching a search term in title, description or comment content (LIKE fallback).
+     * Used on databases without the full-text search columns.
+     *
+     * @param user the issue owner
+     * @param searchTerm search term
+     * @param pageable pagination information
+     * @return page of matching issues, newest first
+     */
+    @EntityGraph(Issue.LIST_GRAPH)
+    @Query("SELECT i FROM Issue i WHERE i.user = :user AND (" +
+           "LOWER(i.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(i.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "EXISTS (SELECT c.id FROM Comment c WHERE c.issue = i AND " +
+           "LOWER(c.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')))) " +
+           "ORDER BY i.createdAt DESC")
+    Page<Issue> findByUserMatchingText(@Param("user") User user,
+                                      @Param("searchTerm") String searchTerm,
+                                      Pageable pageable);
+
+    /**
+     * Ranked full-text search over issue titles, descriptions and comment bodies (PostgreSQL only).
+     * Matches are aggregated per issue; highlighting is computed for the returned page only.
+     *
+     * @param userId the issue owner ID
+     * @param query web-style search query (quoted phrases, OR, -exclusions)
+     * @param limit maximum number of issues
+     * @param offset number of issues to skip
+     * @return rows of [issue ID, rank, highlighted title, highlighted snippet, best matching comment ID or null]
+     */
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), " +
+           "hits AS (" +
+           "  SELECT i.id AS issue_id, ts_rank_cd(i.search_vector, q.query) AS rank, CAST(NULL AS BIGINT) AS comment_id " +
+           "  FROM issues i, q WHERE i.user_id = :userId AND i.search_vector @@ q.query " +
+           "  UNION ALL " +
+           "  SELECT c.issue_id, ts_rank_cd(c.search_vector, q.query), c.id " +
+           "  FROM comments c JOIN issues i ON i.id = c.issue_id, q " +
+           "  WHERE i.user_id = :userId AND c.search_vector @@ q.query" +
+           "), " +
+           "ranked AS (" +
+           "  SELECT issue_id, SUM(rank) AS rank, BOOL_OR(comment_id IS NULL) AS issue_hit, " +
+           "         (ARRAY_AGG(comment_id ORDER BY rank DESC) FILTER (WHERE comment_id IS NOT NULL))[1] AS comment_id " +
+           "  FROM hits GROUP BY issue_id " +
+           "  ORDER BY rank DESC, issue_id DESC LIMIT :limit OFFSET :offset" +
+           ") " +
+           "SELECT r.issue_id, r.rank, " +
+           "  ts_headline('english', replace(replace(replace(i.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), q.query, " +
+           "              'StartSel=<mark>, StopSel=</mark>, HighlightAll=true'), " +
+           "  ts_headline('english', replace(replace(replace(CASE WHEN r.issue_hit THEN coalesce(i.description, '') ELSE c.content END, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), " +
+           "              q.query, 'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10'), " +
+           "  r.comment_id " +
+           "FROM ranked r JOIN issues i ON i.id = r.issue_id LEFT JOIN comments c ON c.id = r.comment_id, q " +
+           "ORDER BY r.rank DESC, r.issue_id DESC",
+           nativeQuery = true)
+    List<Object[]> searchFullText(@Param("userId") Long userId,
+                                  @Param("query") String query,
+                                  @Param("limit") int limit,
+                                  @Param("offset") long offset);
+
+    /**
+     * Counts issues matched by {@link #searchFullText} (PostgreSQL only).
+     *
+     * @param userId the issue owner ID
+     * @param query web-style search query
+     * @return number of matching issues
+     */
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query) " +
+           "SELECT COUNT(*) FROM (" +
+           "  SELECT i.id FROM issues i, q WHERE i.user_id = :userId AND i.search_vector @@ q.query " +
+           "  UNION " +
+           "  SELECT c.issue_id FROM comments c JOIN issues i ON i.id = c.issue_id, q " +
+           "  WHERE i.user_id = :userId AND c.search_vector @@ q.query" +
+           ") matches",
+           nativeQuery = true)
+    long countFullTextMatches(@Param("userId") Long userId, @Param("query") String query);
+
     /**
      * Finds issues with complex filtering.
      *
@@ -171,6 +272,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of filtered issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     @Query("SELECT i FROM Issue i WHERE i.user = :user " +
            "AND (:project IS NULL OR i.project = :project) " +
            "AND (:status IS NULL OR i.status = :status) " +
@@ -184,6 +286,80 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
                                      @Param("sprint") Sprint sprint,
                                      Pageable pageable);
 
+    /**
+     * Finds the next slice of filtered issues after a keyset position, newest first.
+     * Rows are ordered by (createdAt, id) so the position stays stable across inserts.
+     *
+     * @param user the issue owner
+     * @param project optional project filter
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param sprint optional sprint filter
+     * @param createdAt creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit page request carrying the number of rows to fetch
+     * @return issues strictly after the given position
+     */
+    @EntityGraph(Issue.LIST_GRAPH)
+    @Query("SELECT i FROM Issue i WHERE i.user = :user " +
+           "AND (:project IS NULL OR i.project = :project) " +
+           "AND (:status IS NULL OR i.status = :status) " +
+           "AND (:priority IS NULL OR i.priority = :priority) " +
+           "AND (:sprint IS NULL OR i.sprint = :sprint) " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findKeysetPageByUserWithFilters(@Param("user") User user,
+                                                @Param("project") Project project,
+                                                @Param("status") IssueStatus status,
+                                                @Param("priority") Priority priority,
+                                                @Param("sprint") Sprint sprint,
+                                                @Param("createdAt") Instant createdAt,
+                                                @Param("id") Long id,
+                                                Pageable limit);
+
+    /**
+     * Finds the next slice of a user's issues changed after a keyset position, in change order.
+     * Used by the delta sync feed.
+     *
+     * @param user the issue owner
+     * @param updatedAt modification time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit page request carrying the number of rows to fetch
+     * @return issues strictly after the given position and before the bound
+     */
+    @EntityGraph(Issue.LIST_GRAPH)
+    @Query("SELECT i FROM Issue i WHERE i.user = :user " +
+           "AND (i.updatedAt > :updatedAt OR (i.updatedAt = :updatedAt AND i.id > :id)) " +
+           "AND i.updatedAt < :until " +
+           "ORDER BY i.updatedAt ASC, i.id ASC")
+    List<Issue> findChangedSince(@Param("user") User user,
+                                 @Param("updatedAt") Instant updatedAt,
+                                 @Param("id") Long id,
+                                 @Param("until") Instant until,
+                                 Pageable limit);
+
+    /**
+     * Counts filtered issues for a user.
+     *
+     * @param user the issue owner
+     * @param project optional project filter
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param sprint optional sprint filter
+     * @return number of matching issues
+     */
+    @Query("SELECT COUNT(i) FROM Issue i WHERE i.user = :user " +
+           "AND (:project IS NULL OR i.project = :project) " +
+           "AND (:status IS NULL OR i.status = :status) " +
+           "AND (:priority IS NULL OR i.priority = :priority) " +
+           "AND (:sprint IS NULL OR i.sprint = :sprint)")
+    long countByUserWithFilters(@Param("user") User user,
+                                @Param("project") Project project,
+                                @Param("status") IssueStatus status,
+                                @Param("priority") Priority priority,
+                                @Param("sprint") Sprint sprint);
+
     /**
      * Finds issues assigned to a sprint for a user.
      *
@@ -201,6 +377,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param status the issue status
      * @return list of issues
      */
+    @EntityGraph(Issue.BOARD_GRAPH)
     List<Issue> findByUserAndSprintAndStatus(User user, Sprint sprint, IssueStatus status);
 
     /**
@@ -212,6 +389,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param sprint the completed sprint
      * @return list of issues that were part of the sprint
      */
+    @EntityGraph(Issue.BOARD_GRAPH)
     @Query("SELECT i FROM Issue i WHERE i.user = :user AND " +
            "(i.sprint = :sprint OR i.lastCompletedSprint = :sprint)")
     List<Issue> findByUserAndCompletedSprint(@Param("user") User user, @Param("sprint") Sprint sprint);
@@ -233,6 +411,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of epic issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByUserAndParentIssueIsNullOrderByCreatedAtDesc(User user, Pageable pageable);
 
     /**
@@ -241,6 +420,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param user the issue owner
      * @return list of epic issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     List<Issue> findByUserAndParentIssueIsNullOrderByCreatedAtDesc(User user);
 
     /**
@@ -251,6 +431,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of child issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByParentIssueAndUserOrderByCreatedAtDesc(Issue parentIssue, User user, Pageable pageable);
 
     /**
@@ -260,6 +441,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param user the issue owner
      * @return list of child issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     List<Issue> findByParentIssueAndUserOrderByCreatedAtDesc(Issue parentIssue, User user);
 
     /**
@@ -296,6 +478,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @param pageable pagination information
      * @return page of non-epic issues
      */
+    @EntityGraph(Issue.LIST_GRAPH)
     Page<Issue> findByUserAndParentIssueIsNotNullOrderByCreatedAtDesc(User user, Pageable pageable);
 
     /**
@@ -306,6 +489,266 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      */
     long countByUserAndParentIssueIsNotNull(User user);
 
+    /**
+     * Aggregates a user's issues into issue counter buckets.
+     * Used to verify and repair the issue_counters read model.
+     *
+     * @param user the issue owner
+     * @return rows of [project id, status, priority, issue count, parentless issue count]
+     */
+    @Query("SELECT i.project.id, i.status, i.priority, COUNT(i), " +
+           "SUM(CASE WHEN i.parentIssue IS NULL THEN 1 ELSE 0 END) " +
+           "FROM Issue i WHERE i.user = :user " +
+           "GROUP BY i.project.id, i.status, i.priority")
+    List<Object[]> aggregateCounterBuckets(@Param("user") User user);
+
+    /**
+     * Aggregates the given issues into issue counter buckets.
+     * Used to adjust the issue_counters read model after bulk updates.
+     *
+     * @param ids the issue IDs
+     * @return rows of [project id, status, priority, issue count, parentless issue count]
+     */
+    @Query("SELECT i.project.id, i.status, i.priority, COUNT(i), " +
+           "SUM(CASE WHEN i.parentIssue IS NULL THEN 1 ELSE 0 END) " +
+           "FROM Issue i WHERE i.id IN :ids " +
+           "GROUP BY i.project.id, i.status, i.priority")
+    List<Object[]> aggregateCounterBucketsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the fields a bulk update may change for a user's issues, without loading the entities.
+     *
+     * @param ids the issue IDs
+     * @param user the issue owner
+     * @return rows of [id, status, priority, sprint id, sprint name, parent issue id] for the owned issues
+     */
+    @Query("SELECT i.id, i.status, i.priority, s.id, s.name, i.parentIssue.id FROM Issue i " +
+           "LEFT JOIN i.sprint s WHERE i.user = :user AND i.id IN :ids")
+    List<Object[]> findBulkUpdateRefs(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+    /**
+     * Locks the given issues of a user until the end of the transaction, so that values read
+     * for a bulk update still hold when the update and its counter deltas are applied.
+     *
+     * @param userId the issue owner ID
+     * @param ids the issue IDs
+     * @return the locked issue IDs
+     */
+    @Query(value = "SELECT id FROM issues WHERE user_id = :userId AND id IN (:ids) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockByUserAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks a user's issues in a sprint until the end of the transaction, so that issues
+     * selected for a sprint transition cannot change before they are updated.
+     *
+     * @param userId the issue owner ID
+     * @param sprintId the sprint ID
+     * @return the locked issue IDs
+     */
+    @Query(value = "SELECT id FROM issues WHERE user_id = :userId AND sprint_id = :sprintId ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockByUserAndSprint(@Param("userId") Long userId, @Param("sprintId") Long sprintId);
+
+    /**
+     * Finds the IDs of all issues of a project.
+     *
+     * @param project the project
+     * @return issue IDs in ascending order
+     */
+    @Query("SELECT i.id FROM Issue i WHERE i.project = :project ORDER BY i.id")
+    List<Long> findIdsByProject(@Param("project") Project project);
+
+    /**
+     * Finds the IDs of a user's issues in a sprint with the given status.
+     *
+     * @param user the issue owner
+     * @param sprint the sprint
+     * @param status the issue status
+     * @return issue IDs in ascending order
+     */
+    @Query("SELECT i.id FROM Issue i WHERE i.user = :user AND i.sprint = :sprint AND i.status = :status " +
+           "ORDER BY i.id")
+    List<Long> findIdsByUserAndSprintAndStatus(@Param("user") User user,
+                                               @Param("sprint") Sprint sprint,
+                                               @Param("status") IssueStatus status);
+
+    /**
+     * Finds the IDs of a user's issues in a sprint without the given status.
+     *
+     * @param user the issue owner
+     * @param sprint the sprint
+     * @param status the excluded issue status
+     * @return issue IDs in ascending order
+     */
+    @Query("SELECT i.id FROM Issue i WHERE i.user = :user AND i.sprint = :sprint AND i.status <> :status " +
+           "ORDER BY i.id")
+    List<Long> findIdsByUserAndSprintAndStatusNot(@Param("user") User user,
+                                                  @Param("sprint") Sprint sprint,
+                                                  @Param("status") IssueStatus status);
+
+    /**
+     * Summarizes a sprint's issues in a single scan.
+     *
+     * @param sprint the sprint
+     * @return one row of [issue count, done issue count, story points, done story points]
+     */
+    @Query("SELECT COUNT(i), " +
+           "COALESCE(SUM(CASE WHEN i.status = 'DONE' THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(i.storyPoints), 0), " +
+           "COALESCE(SUM(CASE WHEN i.status = 'DONE' THEN i.storyPoints ELSE 0 END), 0) " +
+           "FROM Issue i WHERE i.sprint = :sprint")
+    List<Object[]> summarizeSprint(@Param("sprint") Sprint sprint);
+
+    /**
+     * Sets the status of the given issues in one statement.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param status the new status
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.status = :status, i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") IssueStatus status,
+                           @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Sets the status of those of the given issues that still have the expected status.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param fromStatus the status the issues were read with
+     * @param status the new status
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.status = :status, i.updatedAt = :updatedAt " +
+           "WHERE i.id IN :ids AND i.status = :fromStatus")
+    int updateStatusByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                    @Param("fromStatus") IssueStatus fromStatus,
+                                    @Param("status") IssueStatus status,
+                                    @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Sets the priority of the given issues in one statement.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param priority the new priority
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.priority = :priority, i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int updatePriorityByIdIn(@Param("ids") Collection<Long> ids,
+                             @Param("priority") Priority priority,
+                             @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Moves the given issues into a sprint in one statement.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param sprint the target sprint
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.sprint = :sprint, i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int updateSprintByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("sprint") Sprint sprint,
+                           @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Removes the given issues from their sprint in one statement.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.sprint = NULL, i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int clearSprintByIdIn(@Param("ids") Collection<Long> ids,
+                          @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Records a modification time for the given issues, e.g. after their labels changed.
+     *
+     * @param ids the issue IDs
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int touchByIdIn(@Param("ids") Collection<Long> ids,
+                    @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Attaches each of the labels to each of the issues, skipping pairs that already exist.
+     *
+     * @param ids the issue IDs
+     * @param labelIds the label IDs
+     * @return number of label links added
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO issue_labels (issue_id, label_id) " +
+           "SELECT i.id, l.id FROM issues i CROSS JOIN labels l " +
+           "WHERE i.id IN (:ids) AND l.id IN (:labelIds) " +
+           "AND NOT EXISTS (SELECT 1 FROM issue_labels il WHERE il.issue_id = i.id AND il.label_id = l.id)",
+           nativeQuery = true)
+    int addLabelsByIdIn(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
+
+    /**
+     * Detaches the labels from the issues.
+     *
+     * @param ids the issue IDs
+     * @param labelIds the label IDs
+     * @return number of label links removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM issue_labels WHERE issue_id IN (:ids) AND label_id IN (:labelIds)",
+           nativeQuery = true)
+    int removeLabelsByIdIn(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
+
+    /**
+     * Moves the given issues out of a completed sprint back to the backlog in one statement,
+     * remembering the sprint as their last completed sprint. Issues that have meanwhile left
+     * the sprint or been finished are not touched.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param ids the issue IDs
+     * @param completedSprint the sprint being completed
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.status = 'BACKLOG', i.sprint = NULL, " +
+           "i.lastCompletedSprint = :completedSprint, i.updatedAt = :updatedAt " +
+           "WHERE i.id IN :ids AND i.sprint = :completedSprint AND i.status <> 'DONE'")
+    int moveToBacklogFromCompletedSprint(@Param("ids") Collection<Long> ids,
+                                         @Param("completedSprint") Sprint completedSprint,
+                                         @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Removes all of a user's issues from a sprint in one statement.
+     * The persistence context is flushed before and cleared after the update.
+     *
+     * @param user the issue owner
+     * @param sprint the sprint
+     * @param updatedAt the modification time to record
+     * @return number of updated issues
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.sprint = NULL, i.updatedAt = :updatedAt WHERE i.user = :user AND i.sprint = :sprint")
+    int clearSprint(@Param("user") User user,
+                    @Param("sprint") Sprint sprint,
+                    @Param("updatedAt") Instant updatedAt);
+
     /**
      * Finds epic issues (issues without parent) for a specific project and user.
      *
@@ -314,4 +757,158 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
      * @return list of epic issues in the project
      */
     List<Issue> findByUserAndProjectAndParentIssueIsNullOrderByCreatedAtDesc(User user, Project project);
-}
\ No newline at end of file
+
+    /**
+     * Summarizes the epics (issues without parent) of a project for project auto-completion.
+     * An epic blocks completion if it is not DONE and has at least one child issue.
+     * Children are checked with EXISTS rather than the child counters, so issues
+     * written without maintaining the counters are still taken into account.
+     *
+     * @param user the issue owner
+     * @param project the project
+     * @return one row of [epic count, DONE epic count, epics without children, blocking epic count]
+     */
+    @Query("SELECT COUNT(e), " +
+           "COALESCE(SUM(CASE WHEN e.status = 'DONE' THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN EXISTS (SELECT c.id FROM Issue c WHERE c.parentIssue = e AND c.user = :user) " +
+           "THEN 0 ELSE 1 END), 0), " +
+           "COALESCE(SUM(CASE WHEN e.status <> 'DONE' AND " +
+           "EXISTS (SELECT c.id FROM Issue c WHERE c.parentIssue = e AND c.user = :user) THEN 1 ELSE 0 END), 0) " +
+           "FROM Issue e WHERE e.user = :user AND e.project = :project AND e.parentIssue IS NULL")
+    List<Object[]> summarizeEpicsByProject(@Param("user") User user, @Param("project") Project project);
+
+    /**
+     * Loads issues by ID with every association rendered in an issue DTO fetched in the same query.
+     * Used to resolve a whole page of issues at once instead of one lazy load per row.
+     *
+     * @param ids issue IDs
+     * @return issues with project, issue type, sprints, parent issue and labels initialized
+     */
+    @Query("SELECT DISTINCT i FROM Issue i " +
+           "JOIN FETCH i.project " +
+           "JOIN FETCH i.issueType " +
+           "LEFT JOIN FETCH i.sprint " +
+           "LEFT JOIN FETCH i.lastCompletedSprint " +
+           "LEFT JOIN FETCH i.parentIssue " +
+           "LEFT JOIN FETCH i.labels " +
+           "WHERE i.id IN :ids")
+    List<Issue> findWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts child issues for several parent issues in one grouped query.
+     *
+     * @param parentIds the parent issue IDs
+     * @param user the issue owner
+     * @return rows of [parent issue ID, child count]; parents without children are omitted
+     */
+    @Query("SELECT i.parentIssue.id, COUNT(i) FROM Issue i " +
+           "WHERE i.parentIssue.id IN :parentIds AND i.user = :user " +
+           "GROUP BY i.parentIssue.id")
+    List<Object[]> countChildrenByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                            @Param("user") User user);
+
+    /**
+     * Atomically adds deltas to an epic's child progress counters.
+     * Native SQL since the counters are not written through the entity.
+     *
+     * @param epicId the epic ID
+     * @param totalDelta change in child count
+     * @param doneDelta change in DONE child count
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query(value = "UPDATE issues SET child_total = child_total + :totalDelta, child_done = child_done + :doneDelta " +
+           "WHERE id = :epicId",
+           nativeQuery = true)
+    int adjustChildProgress(@Param("epicId") Long epicId,
+                            @Param("totalDelta") int totalDelta,
+                            @Param("doneDelta") int doneDelta);
+
+    /**
+     * Overwrites an epic's child progress counters.
+     *
+     * @param epicId the epic ID
+     * @param total the child count
+     * @param done the DONE child count
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query(value = "UPDATE issues SET child_total = :total, child_done = :done WHERE id = :epicId",
+           nativeQuery = true)
+    int setChildProgress(@Param("epicId") Long epicId, @Param("total") int total, @Param("done") int done);
+
+    /**
+     * Reads an epic's child progress counters straight from the table,
+     * so that deltas applied earlier in the same transaction are visible.
+     *
+     * @param epicId the epic ID
+     * @return one row of [child count, DONE child count], or none if the epic does not exist
+     */
+    @Query("SELECT i.childTotal, i.childDone FROM Issue i WHERE i.id = :epicId")
+    List<Object[]> findChildProgress(@Param("epicId") Long epicId);
+
+    /**
+     * Aggregates the given issues by parent epic, for adjusting epic progress after bulk updates.
+     *
+     * @param ids the issue IDs
+     * @return rows of [parent issue ID, child count, DONE child count]; issues without a parent are omitted
+     */
+    @Query("SELECT i.parentIssue.id, COUNT(i), SUM(CASE WHEN i.status = 'DONE' THEN 1 ELSE 0 END) " +
+           "FROM Issue i WHERE i.id IN :ids AND i.parentIssue IS NOT NULL " +
+           "GROUP BY i.parentIssue.id")
+    List<Object[]> aggregateChildProgressByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks a user's top-level issues until the end of the transaction, so that their child
+     * progress can be recounted and overwritten without losing concurrent adjustments.
+     *
+     * @param userId the issue owner ID
+     * @return the locked issue IDs
+     */
+    @Query(value = "SELECT id FROM issues WHERE user_id = :userId AND parent_issue_id IS NULL ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockTopLevelIssuesByUser(@Param("userId") Long userId);
+
+    /**
+     * Compares the child progress counters of a user's top-level issues with their actual children.
+     *
+     * @param user the issue owner
+     * @return rows of [issue ID, child total, child done, actual child count, actual DONE child count]
+     */
+    @Query("SELECT e.id, e.childTotal, e.childDone, COUNT(c), " +
+           "COALESCE(SUM(CASE WHEN c.status = 'DONE' THEN 1 ELSE 0 END), 0) " +
+           "FROM Issue e LEFT JOIN Issue c ON c.parentIssue = e " +
+           "WHERE e.user = :user AND e.parentIssue IS NULL " +
+           "GROUP BY e.id, e.childTotal, e.childDone")
+    List<Object[]> compareChildProgress(@Param("user") User user);
+
+    /**
+     * Streams a user's issues for export with a forward-only cursor, one row per issue and label,
+     * ordered by issue ID so the labels of an issue are adjacent.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param userId the issue owner ID
+     * @return rows of [id, project key, issue type, title, description, status, priority, story points,
+     *         sprint id, sprint name, epic id, epic title, created at, updated at, label name]
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i.id, p.key, t.name, i.title, i.description, i.status, i.priority, i.storyPoints, " +
+           "s.id, s.name, e.id, e.title, i.createdAt, i.updatedAt, l.name " +
+           "FROM Issue i JOIN i.project p JOIN i.issueType t LEFT JOIN i.sprint s " +
+           "LEFT JOIN i.parentIssue e LEFT JOIN i.labels l " +
+           "WHERE i.user.id = :userId ORDER BY i.id, l.name")
+    Stream<Object[]> streamExportRows(@Param("userId") Long userId);
+
+    /**
+     * Lists a user's epics without loading the entities, for resolving epic references in bulk.
+     *
+     * @param user the issue owner
+     * @return rows of [id, title, project id]
+     */
+    @Query("SELECT i.id, i.title, i.project.id FROM Issue i " +
+           "WHERE i.user = :user AND i.issueType.name = 'EPIC'")
+    List<Object[]> findEpicRefsByUser(@Param("user") User user);
+}
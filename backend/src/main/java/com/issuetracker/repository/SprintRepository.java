@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -133,6 +134,27 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
                                                        @Param("searchTerm") String searchTerm, 
                                                        Pageable pageable);
 
+    /**
+     * Finds the next slice of a user's sprints changed after a keyset position, in change order.
+     * Used by the delta sync feed.
+     *
+     * @param user the sprint owner
+     * @param updatedAt modification time of the last sprint already returned
+     * @param id ID of the last sprint already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit page request carrying the number of rows to fetch
+     * @return sprints strictly after the given position and before the bound
+     */
+    @Query("SELECT s FROM Sprint s WHERE s.user = :user " +
+           "AND (s.updatedAt > :updatedAt OR (s.updatedAt = :updatedAt AND s.id > :id)) " +
+           "AND s.updatedAt < :until " +
+           "ORDER BY s.updatedAt ASC, s.id ASC")
+    List<Sprint> findChangedSince(@Param("user") User user,
+                                  @Param("updatedAt") Instant updatedAt,
+                                  @Param("id") Long id,
+                                  @Param("until") Instant until,
+                                  Pageable limit);
+
     /**
      * Deletes a sprint by ID and user for data isolation.
      *
@@ -140,4 +162,16 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
      * @param user sprint owner
      */
     void deleteByIdAndUser(Long id, User user);
-}
\ No newline at end of file
+
+    /**
+     * Calculates the average completion percentage over the completion snapshots
+     * of a user's completed sprints. Sprints completed without issues are ignored.
+     *
+     * @param user the sprint owner
+     * @return average completion percentage, or null if no snapshot qualifies
+     */
+    @Query("SELECT AVG(s.snapshotDoneIssueCount * 100.0 / s.snapshotIssueCount) FROM Sprint s " +
+           "WHERE s.user = :user AND s.status = 'COMPLETED' " +
+           "AND s.snapshotIssueCount > 0")
+    Double averageCompletionFromSnapshots(@Param("user") User user);
+}
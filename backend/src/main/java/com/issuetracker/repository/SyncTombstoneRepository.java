@@ -0,0 +1,111 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.entity.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for SyncTombstone entity operations.
+ * Deletions are recorded with native INSERT ... SELECT statements that run before the delete,
+ * so rows removed by cascades are recorded without loading them.
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * Records the deletion of a single entity.
+     *
+     * @param userId the owner ID
+     * @param entityType the {@link com.issuetracker.entity.SyncEntityType} name
+     * @param entityId the deleted entity ID
+     * @param deletedAt the deletion time
+     * @return number of recorded rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id, deleted_at) " +
+           "VALUES (:userId, :entityType, :entityId, :deletedAt)",
+           nativeQuery = true)
+    int recordDeleted(@Param("userId") Long userId,
+                      @Param("entityType") String entityType,
+                      @Param("entityId") Long entityId,
+                      @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Records the deletion of issues and of their comments.
+     * Must run before the issues are deleted. The deletion time is cast since H2 cannot
+     * infer the type of a parameter in the select list of a UNION.
+     *
+     * @param issueIds the IDs of the issues about to be deleted
+     * @param deletedAt the deletion time
+     * @return number of recorded rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id, deleted_at) " +
+           "SELECT i.user_id, 'ISSUE', i.id, CAST(:deletedAt AS TIMESTAMP WITH TIME ZONE) " +
+           "FROM issues i WHERE i.id IN (:issueIds) " +
+           "UNION ALL " +
+           "SELECT i.user_id, 'COMMENT', c.id, CAST(:deletedAt AS TIMESTAMP WITH TIME ZONE) " +
+           "FROM comments c " +
+           "JOIN issues i ON i.id = c.issue_id WHERE i.id IN (:issueIds)",
+           nativeQuery = true)
+    int recordIssuesDeleted(@Param("issueIds") Collection<Long> issueIds,
+                            @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Records the deletion of all issues of a project and of their comments.
+     * Must run before the project is deleted.
+     *
+     * @param projectId the ID of the project about to be deleted
+     * @param deletedAt the deletion time
+     * @return number of recorded rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id, deleted_at) " +
+           "SELECT i.user_id, 'ISSUE', i.id, CAST(:deletedAt AS TIMESTAMP WITH TIME ZONE) " +
+           "FROM issues i WHERE i.project_id = :projectId " +
+           "UNION ALL " +
+           "SELECT i.user_id, 'COMMENT', c.id, CAST(:deletedAt AS TIMESTAMP WITH TIME ZONE) " +
+           "FROM comments c " +
+           "JOIN issues i ON i.id = c.issue_id WHERE i.project_id = :projectId",
+           nativeQuery = true)
+    int recordProjectDeleted(@Param("projectId") Long projectId,
+                             @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Finds the next slice of a user's tombstones after a keyset position, oldest first.
+     *
+     * @param userId the owner ID
+     * @param deletedAt deletion time of the last tombstone already returned
+     * @param id ID of the last tombstone already returned
+     * @param until exclusive upper bound on the deletion time
+     * @param limit page request carrying the number of rows to fetch
+     * @return tombstones strictly after the given position and before the bound
+     */
+    @Query("SELECT t FROM SyncTombstone t WHERE t.userId = :userId " +
+           "AND (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.id > :id)) " +
+           "AND t.deletedAt < :until " +
+           "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<SyncTombstone> findChangedSince(@Param("userId") Long userId,
+                                         @Param("deletedAt") Instant deletedAt,
+                                         @Param("id") Long id,
+                                         @Param("until") Instant until,
+                                         Pageable limit);
+
+    /**
+     * Deletes tombstones older than the retention period.
+     *
+     * @param before exclusive upper bound on the deletion time
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
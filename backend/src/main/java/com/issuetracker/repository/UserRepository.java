@@ -2,8 +2,10 @@ package com.issuetracker.repository;
 
 import com.issuetracker.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,4 +30,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if user exists
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Finds the IDs of all users, for jobs that process users one at a time.
+     *
+     * @return list of user IDs
+     */
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+}
@@ -0,0 +1,18 @@
+package com.issuetracker.service;
+
+import java.time.Instant;
+
+/**
+ * An audit entry for an issue change, published by {@link AuditService} and written
+ * to audit_logs by {@link AuditLogWriteBehind} once the change has committed.
+ *
+ * @param userId the user who made the change
+ * @param issueId the affected issue
+ * @param action the action performed
+ * @param details the details of the change
+ * @param createdAt when the change was made
+ * @param correlationId the request correlation ID, for log tracing
+ */
+public record AuditLogEvent(Long userId, Long issueId, String action, String details,
+                            Instant createdAt, String correlationId) {
+}
@@ -0,0 +1,233 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind buffer for issue audit entries.
+ *
+ * Semantics:
+ * - Only committed changes are audited: events are queued after the publishing transaction
+ *   commits (or immediately when there is no transaction), and dropped if it rolls back.
+ * - The queue is bounded. When it stays full for the offer timeout, the event is written on the
+ *   caller's thread instead, so a slow database slows writers down rather than losing entries.
+ * - Queued entries live in memory only. They are flushed on shutdown, but a crash loses the
+ *   entries not yet written. A batch that fails is retried row by row; rows that still fail
+ *   (e.g. the issue was deleted meanwhile) are logged and dropped.
+ *
+ * Entries are flushed in JDBC batches on the audit executor, one drain at a time so they are
+ * written in the order they were queued.
+ *
+ * Opt-in with performance.audit.write-behind.enabled; audit logs are written synchronously
+ * otherwise. The queue depth and the entries written by callers or dropped are exported as
+ * audit.writebehind.* metrics.
+ */
+@Component
+public class AuditLogWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriteBehind.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (id, user_id, issue_id, action, details, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<AuditLogEvent> queue;
+    private final Executor auditExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final IdentifierGenerator idGenerator;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Counter callerWrites;
+    private final Counter droppedEntries;
+
+    public AuditLogWriteBehind(@Value("${performance.audit.write-behind.enabled:false}") boolean enabled,
+                               @Value("${performance.audit.write-behind.queue-capacity:10000}") int queueCapacity,
+                               @Value("${performance.audit.write-behind.batch-size:50}") int batchSize,
+                               @Value("${performance.audit.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+                               @Qualifier("auditExecutor") Executor auditExecutor,
+                               JdbcTemplate jdbcTemplate,
+                               EntityManager entityManager,
+                               EntityManagerFactory entityManagerFactory,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.auditExecutor = auditExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        // After-commit listeners still see the finished transaction's resources, so always write in a new one
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Ids come from the AuditLog generator so write-behind rows share its pooled sequence blocks
+        this.idGenerator = (IdentifierGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(AuditLog.class).getGenerator();
+
+        Gauge.builder("audit.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.callerWrites = Counter.builder("audit.writebehind.caller.writes")
+                .description("Audit entries written on the caller's thread because the queue was full")
+                .register(meterRegistry);
+        this.droppedEntries = Counter.builder("audit.writebehind.dropped")
+                .description("Audit entries that could not be written")
+                .register(meterRegistry);
+        logger.info("📝 Audit write-behind {}", enabled
+                ? "enabled (queue " + queueCapacity + ", batch " + batchSize + ")"
+                : "disabled, audit logs are written synchronously");
+    }
+
+    /**
+     * Whether audit entries go through this buffer.
+     *
+     * @return false when audit logs are written synchronously
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues an audit entry once its transaction has committed and schedules a drain.
+     *
+     * @param event the audit entry
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuditLogEvent(AuditLogEvent event) {
+        boolean queued;
+        try {
+            queued = queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        if (!queued) {
+            callerWrites.increment();
+            logger.warn("⚠️ Audit queue full, writing entry on caller thread: issueId={}, action={}, correlationId={}",
+                       event.issueId(), event.action(), event.correlationId());
+            write(List.of(event));
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Writes all queued entries on the calling thread.
+     *
+     * @return number of entries taken from the queue
+     */
+    public int flush() {
+        int flushed = 0;
+        List<AuditLogEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            flushed += batch.size();
+            batch.clear();
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        int flushed = flush();
+        logger.info("📝 Audit write-behind stopped: flushed {} pending entries, {} dropped, {} written by callers",
+                   flushed, (long) droppedEntries.count(), (long) callerWrites.count());
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            auditExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);
+            logger.warn("⚠️ Audit executor rejected drain, {} entries wait for the next flush", queue.size());
+        }
+    }
+
+    private void drain() {
+        List<AuditLogEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                drainScheduled.set(false);
+                // An entry queued between the empty drain and clearing the flag found a drain still scheduled
+                if (queue.isEmpty() || !drainScheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Inserts entries in one JDBC batch, falling back to one transaction per entry if the batch fails.
+     */
+    private void write(List<AuditLogEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(events));
+        } catch (RuntimeException e) {
+            if (events.size() > 1) {
+                logger.warn("⚠️ Audit batch of {} entries failed, retrying one by one", events.size(), e);
+                events.forEach(event -> write(List.of(event)));
+                return;
+            }
+            AuditLogEvent event = events.get(0);
+            droppedEntries.increment();
+            logger.error("❌ Dropped audit entry: userId={}, issueId={}, action={}, details={}, createdAt={}, correlationId={}",
+                        event.userId(), event.issueId(), event.action(), event.details(), event.createdAt(),
+                        event.correlationId(), e);
+        }
+    }
+
+    private void insert(List<AuditLogEvent> events) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (AuditLogEvent event : events) {
+            rows.add(new Object[] {
+                    idGenerator.generate(session, null),
+                    event.userId(),
+                    event.issueId(),
+                    event.action(),
+                    event.details(),
+                    Timestamp.from(event.createdAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        logger.debug("Wrote {} audit log entries", rows.size());
+    }
+}
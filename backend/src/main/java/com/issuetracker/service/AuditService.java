@@ -1,13 +1,21 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.PageCursor;
 import com.issuetracker.entity.*;
 import com.issuetracker.repository.AuditLogRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,9 +30,16 @@ public class AuditService {
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
     private final AuditLogRepository auditLogRepository;
+    private final FullTextSearch fullTextSearch;
+    private final AuditLogWriteBehind auditLogWriteBehind;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(AuditLogRepository auditLogRepository, FullTextSearch fullTextSearch,
+                        AuditLogWriteBehind auditLogWriteBehind, ApplicationEventPublisher eventPublisher) {
         this.auditLogRepository = auditLogRepository;
+        this.fullTextSearch = fullTextSearch;
+        this.auditLogWriteBehind = auditLogWriteBehind;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -58,6 +73,41 @@ public class AuditService {
                    issue.getId(), user.getId(), oldStatus, newStatus);
     }
 
+    /**
+     * Logs the same status change for many issues with one batched insert.
+     *
+     * @param issueIds the IDs of the changed issues
+     * @param user the user who made the change
+     * @param oldStatus the previous status
+     * @param newStatus the new status
+     */
+    public void logStatusChanges(Collection<Long> issueIds, User user, IssueStatus oldStatus, IssueStatus newStatus) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        String details = String.format("Status changed from %s to %s", oldStatus, newStatus);
+        int written = auditLogRepository.insertForIssues(issueIds, user.getId(), "STATUS_CHANGE", details, Instant.now());
+        
+        logger.info("Issue statuses changed: issueCount={}, userId={}, oldStatus={}, newStatus={}, correlationId={}", 
+                   written, user.getId(), oldStatus, newStatus, MDC.get("correlationId"));
+    }
+
+    /**
+     * Logs the creation of issues inserted in bulk, one entry per issue.
+     *
+     * @param issueIds the created issue IDs
+     * @param user the user who created the issues
+     */
+    public void logIssuesCreated(Collection<Long> issueIds, User user) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        int written = auditLogRepository.insertIssueCreatedForIssues(issueIds, user.getId(), Instant.now());
+        
+        logger.info("Issues created in bulk: issueCount={}, userId={}, correlationId={}", 
+                   written, user.getId(), MDC.get("correlationId"));
+    }
+
     /**
      * Logs field change.
      *
@@ -75,6 +125,26 @@ public class AuditService {
                    issue.getId(), user.getId(), fieldName, oldValue, newValue);
     }
 
+    /**
+     * Logs the same field change for issues updated in bulk, one entry per issue.
+     *
+     * @param issueIds the changed issue IDs
+     * @param user the user who made the change
+     * @param fieldName the name of the changed field
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    public void logFieldChanges(Collection<Long> issueIds, User user, String fieldName, String oldValue, String newValue) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        String details = String.format("Field '%s' changed from '%s' to '%s'", fieldName, oldValue, newValue);
+        int written = auditLogRepository.insertForIssues(issueIds, user.getId(), "FIELD_CHANGE", details, Instant.now());
+        
+        logger.info("Issue fields changed: issueCount={}, userId={}, field={}, oldValue={}, newValue={}", 
+                   written, user.getId(), fieldName, oldValue, newValue);
+    }
+
     /**
      * Logs project creation.
      *
@@ -179,6 +249,48 @@ public class AuditService {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    /**
+     * Retrieves audit history for an issue using keyset pagination, oldest first.
+     *
+     * @param issueId the issue ID
+     * @param user the user requesting the history (for security validation)
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit requested page size
+     * @param includeTotal whether to run the count query for the total
+     * @return cursor page of audit log DTOs
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<com.issuetracker.dto.AuditLogDto> getIssueHistoryPage(Long issueId, User user, String cursor,
+                                                                           Integer limit, boolean includeTotal) {
+        PageCursor position = PageCursor.decode(cursor, PageCursor.OLDEST);
+        int pageSize = CursorPage.normalizeLimit(limit);
+
+        List<AuditLog> rows = auditLogRepository.findKeysetPageByIssueIdAndIssueUser(issueId, user,
+                position.getCreatedAt(), position.getId(), PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal ? auditLogRepository.countByIssueIdAndIssueUser(issueId, user) : null;
+
+        return CursorPage.of(rows, pageSize, auditLog -> new PageCursor(auditLog.getCreatedAt(), auditLog.getId()), total)
+                .map(this::convertToDto);
+    }
+
+    /**
+     * Searches the audit trail recorded for a user by details.
+     * Uses the full-text index on PostgreSQL, best matches first; falls back to LIKE elsewhere.
+     *
+     * @param user the user who made the changes
+     * @param searchTerm the search term
+     * @param pageable pagination information
+     * @return page of matching audit log DTOs
+     */
+    @Transactional(readOnly = true)
+    public Page<com.issuetracker.dto.AuditLogDto> searchAuditLogs(
+            User user, String searchTerm, Pageable pageable) {
+        Page<AuditLog> auditLogs = fullTextSearch.isAvailable()
+                ? auditLogRepository.searchFullText(user.getId(), searchTerm, FullTextSearch.unsorted(pageable))
+                : auditLogRepository.findByUserAndDetailsContainingIgnoreCase(user, searchTerm, pageable);
+        return auditLogs.map(this::convertToDto);
+    }
+
     /**
      * Converts an AuditLog entity to AuditLogDto.
      *
@@ -206,7 +318,9 @@ public class AuditService {
     }
 
     /**
-     * Creates and saves an audit log entry for issues.
+     * Creates an audit log entry for issues.
+     * With write-behind enabled the entry is published as an event and written after commit
+     * by {@link AuditLogWriteBehind}; otherwise it is saved in the current transaction.
      *
      * @param user the user who made the change
      * @param issue the affected issue
@@ -214,6 +328,12 @@ public class AuditService {
      * @param details the details of the change
      */
     private void createAuditLog(User user, Issue issue, String action, String details) {
+        if (auditLogWriteBehind.isEnabled()) {
+            eventPublisher.publishEvent(new AuditLogEvent(user.getId(), issue.getId(), action, details,
+                                                          Instant.now(), MDC.get("correlationId")));
+            return;
+        }
+
         AuditLog auditLog = new AuditLog(user, issue, action, details);
         auditLogRepository.save(auditLog);
         
@@ -0,0 +1,127 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Security principal carrying the identity of the authenticated user.
+ * Loaded from the database at login, and rebuilt from the JWT claims on every
+ * other request, so that authenticated requests do not need to query the user.
+ */
+public final class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final String passwordHash;
+
+    /**
+     * Creates a principal from a token's claims; it carries no password.
+     *
+     * @param id user ID
+     * @param email user email (the username)
+     * @param name user display name
+     */
+    public AuthenticatedUser(Long id, String email, String name) {
+        this(id, email, name, null);
+    }
+
+    private AuthenticatedUser(Long id, String email, String name, String passwordHash) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Creates a principal for a loaded user, including the password hash for login.
+     *
+     * @param user the user entity
+     * @return the principal
+     */
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName(), user.getPasswordHash());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Builds a detached User holding the ID, email and name from the principal.
+     * It can be passed to services as the issue owner, used in queries and set on new
+     * entities without loading the user; other fields are not populated.
+     *
+     * @return a detached user reference
+     */
+    public User toUserReference() {
+        User user = new User(email, null, name);
+        user.setId(id);
+        return user;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(); // No roles for now, all users have same permissions
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuthenticatedUser that = (AuthenticatedUser) o;
+        return Objects.equals(id, that.id) && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, email);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                '}';
+    }
+}
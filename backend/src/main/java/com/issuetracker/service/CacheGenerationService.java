@@ -0,0 +1,225 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Scoped cache invalidation through generations instead of allEntries evictions.
+ *
+ * Each scope (a user, a project or a sprint) has a generation stored in the
+ * {@value #CACHE_NAME} cache. Keys of cached statistics include the generations of their
+ * scopes, so advancing a generation invalidates every entry of that scope with one write,
+ * without touching other users' entries; the orphaned entries age out under their TTL.
+ *
+ * Each user also has a version, advanced on every change of the user's data, which versions
+ * responses built from all of it (see {@link #userVersion(User)}). The user's dashboard metrics
+ * are evicted with it, so metrics served under a version are never older than the version.
+ *
+ * Generations are advanced after the writing transaction commits (or immediately without a
+ * transaction). A generation that is lost, e.g. evicted from the cache, restarts from a random
+ * value so it does not repeat an earlier one.
+ *
+ * With in-memory caches each instance keeps its own generations and only sees its own writes,
+ * so versions only serve as ETags when the generations are shared through Redis
+ * (cache.store=redis) or the deployment runs a single instance (cache.single-node=true); see
+ * {@link #versionsUsable()}. Otherwise another instance could answer 304 with stale data
+ * until its generations expire.
+ */
+@Service
+public class CacheGenerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheGenerationService.class);
+
+    public static final String CACHE_NAME = "cacheGenerations";
+
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean versionsUsable;
+
+    public CacheGenerationService(CacheManager cacheManager, ApplicationEventPublisher eventPublisher,
+                                  @Value("${cache.store:local}") String cacheStore,
+                                  @Value("${cache.single-node:false}") boolean singleNode) {
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.versionsUsable = "redis".equals(cacheStore) || singleNode;
+        if (!versionsUsable) {
+            logger.info("Cache generations are local to this instance, conditional GETs are disabled");
+        }
+    }
+
+    /**
+     * Tells whether the versions below are the same on every instance, so that they can be sent
+     * as ETags and a client's ETag can be answered with 304 Not Modified.
+     *
+     * @return true with shared generations or on a single instance
+     */
+    public boolean versionsUsable() {
+        return versionsUsable;
+    }
+
+    /**
+     * Builds the projectStatistics key for a project of a user.
+     *
+     * @param projectId the project ID
+     * @param userEmail the owner email
+     * @return the cache key, including the user and project generations
+     */
+    public String projectStatisticsKey(Long projectId, String userEmail) {
+        return projectId + "_" + userEmail + "_" + generation(userScope(userEmail)) + "_" +
+               generation(projectScope(projectId));
+    }
+
+    /**
+     * Builds the sprintStatistics key for a sprint of a user.
+     *
+     * @param sprintId the sprint ID
+     * @param userEmail the owner email
+     * @return the cache key, including the user and sprint generations
+     */
+    public String sprintStatisticsKey(Long sprintId, String userEmail) {
+        return sprintId + "_" + userEmail + "_" + generation(userScope(userEmail)) + "_" +
+               generation(sprintScope(sprintId));
+    }
+
+    /**
+     * Builds a version of the user's data, for responses built from any of it.
+     * Computed from the cache alone, so it can be checked before loading anything.
+     *
+     * @param user the owner
+     * @return a version that changes whenever the user's data changes
+     */
+    public String userVersion(User user) {
+        return user.getId() + "-" + generation(versionScope(user.getEmail()));
+    }
+
+    /**
+     * Builds a version of a sprint of the user, for responses built from the sprint's issues.
+     *
+     * @param sprintId the sprint ID
+     * @param user the owner
+     * @return a version that changes whenever the sprint's issues change
+     */
+    public String sprintVersion(Long sprintId, User user) {
+        return user.getId() + "-" + sprintId + "-" + generation(userScope(user.getEmail())) + "-" +
+               generation(sprintScope(sprintId));
+    }
+
+    /**
+     * Invalidates all scoped cache entries of a user, for writes that touch many projects or sprints,
+     * or data shown with all of them such as project and label names. Also advances the user's version.
+     *
+     * @param userEmail the owner email
+     */
+    public void userChanged(String userEmail) {
+        eventPublisher.publishEvent(new CacheInvalidationEvent(userEmail, true, Set.of(), Set.of()));
+    }
+
+    /**
+     * Invalidates the cache entries of the given projects and sprints and advances the user's version.
+     * Null IDs are ignored, so callers can pass an issue's optional sprint directly.
+     *
+     * @param userEmail the owner email
+     * @param projectIds the changed projects
+     * @param sprintIds the changed sprints
+     */
+    public void changed(String userEmail, Collection<Long> projectIds, Collection<Long> sprintIds) {
+        eventPublisher.publishEvent(new CacheInvalidationEvent(userEmail, false, nonNull(projectIds), nonNull(sprintIds)));
+    }
+
+    /**
+     * Advances the generations of the changed scopes once the write has committed.
+     *
+     * @param event the changed scopes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        // Version first, so a metrics computation that still sees the old version after caching
+        // its result is followed by this eviction (see DashboardMetricsCache)
+        advance(versionScope(event.userEmail()));
+        evictDashboardMetrics(event.userEmail());
+        if (event.userWide()) {
+            advance(userScope(event.userEmail()));
+        }
+        event.projectIds().forEach(projectId -> advance(projectScope(projectId)));
+        event.sprintIds().forEach(sprintId -> advance(sprintScope(sprintId)));
+    }
+
+    /**
+     * Reads a scope's generation, starting it if there is none.
+     */
+    long generation(String scope) {
+        Cache cache = generations();
+        Cache.ValueWrapper current = cache.get(scope);
+        if (current != null && current.get() != null) {
+            return ((Number) current.get()).longValue();
+        }
+        long initial = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2);
+        Cache.ValueWrapper existing = cache.putIfAbsent(scope, initial);
+        return existing != null && existing.get() != null ? ((Number) existing.get()).longValue() : initial;
+    }
+
+    private void advance(String scope) {
+        try {
+            generations().put(scope, generation(scope) + 1);
+        } catch (RuntimeException e) {
+            // Stale entries still expire under their TTL
+            logger.warn("Failed to advance cache generation {}: {}", scope, e.getMessage());
+        }
+    }
+
+    private void evictDashboardMetrics(String userEmail) {
+        try {
+            cache(DashboardMetricsCache.CACHE_NAME).evict(userEmail);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict dashboard metrics of {}: {}", userEmail, e.getMessage());
+        }
+    }
+
+    private Cache generations() {
+        return cache(CACHE_NAME);
+    }
+
+    private Cache cache(String name) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(name), name);
+        // Already after commit, so write through instead of deferring to a synchronization that never runs
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+
+    private static Set<Long> nonNull(Collection<Long> ids) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(result::add);
+        }
+        return result;
+    }
+
+    private static String userScope(String userEmail) {
+        return "user:" + userEmail;
+    }
+
+    private static String versionScope(String userEmail) {
+        return "version:" + userEmail;
+    }
+
+    private static String projectScope(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    private static String sprintScope(Long sprintId) {
+        return "sprint:" + sprintId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.issuetracker.service;
+
+import java.util.Set;
+
+/**
+ * Cache scopes changed by a write, published by {@link CacheGenerationService} and applied
+ * by advancing the scopes' generations once the write has committed.
+ *
+ * @param userEmail the owner of the changed data
+ * @param userWide whether the change may touch any of the owner's projects and sprints
+ * @param projectIds the projects whose cached data changed
+ * @param sprintIds the sprints whose cached data changed
+ */
+public record CacheInvalidationEvent(String userEmail, boolean userWide, Set<Long> projectIds, Set<Long> sprintIds) {
+}
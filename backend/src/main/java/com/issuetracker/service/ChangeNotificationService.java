@@ -0,0 +1,241 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ChangeNotificationDto;
+import com.issuetracker.entity.SyncEntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pushes compact change events to the owner's WebSocket sessions on {@value #DESTINATION}.
+ *
+ * Services report changed entities during their transaction; nothing is sent until it commits,
+ * and nothing is buffered for users without an open session. Events for a user are coalesced
+ * for a short window and sent as one message, so bursts such as sprint completion or bulk updates
+ * reach clients once. A message listing more IDs than the limit asks clients to resync instead.
+ */
+@Service
+public class ChangeNotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeNotificationService.class);
+
+    public static final String DESTINATION = "/queue/changes";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final TaskScheduler taskScheduler;
+    private final Duration coalesceWindow;
+    private final int maxIds;
+    private final ConcurrentMap<String, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    private final Counter sent;
+    private final Counter coalesced;
+    private final Counter truncated;
+    private final Counter sendFailures;
+    private final Counter rejected;
+    private final Counter slowConsumers;
+    private final Timer fanOutTimer;
+
+    public ChangeNotificationService(ApplicationEventPublisher eventPublisher,
+                                     SimpMessagingTemplate messagingTemplate,
+                                     SimpUserRegistry userRegistry,
+                                     @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${websocket.changes.coalesce-window:PT0.25S}") Duration coalesceWindow,
+                                     @Value("${websocket.changes.max-ids:500}") int maxIds) {
+        this.eventPublisher = eventPublisher;
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.taskScheduler = taskScheduler;
+        this.coalesceWindow = coalesceWindow;
+        this.maxIds = maxIds;
+
+        Gauge.builder("websocket.connections", userRegistry,
+                        registry -> registry.getUsers().stream().mapToInt(user -> user.getSessions().size()).sum())
+                .description("Open WebSocket sessions")
+                .register(meterRegistry);
+        this.sent = Counter.builder("websocket.changes.sent")
+                .description("Change messages handed to the broker")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("websocket.changes.coalesced")
+                .description("Change events merged into a pending message")
+                .register(meterRegistry);
+        this.truncated = Counter.builder("websocket.changes.truncated")
+                .description("Change messages replaced by a resync request because they listed too many IDs")
+                .register(meterRegistry);
+        this.sendFailures = dropped(meterRegistry, "send_failed");
+        this.rejected = dropped(meterRegistry, "rejected");
+        this.slowConsumers = dropped(meterRegistry, "slow_consumer");
+        this.fanOutTimer = Timer.builder("websocket.changes.fanout")
+                .description("Time from the first commit of a change message until it is handed to the broker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reports created or updated entities of a user. Null IDs are ignored.
+     *
+     * @param userEmail the owner email
+     * @param type the kind of the entities
+     * @param ids the entity IDs
+     */
+    public void changed(String userEmail, SyncEntityType type, Collection<Long> ids) {
+        publish(userEmail, type, ids, false);
+    }
+
+    /**
+     * Reports deleted entities of a user. Null IDs are ignored.
+     *
+     * @param userEmail the owner email
+     * @param type the kind of the entities
+     * @param ids the entity IDs
+     */
+    public void deleted(String userEmail, SyncEntityType type, Collection<Long> ids) {
+        publish(userEmail, type, ids, true);
+    }
+
+    /**
+     * Adds committed changes to the user's pending message, scheduling it when it is the first.
+     *
+     * @param event the changed entities
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        String user = event.userEmail();
+        if (event.ids().isEmpty() || userRegistry.getUser(user) == null) {
+            return;
+        }
+
+        PendingChanges created = new PendingChanges(Instant.now());
+        PendingChanges batch = pending.compute(user, (key, current) -> {
+            PendingChanges target = current != null ? current : created;
+            target.add(event, maxIds);
+            return target;
+        });
+        if (batch != created) {
+            coalesced.increment();
+            return;
+        }
+
+        try {
+            taskScheduler.schedule(() -> flush(user), Instant.now().plus(coalesceWindow));
+        } catch (TaskRejectedException e) {
+            pending.remove(user, batch);
+            rejected.increment();
+            logger.warn("Dropped change message for {}: {}", user, e.getMessage());
+        }
+    }
+
+    /**
+     * Counts sessions closed because the client could not keep up with its messages.
+     *
+     * @param event the closed session
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+            slowConsumers.increment();
+        }
+    }
+
+    /**
+     * Sends the user's pending message.
+     */
+    void flush(String user) {
+        PendingChanges batch = pending.remove(user);
+        if (batch == null) {
+            return;
+        }
+        if (batch.overflowed) {
+            truncated.increment();
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(user, DESTINATION, batch.toDto());
+            sent.increment();
+            fanOutTimer.record(Duration.between(batch.firstCommittedAt, Instant.now()));
+        } catch (MessagingException e) {
+            sendFailures.increment();
+            logger.warn("Failed to push changes to {}: {}", user, e.getMessage());
+        }
+    }
+
+    private void publish(String userEmail, SyncEntityType type, Collection<Long> ids, boolean deleted) {
+        Set<Long> nonNull = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(nonNull::add);
+        }
+        eventPublisher.publishEvent(new EntityChangeEvent(userEmail, type, nonNull, deleted));
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("websocket.changes.dropped")
+                .description("Change messages that did not reach the client")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Changes of one user waiting for the coalescing window to end.
+     * Only mutated inside {@link ConcurrentMap#compute}, and read after it was removed from the map.
+     */
+    private static final class PendingChanges {
+
+        private final Instant firstCommittedAt;
+        private final Map<SyncEntityType, Set<Long>> changed = new EnumMap<>(SyncEntityType.class);
+        private final Map<SyncEntityType, Set<Long>> deleted = new EnumMap<>(SyncEntityType.class);
+        private int idCount;
+        private boolean overflowed;
+
+        private PendingChanges(Instant firstCommittedAt) {
+            this.firstCommittedAt = firstCommittedAt;
+        }
+
+        private void add(EntityChangeEvent event, int maxIds) {
+            if (overflowed) {
+                return;
+            }
+            Set<Long> ids = (event.deleted() ? deleted : changed)
+                    .computeIfAbsent(event.type(), type -> new LinkedHashSet<>());
+            for (Long id : event.ids()) {
+                if (ids.add(id) && ++idCount > maxIds) {
+                    // Too many to list; the client reads the sync feed instead
+                    overflowed = true;
+                    changed.clear();
+                    deleted.clear();
+                    return;
+                }
+            }
+        }
+
+        private ChangeNotificationDto toDto() {
+            return new ChangeNotificationDto(changed, deleted, overflowed);
+        }
+    }
+}
@@ -2,21 +2,27 @@ package com.issuetracker.service;
 
 import com.issuetracker.dto.CommentDto;
 import com.issuetracker.dto.CreateCommentRequest;
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.PageCursor;
 import com.issuetracker.dto.UpdateCommentRequest;
 import com.issuetracker.entity.Comment;
 import com.issuetracker.entity.Issue;
+import com.issuetracker.entity.SyncEntityType;
 import com.issuetracker.entity.User;
 import com.issuetracker.exception.ResourceNotFoundException;
 import com.issuetracker.repository.CommentRepository;
 import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.SyncTombstoneRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,10 +38,21 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final IssueRepository issueRepository;
-
-    public CommentService(CommentRepository commentRepository, IssueRepository issueRepository) {
+    private final FullTextSearch fullTextSearch;
+    private final CacheGenerationService cacheGenerationService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ChangeNotificationService changeNotificationService;
+
+    public CommentService(CommentRepository commentRepository, IssueRepository issueRepository,
+                          FullTextSearch fullTextSearch, CacheGenerationService cacheGenerationService,
+                          SyncTombstoneRepository syncTombstoneRepository,
+                          ChangeNotificationService changeNotificationService) {
         this.commentRepository = commentRepository;
         this.issueRepository = issueRepository;
+        this.fullTextSearch = fullTextSearch;
+        this.cacheGenerationService = cacheGenerationService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.changeNotificationService = changeNotificationService;
     }
 
     /**
@@ -56,6 +73,8 @@ public class CommentService {
         // Create and save comment
         Comment comment = new Comment(user, issue, request.getContent());
         Comment savedComment = commentRepository.save(comment);
+        commentCountChanged(issue, user);
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.COMMENT, List.of(savedComment.getId()));
 
         logger.info("Created comment (ID: {}) for issue '{}' by user {}", 
                    savedComment.getId(), issue.getTitle(), user.getId());
@@ -81,6 +100,7 @@ public class CommentService {
         // Update comment content
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.COMMENT, List.of(updatedComment.getId()));
 
         logger.info("Updated comment (ID: {}) by user {}", 
                    updatedComment.getId(), user.getId());
@@ -155,6 +175,37 @@ public class CommentService {
         return comments.map(this::convertToDto);
     }
 
+    /**
+     * Retrieves comments for a specific issue using keyset pagination, oldest first.
+     *
+     * @param issueId the issue ID
+     * @param user the requesting user
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit requested page size
+     * @param includeTotal whether to run the count query for the total
+     * @return cursor page of comment DTOs
+     * @throws ResourceNotFoundException if issue not found or not owned by user
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDto> getIssueCommentsPage(Long issueId, User user, String cursor,
+                                                      Integer limit, boolean includeTotal) {
+        logger.debug("Retrieving comment page for issue {} by user {} after cursor {}", issueId, user.getId(), cursor);
+
+        PageCursor position = PageCursor.decode(cursor, PageCursor.OLDEST);
+        int pageSize = CursorPage.normalizeLimit(limit);
+
+        // Validate issue ownership
+        Issue issue = issueRepository.findByIdAndUser(issueId, user)
+                .orElseThrow(() -> ResourceNotFoundException.issue(issueId));
+
+        List<Comment> rows = commentRepository.findKeysetPageByIssue(issue,
+                position.getCreatedAt(), position.getId(), PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal ? commentRepository.countByIssue(issue) : null;
+
+        return CursorPage.of(rows, pageSize, comment -> new PageCursor(comment.getCreatedAt(), comment.getId()), total)
+                .map(this::convertToDto);
+    }
+
     /**
      * Retrieves all comments authored by a user with pagination.
      *
@@ -195,6 +246,7 @@ public class CommentService {
 
     /**
      * Searches comments by content with user isolation.
+     * Uses the full-text index on PostgreSQL, best matches first; falls back to LIKE elsewhere.
      *
      * @param user the comment author
      * @param searchTerm the search term
@@ -205,7 +257,9 @@ public class CommentService {
     public Page<CommentDto> searchComments(User user, String searchTerm, Pageable pageable) {
         logger.debug("Searching comments for user {} with term '{}'", user.getId(), searchTerm);
 
-        Page<Comment> comments = commentRepository.findByUserAndContentContainingIgnoreCase(user, searchTerm, pageable);
+        Page<Comment> comments = fullTextSearch.isAvailable()
+                ? commentRepository.searchFullText(user.getId(), searchTerm, FullTextSearch.unsorted(pageable))
+                : commentRepository.findByUserAndContentContainingIgnoreCase(user, searchTerm, pageable);
         return comments.map(this::convertToDto);
     }
 
@@ -222,12 +276,32 @@ public class CommentService {
         Comment comment = commentRepository.findByIdAndUser(commentId, user)
                 .orElseThrow(() -> ResourceNotFoundException.comment(commentId));
 
-        // Delete comment
+        // Delete comment, leaving a tombstone for the sync feed
+        syncTombstoneRepository.recordDeleted(user.getId(), SyncEntityType.COMMENT.name(), commentId, Instant.now());
         commentRepository.delete(comment);
+        commentCountChanged(comment.getIssue(), user);
+        changeNotificationService.deleted(user.getEmail(), SyncEntityType.COMMENT, List.of(commentId));
 
         logger.info("Deleted comment (ID: {}) by user {}", commentId, user.getId());
     }
 
+    /**
+     * Gets the user's comments changed after a sync feed position, in change order.
+     *
+     * @param user the comment author
+     * @param after position of the last comment already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit maximum number of comments
+     * @return changed comment DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getCommentsChangedSince(User user, PageCursor after, Instant until, int limit) {
+        return commentRepository.findChangedSince(user, after.getCreatedAt(), after.getId(), until,
+                        PageRequest.of(0, limit)).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets comment count for an issue.
      *
@@ -245,6 +319,15 @@ public class CommentService {
         return commentRepository.countByIssue(issue);
     }
 
+    /**
+     * Issue lists show comment counts, so they change with the comments of their issues.
+     */
+    private void commentCountChanged(Issue issue, User user) {
+        cacheGenerationService.changed(user.getEmail(), List.of(), Arrays.asList(
+                issue.getSprint() != null ? issue.getSprint().getId() : null,
+                issue.getLastCompletedSprint() != null ? issue.getLastCompletedSprint().getId() : null));
+    }
+
     /**
      * Gets total comment count for a user.
      *
@@ -0,0 +1,216 @@
+package com.issuetracker.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.issuetracker.dto.DashboardMetricsDto;
+import com.issuetracker.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cache layer for dashboard metrics with request coalescing and stale-while-revalidate.
+ *
+ * Metrics are kept in the dashboardMetrics cache, whose TTL is the hard TTL and whose entries
+ * are still evicted by issue writes. Concurrent misses for a user share one computation, which
+ * the other callers wait for up to the wait timeout.
+ * Entries older than the soft TTL are served as they are while one background refresh runs on
+ * the task executor. Entries written by another node are treated as fresh from the first time
+ * this node sees them.
+ * A computation that overlaps a write to the user's data is returned to its callers but not
+ * cached, since it may have read the data from before the write.
+ */
+@Service
+public class DashboardMetricsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardMetricsCache.class);
+
+    public static final String CACHE_NAME = "dashboardMetrics";
+
+    private final DashboardService dashboardService;
+    private final CacheManager cacheManager;
+    private final CacheGenerationService cacheGenerationService;
+    private final Executor taskExecutor;
+    private final long softTtlNanos;
+    private final Duration waitTimeout;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> computedAt;
+    private final ConcurrentMap<String, CompletableFuture<DashboardMetricsDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Timer loadTimer;
+    private final Timer refreshTimer;
+
+    public DashboardMetricsCache(DashboardService dashboardService,
+                                 CacheManager cacheManager,
+                                 CacheGenerationService cacheGenerationService,
+                                 @Qualifier("taskExecutor") Executor taskExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${cache.redis.dashboard-metrics-soft-ttl:60}") long softTtlSeconds,
+                                 @Value("${cache.redis.dashboard-metrics-ttl:180}") long hardTtlSeconds,
+                                 @Value("${cache.redis.dashboard-metrics-wait-timeout:30}") long waitTimeoutSeconds) {
+        this.dashboardService = dashboardService;
+        this.cacheManager = cacheManager;
+        this.cacheGenerationService = cacheGenerationService;
+        this.taskExecutor = taskExecutor;
+        this.softTtlNanos = Duration.ofSeconds(softTtlSeconds).toNanos();
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        // Refresh times only matter while the entries exist
+        this.computedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(hardTtlSeconds))
+                .maximumSize(10_000)
+                .build();
+
+        this.freshHits = requests(meterRegistry, "fresh");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        this.loadTimer = computations(meterRegistry, "load");
+        this.refreshTimer = computations(meterRegistry, "refresh");
+    }
+
+    /**
+     * Returns the user's dashboard metrics, computing them at most once at a time per user.
+     *
+     * @param user the user
+     * @return the cached or computed metrics
+     */
+    public DashboardMetricsDto get(User user) {
+        String key = user.getEmail();
+        Cache.ValueWrapper cached = cache().get(key);
+        if (cached != null && cached.get() instanceof DashboardMetricsDto metrics) {
+            long now = System.nanoTime();
+            long age = now - computedAt.get(key, k -> now);
+            if (age < softTtlNanos) {
+                freshHits.increment();
+            } else {
+                staleHits.increment();
+                compute(user, true);
+            }
+            return metrics;
+        }
+
+        misses.increment();
+        return await(compute(user, false));
+    }
+
+    /**
+     * Recomputes the user's metrics now and replaces the cached entry.
+     * Joins a computation already running for the user instead of starting another.
+     *
+     * @param user the user
+     * @return the computed metrics
+     */
+    public DashboardMetricsDto refresh(User user) {
+        return await(compute(user, false));
+    }
+
+    /**
+     * Starts a computation for the user, or returns the one already running.
+     * Foreground computations run on the calling thread, background ones on the task executor.
+     */
+    private CompletableFuture<DashboardMetricsDto> compute(User user, boolean background) {
+        String key = user.getEmail();
+        CompletableFuture<DashboardMetricsDto> flight = new CompletableFuture<>();
+        CompletableFuture<DashboardMetricsDto> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+
+        // Writes advance the version before evicting the entry, so a computation that saw the
+        // version unchanged after its put cannot have been overtaken by an eviction
+        String version = cacheGenerationService.userVersion(user);
+        Timer timer = background ? refreshTimer : loadTimer;
+        Runnable task = () -> {
+            try {
+                DashboardMetricsDto metrics = timer.record(() -> dashboardService.calculateDashboardMetrics(user));
+                if (isCurrent(version, user)) {
+                    cache().put(key, metrics);
+                    computedAt.put(key, System.nanoTime());
+                    if (!isCurrent(version, user)) {
+                        cache().evict(key);
+                    }
+                } else {
+                    logger.debug("Dashboard metrics of user {} changed while computing, not caching them", user.getId());
+                }
+                flight.complete(metrics);
+            } catch (RuntimeException e) {
+                if (background) {
+                    // The stale entry stays until its hard TTL; the next stale read retries
+                    logger.warn("Failed to refresh dashboard metrics for user {}: {}", user.getId(), e.getMessage());
+                }
+                flight.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        };
+
+        if (background) {
+            taskExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return flight;
+    }
+
+    private boolean isCurrent(String version, User user) {
+        return Objects.equals(version, cacheGenerationService.userVersion(user));
+    }
+
+    /**
+     * Waits for a computation, which only blocks callers that joined another caller's computation.
+     */
+    private DashboardMetricsDto await(CompletableFuture<DashboardMetricsDto> flight) {
+        try {
+            return flight.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out after " + waitTimeout + " waiting for dashboard metrics", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for dashboard metrics", e);
+        }
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("dashboard.metrics.requests")
+                .description("Dashboard metrics requests by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer computations(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("dashboard.metrics.computation")
+                .description("Time taken to compute dashboard metrics, on a miss or in a background refresh")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
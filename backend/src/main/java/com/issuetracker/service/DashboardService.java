@@ -27,13 +27,16 @@ public class DashboardService {
     private final ProjectRepository projectRepository;
     private final IssueRepository issueRepository;
     private final SprintRepository sprintRepository;
+    private final IssueCounterRepository issueCounterRepository;
 
     public DashboardService(ProjectRepository projectRepository,
                            IssueRepository issueRepository,
-                           SprintRepository sprintRepository) {
+                           SprintRepository sprintRepository,
+                           IssueCounterRepository issueCounterRepository) {
         this.projectRepository = projectRepository;
         this.issueRepository = issueRepository;
         this.sprintRepository = sprintRepository;
+        this.issueCounterRepository = issueCounterRepository;
     }
 
     /**
@@ -71,23 +74,21 @@ public class DashboardService {
     private DashboardMetricsDto.ProjectMetrics calculateProjectMetrics(User user) {
         logger.debug("Calculating project metrics for user {}", user.getId());
 
-        long totalProjects = projectRepository.countByUser(user);
-        
-        // Calculate active projects (projects with issues)
-        List<Project> allProjects = projectRepository.findByUserOrderByCreatedAtDesc(user);
-        long activeProjects = allProjects.stream()
-                .mapToLong(project -> issueRepository.countByUserAndProject(user, project))
-                .filter(count -> count > 0)
-                .count();
-
-        // Calculate issues per project
-        Map<String, Long> issuesPerProject = allProjects.stream()
-                .collect(Collectors.toMap(
-                        project -> project.getName(),
-                        project -> issueRepository.countByUserAndProject(user, project),
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        // Every project with its issue count, summed from the issue counters
+        List<Object[]> projectCounts = issueCounterRepository.sumIssuesPerProject(user);
+
+        long totalProjects = projectCounts.size();
+
+        // Calculate active projects (projects with issues) and issues per project
+        long activeProjects = 0;
+        Map<String, Long> issuesPerProject = new LinkedHashMap<>();
+        for (Object[] row : projectCounts) {
+            long issueCount = ((Number) row[2]).longValue();
+            if (issueCount > 0) {
+                activeProjects++;
+            }
+            issuesPerProject.putIfAbsent((String) row[1], issueCount);
+        }
 
         return new DashboardMetricsDto.ProjectMetrics(totalProjects, activeProjects, issuesPerProject);
     }
@@ -101,32 +102,31 @@ public class DashboardService {
     private DashboardMetricsDto.IssueMetrics calculateIssueMetrics(User user) {
         logger.debug("Calculating issue metrics for user {}", user.getId());
 
-        long totalIssues = issueRepository.countByUser(user);
-
-        // Calculate issues by status
-        Map<IssueStatus, Long> issuesByStatus = Arrays.stream(IssueStatus.values())
-                .collect(Collectors.toMap(
-                        status -> status,
-                        status -> issueRepository.countByUserAndStatus(user, status),
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
-
-        // Calculate issues by priority
-        Map<Priority, Long> issuesByPriority = Arrays.stream(Priority.values())
-                .collect(Collectors.toMap(
-                        priority -> priority,
-                        priority -> issueRepository.countByUserAndPriority(user, priority),
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        // Counter buckets summed by status and priority; every metric below is folded from them
+        Map<IssueStatus, Long> issuesByStatus = new LinkedHashMap<>();
+        Arrays.stream(IssueStatus.values()).forEach(status -> issuesByStatus.put(status, 0L));
+        Map<Priority, Long> issuesByPriority = new LinkedHashMap<>();
+        Arrays.stream(Priority.values()).forEach(priority -> issuesByPriority.put(priority, 0L));
+
+        long totalIssues = 0;
+        long totalEpics = 0;
+        for (Object[] row : issueCounterRepository.sumByStatusAndPriority(user)) {
+            IssueStatus status = (IssueStatus) row[0];
+            Priority priority = (Priority) row[1];
+            long count = ((Number) row[2]).longValue();
+            long parentless = row[3] != null ? ((Number) row[3]).longValue() : 0;
+
+            issuesByStatus.merge(status, count, Long::sum);
+            issuesByPriority.merge(priority, count, Long::sum);
+            totalIssues += count;
+            totalEpics += parentless;
+        }
 
-        long backlogIssues = issueRepository.countByUserAndStatus(user, IssueStatus.BACKLOG);
-        long completedIssues = issueRepository.countByUserAndStatus(user, IssueStatus.DONE);
+        long backlogIssues = issuesByStatus.get(IssueStatus.BACKLOG);
+        long completedIssues = issuesByStatus.get(IssueStatus.DONE);
 
         // Epic metrics
-        long totalEpics = issueRepository.countByUserAndParentIssueIsNull(user);
-        long totalChildIssues = issueRepository.countByUserAndParentIssueIsNotNull(user);
+        long totalChildIssues = totalIssues - totalEpics;
 
         return new DashboardMetricsDto.IssueMetrics(
                 totalIssues, issuesByStatus, issuesByPriority, backlogIssues, completedIssues, totalEpics, totalChildIssues);
@@ -222,7 +222,8 @@ public class DashboardService {
     }
 
     /**
-     * Calculates the average completion rate across all completed sprints.
+     * Calculates the average completion rate across all completed sprints,
+     * using the totals frozen when each sprint was completed.
      *
      * @param user the user
      * @return average completion percentage
@@ -230,32 +231,13 @@ public class DashboardService {
     private double calculateAverageSprintCompletion(User user) {
         logger.debug("Calculating average sprint completion for user {}", user.getId());
 
-        List<Sprint> completedSprints = sprintRepository.findByUserAndStatusOrderByCreatedAtDesc(user, SprintStatus.COMPLETED);
-        
-        if (completedSprints.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalCompletionRate = 0.0;
-        int validSprints = 0;
-
-        for (Sprint sprint : completedSprints) {
-            List<Issue> sprintIssues = issueRepository.findByUserAndSprint(user, sprint);
-            if (!sprintIssues.isEmpty()) {
-                long completedIssues = sprintIssues.stream()
-                        .mapToLong(issue -> issue.getStatus() == IssueStatus.DONE ? 1 : 0)
-                        .sum();
-                double completionRate = (double) completedIssues / sprintIssues.size() * 100;
-                totalCompletionRate += completionRate;
-                validSprints++;
-            }
-        }
-
-        return validSprints > 0 ? totalCompletionRate / validSprints : 0.0;
+        Double average = sprintRepository.averageCompletionFromSnapshots(user);
+        return average != null ? average : 0.0;
     }
 
     /**
      * Gets real-time project statistics for a specific project.
+     * The status and priority breakdowns count the project's issues only, so they add up to the total.
      *
      * @param projectId the project ID
      * @param user the user
@@ -272,28 +254,22 @@ public class DashboardService {
         Project project = projectOpt.get();
         Map<String, Object> stats = new HashMap<>();
 
-        // Basic counts
-        long totalIssues = issueRepository.countByUserAndProject(user, project);
-        stats.put("totalIssues", totalIssues);
+        // Issues by status and priority, summed from this project's counter buckets
+        Map<IssueStatus, Long> issuesByStatus = new LinkedHashMap<>();
+        Arrays.stream(IssueStatus.values()).forEach(status -> issuesByStatus.put(status, 0L));
+        Map<Priority, Long> issuesByPriority = new LinkedHashMap<>();
+        Arrays.stream(Priority.values()).forEach(priority -> issuesByPriority.put(priority, 0L));
+
+        long totalIssues = 0;
+        for (Object[] row : issueCounterRepository.sumByStatusAndPriorityForProject(user, project.getId())) {
+            long count = ((Number) row[2]).longValue();
+            issuesByStatus.merge((IssueStatus) row[0], count, Long::sum);
+            issuesByPriority.merge((Priority) row[1], count, Long::sum);
+            totalIssues += count;
+        }
 
-        // Issues by status
-        Map<IssueStatus, Long> issuesByStatus = Arrays.stream(IssueStatus.values())
-                .collect(Collectors.toMap(
-                        status -> status,
-                        status -> issueRepository.countByUserAndStatus(user, status),
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        stats.put("totalIssues", totalIssues);
         stats.put("issuesByStatus", issuesByStatus);
-
-        // Issues by priority
-        Map<Priority, Long> issuesByPriority = Arrays.stream(Priority.values())
-                .collect(Collectors.toMap(
-                        priority -> priority,
-                        priority -> issueRepository.countByUserAndPriority(user, priority),
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
         stats.put("issuesByPriority", issuesByPriority);
 
         logger.info("Retrieved project statistics for project {} and user {}: {} total issues",
@@ -0,0 +1,17 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.SyncEntityType;
+
+import java.util.Set;
+
+/**
+ * Entities changed by a write, published by {@link ChangeNotificationService} and pushed to the
+ * owner's WebSocket sessions once the write has committed.
+ *
+ * @param userEmail the owner of the changed entities
+ * @param type the kind of the changed entities
+ * @param ids the IDs of the changed entities
+ * @param deleted whether the entities were deleted
+ */
+public record EntityChangeEvent(String userEmail, SyncEntityType type, Set<Long> ids, boolean deleted) {
+}
@@ -0,0 +1,116 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.AuditLogRepository;
+import com.issuetracker.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service for streaming exports of a user's issues and audit trail.
+ * Rows are read with a forward-only database cursor and written as they arrive,
+ * so memory use does not depend on the number of exported rows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    static final String[] ISSUE_COLUMNS = {
+        "id", "projectKey", "issueType", "title", "description", "status", "priority", "storyPoints",
+        "sprintId", "sprintName", "epicId", "epicTitle", "labels", "createdAt", "updatedAt"
+    };
+
+    static final String[] AUDIT_COLUMNS = {
+        "id", "createdAt", "action", "details", "issueId", "issueTitle"
+    };
+
+    // Position of the label name in the issue export rows
+    private static final int LABEL_COLUMN = 14;
+
+    private final IssueRepository issueRepository;
+    private final AuditLogRepository auditLogRepository;
+
+    public ExportService(IssueRepository issueRepository, AuditLogRepository auditLogRepository) {
+        this.issueRepository = issueRepository;
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    /**
+     * Writes all of the user's issues, with their labels and epic, to the output stream.
+     *
+     * @param user the issue owner
+     * @param format the output format
+     * @param out the stream to write to
+     * @return number of exported issues
+     * @throws IOException if writing fails
+     */
+    public long exportIssues(User user, ExportFormat format, OutputStream out) throws IOException {
+        long exported = 0;
+        try (Stream<Object[]> rows = issueRepository.streamExportRows(user.getId());
+             ExportWriter writer = ExportWriter.create(format, out, ISSUE_COLUMNS)) {
+            // One row per issue and label: collect the labels of adjacent rows, write when the issue changes
+            Iterator<Object[]> iterator = rows.iterator();
+            Object[] current = null;
+            List<String> labels = new ArrayList<>();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (current != null && !current[0].equals(row[0])) {
+                    writeIssue(writer, current, labels);
+                    exported++;
+                    labels.clear();
+                }
+                current = row;
+                if (row[LABEL_COLUMN] != null) {
+                    labels.add((String) row[LABEL_COLUMN]);
+                }
+            }
+            if (current != null) {
+                writeIssue(writer, current, labels);
+                exported++;
+            }
+        }
+
+        logger.info("📤 Exported {} issues as {} for user {}", exported, format, user.getId());
+        return exported;
+    }
+
+    /**
+     * Writes the audit trail recorded for the user to the output stream, oldest first.
+     *
+     * @param user the user who made the changes
+     * @param format the output format
+     * @param out the stream to write to
+     * @return number of exported audit entries
+     * @throws IOException if writing fails
+     */
+    public long exportAuditTrail(User user, ExportFormat format, OutputStream out) throws IOException {
+        long exported = 0;
+        try (Stream<Object[]> rows = auditLogRepository.streamExportRows(user.getId());
+             ExportWriter writer = ExportWriter.create(format, out, AUDIT_COLUMNS)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(iterator.next());
+                exported++;
+            }
+        }
+
+        logger.info("📤 Exported {} audit entries as {} for user {}", exported, format, user.getId());
+        return exported;
+    }
+
+    private void writeIssue(ExportWriter writer, Object[] row, List<String> labels) throws IOException {
+        writer.writeRow(row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7],
+                        row[8], row[9], row[10], row[11], labels, row[12], row[13]);
+    }
+}
@@ -0,0 +1,147 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Writes export rows to an output stream one at a time, without buffering the export.
+ * Values may be null, numbers, collections of strings, or anything with a meaningful toString.
+ * Closing the writer flushes it but leaves the underlying stream open.
+ */
+abstract class ExportWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    protected final String[] columns;
+
+    protected ExportWriter(String[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format the output format
+     * @param out the stream to write to
+     * @param columns the column names, in row value order
+     * @return the export writer
+     * @throws IOException if the header cannot be written
+     */
+    static ExportWriter create(ExportFormat format, OutputStream out, String... columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, columns);
+            case CSV -> new CsvWriter(out, columns);
+        };
+    }
+
+    /**
+     * Writes one row.
+     *
+     * @param values the row values, one per column
+     * @throws IOException if writing fails, e.g. the client disconnected
+     */
+    abstract void writeRow(Object... values) throws IOException;
+
+    private static final class NdjsonWriter extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(out);
+        }
+
+        @Override
+        void writeRow(Object... values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeFieldName(columns[i]);
+                writeValue(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Integer number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Collection<?> items) {
+                generator.writeStartArray();
+                for (Object item : items) {
+                    generator.writeString(item.toString());
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter extends ExportWriter {
+
+        // Collections are joined into one cell
+        private static final String ITEM_SEPARATOR = ";";
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeRow((Object[]) columns);
+        }
+
+        @Override
+        void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        /**
+         * Quotes a cell when needed (RFC 4180), and defuses values a spreadsheet would evaluate as formulas.
+         */
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof Collection<?> items
+                    ? String.join(ITEM_SEPARATOR, items.stream().map(Object::toString).toList())
+                    : value.toString();
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return text;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.issuetracker.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared helpers for full-text search.
+ * The tsvector columns and GIN indexes only exist on PostgreSQL (see V13 migration),
+ * so searches fall back to LIKE queries on other databases such as the H2 test database.
+ */
+@Component
+public class FullTextSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(FullTextSearch.class);
+
+    /**
+     * Markers wrapped around matched terms in highlighted fragments.
+     * Fragment text outside the markers is HTML-escaped.
+     */
+    public static final String HIGHLIGHT_START = "<mark>";
+    public static final String HIGHLIGHT_STOP = "</mark>";
+
+    private final boolean available;
+
+    public FullTextSearch(EntityManagerFactory entityManagerFactory) {
+        this.available = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        logger.info("🔎 Full-text search {}", available ? "enabled (PostgreSQL tsvector)" : "unavailable, using LIKE fallback");
+    }
+
+    /**
+     * Whether the database supports the tsvector search columns.
+     *
+     * @return true on PostgreSQL
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Drops any sort from a page request, since native search queries order by rank.
+     *
+     * @param pageable the requested page
+     * @return the same page without sort
+     */
+    public static Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    /**
+     * Escapes text and highlights every case-insensitive occurrence of the term.
+     * Used by the LIKE fallback to produce fragments in the same format as ts_headline.
+     *
+     * @param text the text to highlight, may be null
+     * @param term the search term
+     * @return the escaped, highlighted text, or null if text is null
+     */
+    public static String highlight(String text, String term) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = Pattern.compile(Pattern.quote(term), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                .matcher(text);
+        StringBuilder result = new StringBuilder();
+        int last = 0;
+        while (matcher.find()) {
+            result.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append(HIGHLIGHT_START)
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append(HIGHLIGHT_STOP);
+            last = matcher.end();
+        }
+        result.append(HtmlUtils.htmlEscape(text.substring(last)));
+        return result.toString();
+    }
+
+    /**
+     * Checks whether the text contains the term, ignoring case.
+     *
+     * @param text the text, may be null
+     * @param term the search term
+     * @return true if the term occurs in the text
+     */
+    public static boolean contains(String text, String term) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,49 @@
+package com.issuetracker.service;
+
+import com.issuetracker.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that verifies the issue_counters read model against the issues table.
+ * Each user is reconciled in its own transactions so one failure does not stop the run.
+ */
+@Component
+public class IssueCounterReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueCounterReconciliationJob.class);
+
+    private final IssueCounterService issueCounterService;
+    private final UserRepository userRepository;
+
+    public IssueCounterReconciliationJob(IssueCounterService issueCounterService, UserRepository userRepository) {
+        this.issueCounterService = issueCounterService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Reconciles the counters of every user.
+     *
+     * @return total number of repaired buckets
+     */
+    @Scheduled(cron = "${performance.counters.reconciliation-cron:0 30 3 * * *}")
+    public int reconcileAll() {
+        logger.info("🔍 Starting issue counter reconciliation");
+
+        int repaired = 0;
+        int failed = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            try {
+                repaired += issueCounterService.reconcile(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                logger.error("❌ Issue counter reconciliation failed for user {}", userId, e);
+            }
+        }
+
+        logger.info("✅ Issue counter reconciliation finished: {} buckets repaired, {} users failed", repaired, failed);
+        return repaired;
+    }
+}
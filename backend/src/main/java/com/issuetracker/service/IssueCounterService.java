@@ -0,0 +1,447 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.IssueCounterRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Service maintaining the issue_counters read model and the child progress counters of epics.
+ * Issue writes report the buckets an issue leaves and enters; the deltas are folded per
+ * bucket and applied with atomic upserts in the caller's transaction.
+ * A reconciliation pass recomputes the buckets from the issues table to repair drift.
+ * Writers and reconciliation serialize on the issue owner's user row: writers share it,
+ * reconciliation locks it exclusively, so no delta lands between the recount and the overwrite.
+ */
+@Service
+@Transactional
+public class IssueCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueCounterService.class);
+
+    private final IssueCounterRepository issueCounterRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean onConflictSupported;
+
+    public IssueCounterService(IssueCounterRepository issueCounterRepository,
+                               IssueRepository issueRepository,
+                               UserRepository userRepository,
+                               ProjectRepository projectRepository,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory) {
+        this.issueCounterRepository = issueCounterRepository;
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.onConflictSupported = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * The counter bucket an issue falls into, captured before the issue is modified.
+     */
+    public record Bucket(Long userId, Long projectId, IssueStatus status, Priority priority, boolean topLevel) {
+
+        public static Bucket of(Issue issue) {
+            return new Bucket(issue.getUser().getId(), issue.getProject().getId(),
+                    issue.getStatus(), issue.getPriority(), issue.getParentIssue() == null);
+        }
+
+        private Key key() {
+            return new Key(userId, projectId, status, priority);
+        }
+    }
+
+    private record Key(Long userId, Long projectId, IssueStatus status, Priority priority) {}
+
+    /**
+     * Child progress of an epic.
+     */
+    public record EpicProgress(int total, int done) {
+
+        public boolean allDone() {
+            return total > 0 && done == total;
+        }
+    }
+
+    /**
+     * Captures the current buckets of the given issues, keyed by issue ID.
+     *
+     * @param issues the issues about to be modified
+     * @return buckets by issue ID
+     */
+    public Map<Long, Bucket> snapshot(Collection<Issue> issues) {
+        Map<Long, Bucket> buckets = new HashMap<>();
+        for (Issue issue : issues) {
+            buckets.put(issue.getId(), Bucket.of(issue));
+        }
+        return buckets;
+    }
+
+    /**
+     * Counts a newly created issue.
+     *
+     * @param issue the saved issue
+     */
+    public void issueCreated(Issue issue) {
+        applyChanges(List.of(), List.of(Bucket.of(issue)));
+    }
+
+    /**
+     * Moves an issue from its previous bucket to its current one.
+     *
+     * @param before the bucket captured before the change
+     * @param issue the issue after the change
+     */
+    public void issueChanged(Bucket before, Issue issue) {
+        applyChanges(List.of(before), List.of(Bucket.of(issue)));
+    }
+
+    /**
+     * Moves a set of issues from their previous buckets to their current ones.
+     *
+     * @param before buckets captured with {@link #snapshot(Collection)} before the change
+     * @param issues the issues after the change; repeated issues are counted once
+     */
+    public void issuesChanged(Map<Long, Bucket> before, Collection<Issue> issues) {
+        List<Bucket> after = new ArrayList<>();
+        List<Bucket> previous = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Issue issue : issues) {
+            Bucket old = before.get(issue.getId());
+            if (old != null && seen.add(issue.getId())) {
+                previous.add(old);
+                after.add(Bucket.of(issue));
+            }
+        }
+        applyChanges(previous, after);
+    }
+
+    /**
+     * Moves issues that were bulk updated to a new status from their previous buckets.
+     *
+     * @param userId the issue owner ID
+     * @param before rows of [project id, status, priority, issue count, parentless issue count]
+     *               aggregated over the issues before the update
+     * @param newStatus the status the issues now have
+     */
+    public void issuesMovedToStatus(Long userId, List<Object[]> before, IssueStatus newStatus) {
+        issuesMoved(userId, before, newStatus, null);
+    }
+
+    /**
+     * Moves issues that were bulk updated to a new priority from their previous buckets.
+     *
+     * @param userId the issue owner ID
+     * @param before rows of [project id, status, priority, issue count, parentless issue count]
+     *               aggregated over the issues before the update
+     * @param newPriority the priority the issues now have
+     */
+    public void issuesMovedToPriority(Long userId, List<Object[]> before, Priority newPriority) {
+        issuesMoved(userId, before, null, newPriority);
+    }
+
+    /**
+     * Applies a bulk move of aggregated issues; a null status or priority is left unchanged.
+     */
+    private void issuesMoved(Long userId, List<Object[]> before, IssueStatus newStatus, Priority newPriority) {
+        Map<Key, long[]> deltas = new LinkedHashMap<>();
+        for (Object[] row : before) {
+            Long projectId = (Long) row[0];
+            IssueStatus status = (IssueStatus) row[1];
+            Priority priority = (Priority) row[2];
+            long issues = ((Number) row[3]).longValue();
+            long topLevel = ((Number) row[4]).longValue();
+
+            long[] removed = deltas.computeIfAbsent(new Key(userId, projectId, status, priority), key -> new long[2]);
+            removed[0] -= issues;
+            removed[1] -= topLevel;
+            Key target = new Key(userId, projectId,
+                    newStatus != null ? newStatus : status, newPriority != null ? newPriority : priority);
+            long[] added = deltas.computeIfAbsent(target, key -> new long[2]);
+            added[0] += issues;
+            added[1] += topLevel;
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Adds issues created in bulk to their buckets.
+     *
+     * @param buckets the buckets of the new issues
+     */
+    public void issuesCreated(Collection<Bucket> buckets) {
+        applyChanges(List.of(), buckets);
+    }
+
+    /**
+     * Removes deleted issues from their buckets.
+     *
+     * @param buckets the buckets captured before the issues were deleted
+     */
+    public void issuesDeleted(Collection<Bucket> buckets) {
+        applyChanges(buckets, List.of());
+    }
+
+    /**
+     * Moves a child issue between epics and done states in the epic progress counters.
+     * A null parent means the issue is not (or no longer) a child, e.g. on create or delete.
+     *
+     * @param oldParentId the parent epic ID before the change
+     * @param oldStatus the status before the change
+     * @param newParentId the parent epic ID after the change
+     * @param newStatus the status after the change
+     */
+    public void epicChildChanged(Long oldParentId, IssueStatus oldStatus, Long newParentId, IssueStatus newStatus) {
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        if (oldParentId != null) {
+            int[] delta = deltas.computeIfAbsent(oldParentId, id -> new int[2]);
+            delta[0]--;
+            delta[1] -= oldStatus == IssueStatus.DONE ? 1 : 0;
+        }
+        if (newParentId != null) {
+            int[] delta = deltas.computeIfAbsent(newParentId, id -> new int[2]);
+            delta[0]++;
+            delta[1] += newStatus == IssueStatus.DONE ? 1 : 0;
+        }
+        applyEpicDeltas(deltas);
+    }
+
+    /**
+     * Adds child issues created in bulk to their epics' progress.
+     *
+     * @param created rows of [parent epic ID, child count, DONE child count] of the new issues
+     */
+    public void epicChildrenCreated(List<Object[]> created) {
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        for (Object[] row : created) {
+            int[] delta = deltas.computeIfAbsent((Long) row[0], id -> new int[2]);
+            delta[0] += ((Number) row[1]).intValue();
+            delta[1] += ((Number) row[2]).intValue();
+        }
+        applyEpicDeltas(deltas);
+    }
+
+    /**
+     * Updates epic progress after child issues were bulk updated to a new status.
+     *
+     * @param before rows of [parent epic ID, child count, DONE child count]
+     *               aggregated over the issues before the update
+     * @param newStatus the status the issues now have
+     */
+    public void epicChildrenMovedToStatus(List<Object[]> before, IssueStatus newStatus) {
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        for (Object[] row : before) {
+            int children = ((Number) row[1]).intValue();
+            int done = ((Number) row[2]).intValue();
+            int doneAfter = newStatus == IssueStatus.DONE ? children : 0;
+            deltas.put((Long) row[0], new int[] {0, doneAfter - done});
+        }
+        applyEpicDeltas(deltas);
+    }
+
+    /**
+     * Reads an epic's child progress, including changes made earlier in the transaction.
+     *
+     * @param epicId the epic ID
+     * @return the epic's progress, or no progress if the epic does not exist
+     */
+    @Transactional(readOnly = true)
+    public EpicProgress getEpicProgress(Long epicId) {
+        List<Object[]> rows = issueRepository.findChildProgress(epicId);
+        if (rows.isEmpty()) {
+            return new EpicProgress(0, 0);
+        }
+        return new EpicProgress(((Number) rows.get(0)[0]).intValue(), ((Number) rows.get(0)[1]).intValue());
+    }
+
+    private void applyEpicDeltas(Map<Long, int[]> deltas) {
+        deltas.forEach((epicId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                issueRepository.adjustChildProgress(epicId, delta[0], delta[1]);
+            }
+        });
+    }
+
+    /**
+     * Folds bucket moves into one delta per bucket and applies the non-zero ones.
+     */
+    private void applyChanges(Collection<Bucket> removed, Collection<Bucket> added) {
+        Map<Key, long[]> deltas = new LinkedHashMap<>();
+        for (Bucket bucket : removed) {
+            long[] delta = deltas.computeIfAbsent(bucket.key(), key -> new long[2]);
+            delta[0]--;
+            delta[1] -= bucket.topLevel() ? 1 : 0;
+        }
+        for (Bucket bucket : added) {
+            long[] delta = deltas.computeIfAbsent(bucket.key(), key -> new long[2]);
+            delta[0]++;
+            delta[1] += bucket.topLevel() ? 1 : 0;
+        }
+
+        applyDeltas(deltas);
+    }
+
+    private void applyDeltas(Map<Key, long[]> deltas) {
+        Map<Key, long[]> changed = new LinkedHashMap<>();
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                changed.put(key, delta);
+            }
+        });
+
+        // Lock the owners in ID order so that writers spanning several users cannot deadlock
+        SortedSet<Long> userIds = new TreeSet<>();
+        changed.keySet().forEach(key -> userIds.add(key.userId()));
+        for (Long userId : userIds) {
+            if (onConflictSupported) {
+                issueCounterRepository.lockUserForKeyShare(userId);
+            } else {
+                issueCounterRepository.lockUser(userId);
+            }
+        }
+
+        changed.forEach((key, delta) -> adjust(key, delta[0], delta[1]));
+    }
+
+    private void adjust(Key key, long issueDelta, long topLevelDelta) {
+        if (issueDelta < 0 || topLevelDelta < 0) {
+            int updated = issueCounterRepository.adjust(
+                    key.userId(), key.projectId(), key.status(), key.priority(), issueDelta, topLevelDelta);
+            if (updated == 0) {
+                // Nothing to decrement: the bucket has drifted, reconciliation will rebuild it
+                logger.warn("⚠️ Missing issue counter bucket {} for negative delta, leaving it to reconciliation", key);
+            }
+            return;
+        }
+
+        if (onConflictSupported) {
+            issueCounterRepository.upsert(key.userId(), key.projectId(), key.status().name(),
+                    key.priority().name(), issueDelta, topLevelDelta);
+        } else {
+            issueCounterRepository.merge(key.userId(), key.projectId(), key.status().name(),
+                    key.priority().name(), issueDelta, topLevelDelta);
+        }
+    }
+
+    /**
+     * Sums a user's counters by status and priority across projects.
+     *
+     * @param user the issue owner
+     * @return rows of [status, priority, issue count, parentless issue count]
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> sumByStatusAndPriority(User user) {
+        return issueCounterRepository.sumByStatusAndPriority(user);
+    }
+
+    /**
+     * Verifies a user's counters and epic progress against the issues table and repairs any drift.
+     * Unless the caller already has a transaction, the counters and the epics are repaired in
+     * separate transactions: holding the user lock while locking the epics could deadlock with
+     * a writer that has adjusted an epic row and waits for the user lock.
+     *
+     * @param userId the user ID
+     * @return number of buckets and epics that were repaired
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int reconcile(Long userId) {
+        int repaired = transactionTemplate.execute(status -> reconcileCounters(userId));
+        return repaired + transactionTemplate.execute(status -> reconcileEpicProgress(userId));
+    }
+
+    private int reconcileCounters(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        // Writers take the user lock before adjusting the buckets and keep it until their issue
+        // writes commit, so once it is held exclusively the issues read below match the buckets
+        issueCounterRepository.lockUser(userId);
+
+        Map<Key, long[]> actual = new HashMap<>();
+        for (Object[] row : issueRepository.aggregateCounterBuckets(user)) {
+            Key key = new Key(userId, (Long) row[0], (IssueStatus) row[1], (Priority) row[2]);
+            long topLevel = row[4] != null ? ((Number) row[4]).longValue() : 0;
+            actual.put(key, new long[] {((Number) row[3]).longValue(), topLevel});
+        }
+
+        int repaired = 0;
+        for (Object[] row : issueCounterRepository.findBucketsByUser(user)) {
+            Long counterId = (Long) row[0];
+            Key key = new Key(userId, (Long) row[1], (IssueStatus) row[2], (Priority) row[3]);
+            long issueCount = ((Number) row[4]).longValue();
+            long topLevelCount = ((Number) row[5]).longValue();
+            long[] expected = actual.remove(key);
+
+            if (expected == null) {
+                if (issueCount != 0 || topLevelCount != 0) {
+                    logger.warn("⚠️ Issue counter drift for {}: counted {}/{}, actual 0/0", key, issueCount, topLevelCount);
+                    repaired++;
+                }
+                issueCounterRepository.deleteBucket(counterId);
+            } else if (issueCount != expected[0] || topLevelCount != expected[1]) {
+                logger.warn("⚠️ Issue counter drift for {}: counted {}/{}, actual {}/{}", key,
+                           issueCount, topLevelCount, expected[0], expected[1]);
+                issueCounterRepository.setCounts(counterId, expected[0], expected[1]);
+                repaired++;
+            }
+        }
+
+        for (Map.Entry<Key, long[]> missing : actual.entrySet()) {
+            Key key = missing.getKey();
+            issueCounterRepository.save(new IssueCounter(user, projectRepository.getReferenceById(key.projectId()),
+                    key.status(), key.priority(), missing.getValue()[0], missing.getValue()[1]));
+            repaired++;
+        }
+
+        if (repaired > 0) {
+            logger.info("🔧 Repaired {} issue counter buckets for user {}", repaired, userId);
+        }
+        return repaired;
+    }
+
+    /**
+     * Recounts the children of a user's epics and repairs drifted progress counters.
+     *
+     * @return number of epics that were repaired
+     */
+    private int reconcileEpicProgress(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        // Child writes adjust the epic row in their own transaction, so once the epics are
+        // locked the children counted below include every adjustment made to them
+        issueRepository.lockTopLevelIssuesByUser(userId);
+        int repaired = 0;
+        for (Object[] row : issueRepository.compareChildProgress(user)) {
+            Long epicId = (Long) row[0];
+            int total = ((Number) row[1]).intValue();
+            int done = ((Number) row[2]).intValue();
+            int actualTotal = ((Number) row[3]).intValue();
+            int actualDone = ((Number) row[4]).intValue();
+            if (total != actualTotal || done != actualDone) {
+                logger.warn("⚠️ Epic progress drift for issue {}: counted {}/{}, actual {}/{}",
+                           epicId, done, total, actualDone, actualTotal);
+                issueRepository.setChildProgress(epicId, actualTotal, actualDone);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            logger.info("🔧 Repaired child progress of {} epics for user {}", repaired, userId);
+        }
+        return repaired;
+    }
+}
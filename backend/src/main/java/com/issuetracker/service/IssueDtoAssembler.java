@@ -0,0 +1,196 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.LabelDto;
+import com.issuetracker.entity.Issue;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.repository.CommentRepository;
+import com.issuetracker.repository.IssueRepository;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles issue DTOs for a whole page of issues at once.
+ * Related entities, comment counts and epic child counts are resolved with a constant
+ * number of grouped queries per page instead of several queries per row.
+ */
+@Component
+@Transactional(readOnly = true)
+public class IssueDtoAssembler {
+
+    private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+
+    public IssueDtoAssembler(IssueRepository issueRepository, CommentRepository commentRepository) {
+        this.issueRepository = issueRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    /**
+     * Converts a single issue to its DTO.
+     *
+     * @param issue the issue entity
+     * @return the issue DTO
+     * @throws ResourceNotFoundException if the issue had to be reloaded and no longer exists
+     */
+    public IssueDto toDto(Issue issue) {
+        List<IssueDto> dtos = toDtos(List.of(issue));
+        if (dtos.isEmpty()) {
+            throw ResourceNotFoundException.issue(issue.getId());
+        }
+        return dtos.get(0);
+    }
+
+    /**
+     * Converts a page of issues to a page of DTOs, keeping the paging metadata.
+     * Issues deleted since they were read are left out and no longer counted in the total.
+     *
+     * @param issues the page of issue entities
+     * @return the page of issue DTOs
+     */
+    public Page<IssueDto> toDtoPage(Page<Issue> issues) {
+        List<IssueDto> content = toDtos(issues.getContent());
+        long deleted = issues.getNumberOfElements() - content.size();
+        return new PageImpl<>(content, issues.getPageable(), issues.getTotalElements() - deleted);
+    }
+
+    /**
+     * Converts a list of issues to DTOs, preserving order.
+     * Issues deleted since they were read are left out.
+     *
+     * @param issues the issue entities
+     * @return the issue DTOs
+     */
+    public List<IssueDto> toDtos(List<Issue> issues) {
+        if (issues.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> ids = issues.stream().map(Issue::getId).toList();
+        Map<Long, Issue> resolved = resolveAssociations(issues, ids);
+        Map<Long, Long> commentCounts = toCountMap(commentRepository.countByIssueIds(ids));
+        Map<Long, Long> childCounts = countChildren(resolved.values());
+
+        return ids.stream()
+                .filter(resolved::containsKey)
+                .map(id -> convert(resolved.get(id),
+                        commentCounts.getOrDefault(id, 0L),
+                        childCounts.getOrDefault(id, 0L)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the children of the epics among the given issues, with one query per epic owner.
+     */
+    private Map<Long, Long> countChildren(Collection<Issue> issues) {
+        Map<Long, List<Issue>> epicsByUser = issues.stream()
+                .filter(Issue::isEpic)
+                .collect(Collectors.groupingBy(issue -> issue.getUser().getId()));
+        Map<Long, Long> childCounts = new HashMap<>();
+        for (List<Issue> epics : epicsByUser.values()) {
+            List<Long> epicIds = epics.stream().map(Issue::getId).toList();
+            childCounts.putAll(toCountMap(issueRepository.countChildrenByParentIds(epicIds, epics.get(0).getUser())));
+        }
+        return childCounts;
+    }
+
+    /**
+     * Makes sure the associations rendered in the DTO are loaded.
+     * Issues read through one of the Issue fetch plans are used as they are;
+     * otherwise the whole batch is reloaded with a single fetch-join query.
+     * Labels are not checked since they are batch fetched on first access.
+     */
+    private Map<Long, Issue> resolveAssociations(List<Issue> issues, List<Long> ids) {
+        boolean initialized = issues.stream().allMatch(this::hasInitializedAssociations);
+        List<Issue> source = initialized ? issues : issueRepository.findWithAssociationsByIdIn(ids);
+        Map<Long, Issue> byId = new HashMap<>();
+        for (Issue issue : source) {
+            byId.put(issue.getId(), issue);
+        }
+        return byId;
+    }
+
+    private boolean hasInitializedAssociations(Issue issue) {
+        return Hibernate.isInitialized(issue.getProject())
+                && Hibernate.isInitialized(issue.getIssueType())
+                && Hibernate.isInitialized(issue.getSprint())
+                && Hibernate.isInitialized(issue.getLastCompletedSprint())
+                && Hibernate.isInitialized(issue.getParentIssue());
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(
+                row -> (Long) row[0],
+                row -> ((Number) row[1]).longValue(),
+                Long::sum));
+    }
+
+    /**
+     * Maps an issue with its associations already loaded to an IssueDto.
+     */
+    private IssueDto convert(Issue issue, long commentCount, long childCount) {
+        IssueDto dto = new IssueDto(
+                issue.getId(),
+                issue.getTitle(),
+                issue.getDescription(),
+                issue.getStatus(),
+                issue.getPriority(),
+                issue.getStoryPoints(),
+                issue.getCreatedAt(),
+                issue.getUpdatedAt()
+        );
+
+        // Set project information
+        dto.setProjectId(issue.getProject().getId());
+        dto.setProjectName(issue.getProject().getName());
+        dto.setProjectKey(issue.getProject().getKey());
+
+        // Set sprint information
+        if (issue.getSprint() != null) {
+            dto.setSprintId(issue.getSprint().getId());
+            dto.setSprintName(issue.getSprint().getName());
+        }
+
+        // Set last completed sprint information
+        if (issue.getLastCompletedSprint() != null) {
+            dto.setLastCompletedSprintId(issue.getLastCompletedSprint().getId());
+            dto.setLastCompletedSprintName(issue.getLastCompletedSprint().getName());
+        }
+
+        // Set issue type information
+        dto.setIssueTypeId(issue.getIssueType().getId());
+        dto.setIssueTypeName(issue.getIssueType().getName());
+
+        // Set labels
+        if (issue.getLabels() != null && !issue.getLabels().isEmpty()) {
+            List<LabelDto> labelDtos = issue.getLabels().stream()
+                    .map(label -> new LabelDto(label.getId(), label.getName(), label.getColor(), label.getCreatedAt()))
+                    .collect(Collectors.toList());
+            dto.setLabels(labelDtos);
+        }
+
+        dto.setCommentCount(commentCount);
+
+        // Set epic hierarchy information
+        if (issue.getParentIssue() != null) {
+            dto.setParentIssueId(issue.getParentIssue().getId());
+            dto.setParentIssueTitle(issue.getParentIssue().getTitle());
+        }
+
+        // Set epic status based on issue type, not parent relationship
+        dto.setEpic(issue.isEpic());
+        dto.setChildIssueCount(issue.isEpic() ? childCount : 0L);
+
+        return dto;
+    }
+}
@@ -0,0 +1,217 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.exception.InvalidImportException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads import records one at a time from CSV (with a header row) or NDJSON input.
+ * Each record maps column names to raw text values; list values such as labels
+ * are joined with {@link #ITEM_SEPARATOR}, as in the export.
+ */
+abstract class IssueImportReader implements Closeable {
+
+    static final String ITEM_SEPARATOR = ";";
+
+    static final List<String> REQUIRED_COLUMNS = List.of("projectKey", "issueType", "title", "priority");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    protected int recordNumber;
+
+    /**
+     * Opens a reader for the given format.
+     *
+     * @param format the input format
+     * @param in the input stream
+     * @return the import reader
+     * @throws IOException if the input cannot be opened
+     */
+    static IssueImportReader open(ExportFormat format, InputStream in) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonReader(in);
+            case CSV -> new CsvReader(in);
+        };
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record's values by column name, or null at the end of the input
+     * @throws InvalidImportException if the input is malformed
+     */
+    abstract Map<String, String> next() throws IOException;
+
+    private static final class NdjsonReader extends IssueImportReader {
+
+        private final MappingIterator<JsonNode> records;
+
+        private NdjsonReader(InputStream in) throws IOException {
+            this.records = OBJECT_MAPPER.readerFor(JsonNode.class).readValues(in);
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            try {
+                if (!records.hasNextValue()) {
+                    return null;
+                }
+                JsonNode node = records.nextValue();
+                recordNumber++;
+                if (!node.isObject()) {
+                    throw InvalidImportException.malformed(recordNumber, null);
+                }
+                Map<String, String> values = new HashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    values.put(field.getKey(), text(field.getValue()));
+                }
+                return values;
+            } catch (com.fasterxml.jackson.core.JacksonException e) {
+                throw InvalidImportException.malformed(recordNumber + 1, e);
+            }
+        }
+
+        private static String text(JsonNode value) {
+            if (value == null || value.isNull()) {
+                return null;
+            }
+            if (value.isArray()) {
+                List<String> items = new ArrayList<>();
+                value.forEach(item -> items.add(item.asText()));
+                return String.join(ITEM_SEPARATOR, items);
+            }
+            return value.asText();
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+    }
+
+    private static final class CsvReader extends IssueImportReader {
+
+        private final BufferedReader reader;
+        private final List<String> header;
+
+        private CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> columns = readRow();
+            if (columns == null) {
+                throw new InvalidImportException("CSV import file is empty");
+            }
+            // Drop a UTF-8 byte order mark written by spreadsheet tools
+            if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+                columns.set(0, columns.get(0).substring(1));
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!columns.contains(column)) {
+                    throw InvalidImportException.missingColumn(column);
+                }
+            }
+            this.header = columns;
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            List<String> row = readRow();
+            while (row != null && row.size() == 1 && row.get(0).isEmpty()) {
+                row = readRow(); // skip blank lines
+            }
+            if (row == null) {
+                return null;
+            }
+            recordNumber++;
+            if (row.size() > header.size()) {
+                throw InvalidImportException.malformed(recordNumber, null);
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < row.size(); i++) {
+                values.put(header.get(i), row.get(i).isEmpty() ? null : unguard(row.get(i)));
+            }
+            return values;
+        }
+
+        /**
+         * Reads one RFC 4180 row; quoted cells may contain separators, quotes ("") and line breaks.
+         *
+         * @return the cells, or null at the end of the input
+         */
+        private List<String> readRow() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw InvalidImportException.malformed(recordNumber + 1, null);
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            cell.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    break;
+                } else {
+                    cell.append((char) c);
+                }
+                c = reader.read();
+            }
+            cells.add(cell.toString());
+            return cells;
+        }
+
+        /**
+         * Removes the quote the export puts in front of values a spreadsheet would evaluate as formulas.
+         */
+        private static String unguard(String value) {
+            if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+                return value.substring(1);
+            }
+            return value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ImportErrorDto;
+import com.issuetracker.dto.IssueImportResultDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.exception.InvalidImportException;
+import com.issuetracker.repository.*;
+import com.issuetracker.service.IssueImportStagingLoader.StagedIssue;
+import com.issuetracker.validation.StoryPointsValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Service for importing issues in bulk from CSV or NDJSON, using the columns of the issue export.
+ * Projects, issue types, sprints, labels and epics are loaded once per import and resolved in memory;
+ * valid rows are then loaded in batches through {@link IssueImportStagingLoader}.
+ * Invalid rows are skipped and reported, while a malformed file rolls back the whole import.
+ */
+@Service
+@Transactional
+public class IssueImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportService.class);
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 5000;
+
+    private final ProjectRepository projectRepository;
+    private final IssueTypeRepository issueTypeRepository;
+    private final SprintRepository sprintRepository;
+    private final LabelRepository labelRepository;
+    private final IssueRepository issueRepository;
+    private final IssueImportStagingLoader stagingLoader;
+    private final IssueCounterService issueCounterService;
+    private final AuditService auditService;
+    private final CacheGenerationService cacheGenerationService;
+    private final int maxRows;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public IssueImportService(ProjectRepository projectRepository,
+                              IssueTypeRepository issueTypeRepository,
+                              SprintRepository sprintRepository,
+                              LabelRepository labelRepository,
+                              IssueRepository issueRepository,
+                              IssueImportStagingLoader stagingLoader,
+                              IssueCounterService issueCounterService,
+                              AuditService auditService,
+                              CacheGenerationService cacheGenerationService,
+                              @Value("${performance.import.max-rows:100000}") int maxRows,
+                              @Value("${performance.import.batch-size:1000}") int batchSize,
+                              @Value("${performance.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.projectRepository = projectRepository;
+        this.issueTypeRepository = issueTypeRepository;
+        this.sprintRepository = sprintRepository;
+        this.labelRepository = labelRepository;
+        this.issueRepository = issueRepository;
+        this.stagingLoader = stagingLoader;
+        this.issueCounterService = issueCounterService;
+        this.auditService = auditService;
+        this.cacheGenerationService = cacheGenerationService;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports issues for the user. Epics must appear before the issues that reference them;
+     * epicId may refer to the id column of an earlier row or to an existing epic.
+     *
+     * @param user the owner of the imported issues
+     * @param format the input format
+     * @param in the import file
+     * @return counts of imported and rejected rows with the reasons for each rejection
+     * @throws IOException if the input cannot be read
+     * @throws InvalidImportException if the file is malformed or too large
+     */
+    @Caching(evict = {
+        @CacheEvict(value = "dashboardMetrics", key = "#user.email"),
+        @CacheEvict(value = "userIssues", key = "#user.email")
+    })
+    public IssueImportResultDto importIssues(User user, ExportFormat format, InputStream in) throws IOException {
+        logger.info("📥 Importing issues from {} for user: {}", format, user.getEmail());
+
+        String importId = UUID.randomUUID().toString();
+        ImportContext context = new ImportContext(user);
+        IssueImportResultDto result = new IssueImportResultDto();
+        List<StagedIssue> batch = new ArrayList<>(batchSize);
+
+        try (IssueImportReader reader = IssueImportReader.open(format, in)) {
+            Map<String, String> record;
+            while ((record = reader.next()) != null) {
+                if (reader.recordNumber > maxRows) {
+                    throw InvalidImportException.tooManyRows(maxRows);
+                }
+                result.setProcessedRows(reader.recordNumber);
+
+                List<ImportErrorDto> errors = new ArrayList<>();
+                StagedIssue issue = resolve(reader.recordNumber, record, context, errors);
+                if (issue == null) {
+                    result.setRejectedCount(result.getRejectedCount() + 1);
+                    for (ImportErrorDto error : errors) {
+                        if (result.getErrors().size() < maxReportedErrors) {
+                            result.getErrors().add(error);
+                        } else {
+                            result.setErrorsTruncated(true);
+                        }
+                    }
+                    continue;
+                }
+
+                batch.add(issue);
+                if (batch.size() >= batchSize) {
+                    result.setImportedCount(result.getImportedCount() + loadBatch(importId, batch, user));
+                    batch.clear();
+                }
+            }
+        }
+        result.setImportedCount(result.getImportedCount() + loadBatch(importId, batch, user));
+        cacheGenerationService.userChanged(user.getEmail());
+
+        logger.info("✅ Imported {} of {} issues for user: {} ({} rejected)",
+                   result.getImportedCount(), result.getProcessedRows(), user.getEmail(), result.getRejectedCount());
+        return result;
+    }
+
+    private int loadBatch(String importId, List<StagedIssue> batch, User user) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int inserted = stagingLoader.load(importId, batch, Instant.now());
+
+        List<IssueCounterService.Bucket> buckets = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        List<Object[]> children = new ArrayList<>();
+        for (StagedIssue issue : batch) {
+            buckets.add(new IssueCounterService.Bucket(issue.userId(), issue.projectId(),
+                    issue.status(), issue.priority(), issue.parentIssueId() == null));
+            ids.add(issue.id());
+            if (issue.parentIssueId() != null) {
+                children.add(new Object[] {issue.parentIssueId(), 1, issue.status() == IssueStatus.DONE ? 1 : 0});
+            }
+        }
+        issueCounterService.issuesCreated(buckets);
+        issueCounterService.epicChildrenCreated(children);
+        auditService.logIssuesCreated(ids, user);
+
+        logger.debug("Loaded import batch of {} issues for user {}", inserted, user.getId());
+        return inserted;
+    }
+
+    /**
+     * Validates one record and resolves its references.
+     *
+     * @return the staged issue, or null if the record has errors
+     */
+    private StagedIssue resolve(int row, Map<String, String> record, ImportContext context,
+                                List<ImportErrorDto> errors) {
+        String title = trimmed(record.get("title"));
+        if (title == null) {
+            errors.add(new ImportErrorDto(row, "title", "Issue title is required"));
+        } else if (title.length() > MAX_TITLE_LENGTH) {
+            errors.add(new ImportErrorDto(row, "title", "Issue title must be between 1 and 255 characters"));
+        }
+
+        String description = record.get("description");
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            errors.add(new ImportErrorDto(row, "description", "Description must not exceed 5000 characters"));
+        }
+
+        Priority priority = null;
+        String priorityValue = trimmed(record.get("priority"));
+        if (priorityValue == null) {
+            errors.add(new ImportErrorDto(row, "priority", "Issue priority is required"));
+        } else {
+            priority = parseEnum(Priority.class, priorityValue, row, "priority", errors);
+        }
+
+        IssueStatus status = null;
+        String statusValue = trimmed(record.get("status"));
+        if (statusValue != null) {
+            status = parseEnum(IssueStatus.class, statusValue, row, "status", errors);
+        }
+
+        Integer storyPoints = null;
+        String storyPointsValue = trimmed(record.get("storyPoints"));
+        if (storyPointsValue != null) {
+            try {
+                storyPoints = Integer.parseInt(storyPointsValue);
+                if (!StoryPointsValidator.isAllowed(storyPoints)) {
+                    errors.add(new ImportErrorDto(row, "storyPoints", StoryPointsValidator.invalidMessage()));
+                }
+            } catch (NumberFormatException e) {
+                errors.add(new ImportErrorDto(row, "storyPoints", StoryPointsValidator.invalidMessage()));
+            }
+        }
+
+        Long projectId = null;
+        IssueType issueType = null;
+        String projectKey = trimmed(record.get("projectKey"));
+        if (projectKey == null) {
+            errors.add(new ImportErrorDto(row, "projectKey", "Project key is required"));
+        } else {
+            Project project = context.projectsByKey.get(projectKey);
+            if (project == null) {
+                errors.add(new ImportErrorDto(row, "projectKey", "Project not found with key: " + projectKey));
+            } else {
+                projectId = project.getId();
+                String typeName = trimmed(record.get("issueType"));
+                if (typeName == null) {
+                    errors.add(new ImportErrorDto(row, "issueType", "Issue type is required"));
+                } else {
+                    issueType = context.issueType(project, typeName);
+                    if (issueType == null) {
+                        errors.add(new ImportErrorDto(row, "issueType",
+                                "Issue type not available for this project: " + typeName));
+                    }
+                }
+            }
+        }
+
+        Sprint sprint = resolveSprint(row, record, context, errors);
+        List<Long> labelIds = resolveLabels(row, record, context, errors);
+
+        boolean isEpic = issueType != null && "EPIC".equals(issueType.getName());
+        EpicRef epic = null;
+        String epicId = trimmed(record.get("epicId"));
+        String epicTitle = trimmed(record.get("epicTitle"));
+        if (issueType != null) {
+            if (isEpic) {
+                if (epicId != null || epicTitle != null) {
+                    errors.add(new ImportErrorDto(row, "epicId", "Epic issues cannot have a parent issue"));
+                }
+            } else if (epicId == null && epicTitle == null) {
+                errors.add(new ImportErrorDto(row, "epicId", "Non-epic issues must be assigned to an epic"));
+            } else {
+                epic = context.epic(epicId, epicTitle, row, errors);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return null;
+        }
+
+        if (status == null) {
+            status = sprint != null && sprint.getStatus() == SprintStatus.ACTIVE
+                    ? IssueStatus.SELECTED_FOR_DEVELOPMENT
+                    : IssueStatus.BACKLOG;
+        }
+        // As with single creates, a child issue follows its epic's project
+        if (epic != null) {
+            projectId = epic.projectId();
+        }
+
+        Long id = stagingLoader.nextIssueId();
+        if (isEpic) {
+            context.addEpic(new EpicRef(id, title, projectId), trimmed(record.get("id")));
+        }
+        return new StagedIssue(id, row, context.user.getId(), projectId, issueType.getId(),
+                sprint != null ? sprint.getId() : null, epic != null ? epic.id() : null,
+                title, description, status, priority, storyPoints, labelIds);
+    }
+
+    private Sprint resolveSprint(int row, Map<String, String> record, ImportContext context,
+                                 List<ImportErrorDto> errors) {
+        String sprintId = trimmed(record.get("sprintId"));
+        String sprintName = trimmed(record.get("sprintName"));
+        if (sprintId != null) {
+            Sprint sprint = null;
+            try {
+                sprint = context.sprintsById.get(Long.valueOf(sprintId));
+            } catch (NumberFormatException e) {
+                // Reported as not found below
+            }
+            if (sprint == null) {
+                errors.add(new ImportErrorDto(row, "sprintId", "Sprint not found with id: " + sprintId));
+            }
+            return sprint;
+        }
+        if (sprintName != null) {
+            List<Sprint> sprints = context.sprintsByName.getOrDefault(sprintName, List.of());
+            if (sprints.size() != 1) {
+                errors.add(new ImportErrorDto(row, "sprintName", sprints.isEmpty()
+                        ? "Sprint not found with name: " + sprintName
+                        : "Sprint name is ambiguous, use sprintId: " + sprintName));
+                return null;
+            }
+            return sprints.get(0);
+        }
+        return null;
+    }
+
+    private List<Long> resolveLabels(int row, Map<String, String> record, ImportContext context,
+                                     List<ImportErrorDto> errors) {
+        String labels = record.get("labels");
+        if (labels == null) {
+            return List.of();
+        }
+        Set<Long> labelIds = new LinkedHashSet<>();
+        for (String name : labels.split(IssueImportReader.ITEM_SEPARATOR)) {
+            String labelName = name.trim();
+            if (labelName.isEmpty()) {
+                continue;
+            }
+            Label label = context.labelsByName.get(labelName);
+            if (label == null) {
+                errors.add(new ImportErrorDto(row, "labels", "Label not found with name: " + labelName));
+            } else {
+                labelIds.add(label.getId());
+            }
+        }
+        return new ArrayList<>(labelIds);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, int row, String field,
+                                                   List<ImportErrorDto> errors) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add(new ImportErrorDto(row, field,
+                    "Invalid " + field + " '" + value + "', must be one of: " + Arrays.toString(type.getEnumConstants())));
+            return null;
+        }
+    }
+
+    private static String trimmed(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private record EpicRef(Long id, String title, Long projectId) {}
+
+    /**
+     * Reference data of one import, loaded once and extended with the epics the import creates.
+     */
+    private final class ImportContext {
+
+        private final User user;
+        private final Map<String, Project> projectsByKey = new HashMap<>();
+        private final Map<String, IssueType> globalTypesByName = new HashMap<>();
+        private final Map<Long, Map<String, IssueType>> projectTypesByName = new HashMap<>();
+        private final Map<Long, Sprint> sprintsById = new HashMap<>();
+        private final Map<String, List<Sprint>> sprintsByName = new HashMap<>();
+        private final Map<String, Label> labelsByName = new HashMap<>();
+        private final Map<Long, EpicRef> epicsById = new HashMap<>();
+        private final Map<String, List<EpicRef>> epicsByTitle = new HashMap<>();
+        // Epics created by this import, keyed by the id column of their row
+        private final Map<String, EpicRef> importedEpicsBySourceId = new HashMap<>();
+
+        private ImportContext(User user) {
+            this.user = user;
+            projectRepository.findByUserOrderByCreatedAtDesc(user)
+                    .forEach(project -> projectsByKey.put(project.getKey(), project));
+            issueTypeRepository.findByIsGlobalTrueOrderByName()
+                    .forEach(type -> globalTypesByName.put(type.getName(), type));
+            for (Sprint sprint : sprintRepository.findByUserOrderByCreatedAtDesc(user)) {
+                sprintsById.put(sprint.getId(), sprint);
+                sprintsByName.computeIfAbsent(sprint.getName(), name -> new ArrayList<>()).add(sprint);
+            }
+            labelRepository.findByUserOrderByCreatedAtDesc(user)
+                    .forEach(label -> labelsByName.put(label.getName(), label));
+            for (Object[] row : issueRepository.findEpicRefsByUser(user)) {
+                addEpic(new EpicRef((Long) row[0], (String) row[1], (Long) row[2]), null);
+            }
+        }
+
+        /**
+         * Resolves an issue type name, preferring the project's own types over global ones.
+         */
+        private IssueType issueType(Project project, String name) {
+            Map<String, IssueType> projectTypes = projectTypesByName.computeIfAbsent(project.getId(), projectId -> {
+                Map<String, IssueType> types = new HashMap<>();
+                issueTypeRepository.findByProjectOrderByName(project).forEach(type -> types.put(type.getName(), type));
+                return types;
+            });
+            IssueType type = projectTypes.get(name);
+            return type != null ? type : globalTypesByName.get(name);
+        }
+
+        private EpicRef epic(String epicId, String epicTitle, int row, List<ImportErrorDto> errors) {
+            if (epicId != null) {
+                EpicRef epic = importedEpicsBySourceId.get(epicId);
+                if (epic == null) {
+                    try {
+                        epic = epicsById.get(Long.valueOf(epicId));
+                    } catch (NumberFormatException e) {
+                        // Reported as not found below
+                    }
+                }
+                if (epic == null) {
+                    errors.add(new ImportErrorDto(row, "epicId", "Epic not found with id: " + epicId));
+                }
+                return epic;
+            }
+            List<EpicRef> epics = epicsByTitle.getOrDefault(epicTitle, List.of());
+            if (epics.size() != 1) {
+                errors.add(new ImportErrorDto(row, "epicTitle", epics.isEmpty()
+                        ? "Epic not found with title: " + epicTitle
+                        : "Epic title is ambiguous, use epicId: " + epicTitle));
+                return null;
+            }
+            return epics.get(0);
+        }
+
+        private void addEpic(EpicRef epic, String sourceId) {
+            epicsById.put(epic.id(), epic);
+            epicsByTitle.computeIfAbsent(epic.title(), title -> new ArrayList<>()).add(epic);
+            if (sourceId != null) {
+                importedEpicsBySourceId.put(sourceId, epic);
+            }
+        }
+    }
+}
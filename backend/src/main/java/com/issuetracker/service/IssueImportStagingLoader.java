@@ -0,0 +1,177 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.Issue;
+import com.issuetracker.entity.IssueStatus;
+import com.issuetracker.entity.Priority;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves resolved import rows into the issues and issue_labels tables in bulk.
+ * On PostgreSQL rows are streamed with COPY; other databases (the H2 test database) get
+ * batched INSERTs instead. Must be called inside the import transaction.
+ */
+@Component
+class IssueImportStagingLoader {
+
+    /**
+     * A validated import row with every reference resolved to an id.
+     * The id is pre-assigned from the issue sequence so labels and children can refer to it.
+     */
+    record StagedIssue(Long id, int lineNumber, Long userId, Long projectId, Long issueTypeId, Long sprintId,
+                       Long parentIssueId, String title, String description, IssueStatus status,
+                       Priority priority, Integer storyPoints, List<Long> labelIds) {
+    }
+
+    private static final String STAGING_COLUMNS =
+            "id, import_id, line_number, user_id, project_id, issue_type_id, sprint_id, parent_issue_id, " +
+            "title, description, status, priority, story_points";
+
+    private static final String STAGING_INSERT_SQL =
+            "INSERT INTO issue_import_staging (" + STAGING_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ISSUE_INSERT_SQL =
+            "INSERT INTO issues (id, user_id, project_id, issue_type_id, sprint_id, parent_issue_id, " +
+            "title, description, status, priority, story_points, created_at, updated_at) " +
+            "SELECT id, user_id, project_id, issue_type_id, sprint_id, parent_issue_id, " +
+            "title, description, status, priority, story_points, ?, ? " +
+            "FROM issue_import_staging WHERE import_id = ? ORDER BY line_number";
+
+    private static final String LABEL_INSERT_SQL = "INSERT INTO issue_labels (issue_id, label_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final IdentifierGenerator issueIdGenerator;
+    private final boolean copySupported;
+
+    IssueImportStagingLoader(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                             EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.issueIdGenerator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Issue.class).getGenerator();
+        this.copySupported = sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Takes the next id from the Issue generator, sharing its pooled sequence blocks.
+     *
+     * @return a new issue id
+     */
+    Long nextIssueId() {
+        return (Long) issueIdGenerator.generate(entityManager.unwrap(SharedSessionContractImplementor.class), null);
+    }
+
+    /**
+     * Loads a batch into the staging table, moves it into issues with one INSERT ... SELECT,
+     * attaches the labels and clears the staging rows.
+     *
+     * @param importId identifies this import's staging rows
+     * @param batch the resolved rows, parents before their children
+     * @param now the creation time to record
+     * @return number of inserted issues
+     */
+    int load(String importId, List<StagedIssue> batch, Instant now) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // Issues must see any pending entity changes (e.g. the referenced rows) before plain SQL runs
+        entityManager.flush();
+
+        if (copySupported) {
+            copy("COPY issue_import_staging (" + STAGING_COLUMNS + ") FROM STDIN WITH (FORMAT csv)",
+                 stagingCsv(importId, batch));
+        } else {
+            jdbcTemplate.batchUpdate(STAGING_INSERT_SQL, stagingRows(importId, batch));
+        }
+
+        Timestamp createdAt = Timestamp.from(now);
+        int inserted = jdbcTemplate.update(ISSUE_INSERT_SQL, createdAt, createdAt, importId);
+        jdbcTemplate.update("DELETE FROM issue_import_staging WHERE import_id = ?", importId);
+
+        List<Object[]> labelRows = new ArrayList<>();
+        for (StagedIssue issue : batch) {
+            for (Long labelId : issue.labelIds()) {
+                labelRows.add(new Object[] {issue.id(), labelId});
+            }
+        }
+        if (!labelRows.isEmpty()) {
+            if (copySupported) {
+                StringBuilder csv = new StringBuilder();
+                labelRows.forEach(row -> csv.append(row[0]).append(',').append(row[1]).append('\n'));
+                copy("COPY issue_labels (issue_id, label_id) FROM STDIN WITH (FORMAT csv)", csv.toString());
+            } else {
+                jdbcTemplate.batchUpdate(LABEL_INSERT_SQL, labelRows);
+            }
+        }
+        return inserted;
+    }
+
+    private void copy(String sql, String csv) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv));
+        } catch (SQLException e) {
+            throw jdbcTemplate.getExceptionTranslator().translate("COPY", sql, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static List<Object[]> stagingRows(String importId, List<StagedIssue> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (StagedIssue issue : batch) {
+            rows.add(new Object[] {
+                    issue.id(), importId, issue.lineNumber(), issue.userId(), issue.projectId(),
+                    issue.issueTypeId(), issue.sprintId(), issue.parentIssueId(), issue.title(),
+                    issue.description(), issue.status().name(), issue.priority().name(), issue.storyPoints()
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Renders the staging rows as COPY csv: unquoted empty fields are NULL, text is always quoted.
+     */
+    private static String stagingCsv(String importId, List<StagedIssue> batch) {
+        StringBuilder csv = new StringBuilder(batch.size() * 128);
+        for (Object[] row : stagingRows(importId, batch)) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                Object value = row[i];
+                if (value instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    csv.append(value);
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.IssueSearchResultDto;
+import com.issuetracker.entity.Issue;
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for ranked issue search across titles, descriptions and comment bodies.
+ * On PostgreSQL matches come from the GIN-indexed tsvector columns; elsewhere a LIKE query is used.
+ */
+@Service
+@Transactional(readOnly = true)
+public class IssueSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSearchService.class);
+
+    // Relative weights used by the LIKE fallback, mirroring the A/B/C tsvector weights
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final double COMMENT_WEIGHT = 0.2;
+
+    private final IssueRepository issueRepository;
+    private final IssueDtoAssembler issueDtoAssembler;
+    private final FullTextSearch fullTextSearch;
+
+    public IssueSearchService(IssueRepository issueRepository,
+                              IssueDtoAssembler issueDtoAssembler,
+                              FullTextSearch fullTextSearch) {
+        this.issueRepository = issueRepository;
+        this.issueDtoAssembler = issueDtoAssembler;
+        this.fullTextSearch = fullTextSearch;
+    }
+
+    /**
+     * Searches the user's issues, best matches first.
+     *
+     * @param user the issue owner
+     * @param query the search query
+     * @param pageable pagination information (sort is ignored, results are ordered by rank)
+     * @return page of search results
+     */
+    public Page<IssueSearchResultDto> searchIssues(User user, String query, Pageable pageable) {
+        logger.debug("Searching issues for user {} with query '{}'", user.getId(), query);
+
+        Pageable page = FullTextSearch.unsorted(pageable);
+        if (query == null || query.isBlank()) {
+            return Page.empty(page);
+        }
+
+        return fullTextSearch.isAvailable()
+                ? searchFullText(user, query.trim(), page)
+                : searchLike(user, query.trim(), page);
+    }
+
+    private Page<IssueSearchResultDto> searchFullText(User user, String query, Pageable page) {
+        List<Object[]> rows = issueRepository.searchFullText(user.getId(), query, page.getPageSize(), page.getOffset());
+        if (rows.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), page, issueRepository.countFullTextMatches(user.getId(), query));
+        }
+
+        List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, Issue> issuesById = issueRepository.findWithAssociationsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        List<Issue> ordered = ids.stream().map(issuesById::get).toList();
+        List<IssueDto> dtos = issueDtoAssembler.toDtos(ordered);
+
+        List<IssueSearchResultDto> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            results.add(new IssueSearchResultDto(
+                    dtos.get(i),
+                    ((Number) row[1]).doubleValue(),
+                    (String) row[2],
+                    (String) row[3],
+                    row[4] != null ? ((Number) row[4]).longValue() : null));
+        }
+
+        long total = rows.size() < page.getPageSize() && page.getOffset() == 0
+                ? rows.size()
+                : issueRepository.countFullTextMatches(user.getId(), query);
+        return new PageImpl<>(results, page, total);
+    }
+
+    private Page<IssueSearchResultDto> searchLike(User user, String query, Pageable page) {
+        Page<Issue> issues = issueRepository.findByUserMatchingText(user, query, page);
+        List<IssueDto> dtos = issueDtoAssembler.toDtos(issues.getContent());
+
+        List<IssueSearchResultDto> results = dtos.stream().map(dto -> {
+            boolean titleHit = FullTextSearch.contains(dto.getTitle(), query);
+            boolean descriptionHit = FullTextSearch.contains(dto.getDescription(), query);
+            double rank = (titleHit ? TITLE_WEIGHT : 0) + (descriptionHit ? DESCRIPTION_WEIGHT : 0);
+            return new IssueSearchResultDto(
+                    dto,
+                    rank > 0 ? rank : COMMENT_WEIGHT,
+                    FullTextSearch.highlight(dto.getTitle(), query),
+                    FullTextSearch.highlight(dto.getDescription(), query),
+                    null);
+        }).toList();
+
+        return new PageImpl<>(results, page, issues.getTotalElements());
+    }
+}
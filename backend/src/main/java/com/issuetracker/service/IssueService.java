@@ -10,11 +10,23 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,26 +44,38 @@ public class IssueService {
     private final IssueTypeRepository issueTypeRepository;
     private final SprintRepository sprintRepository;
     private final LabelRepository labelRepository;
-    private final CommentRepository commentRepository;
     private final AuditService auditService;
     private final ProjectService projectService;
+    private final IssueDtoAssembler issueDtoAssembler;
+    private final IssueCounterService issueCounterService;
+    private final CacheGenerationService cacheGenerationService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ChangeNotificationService changeNotificationService;
 
     public IssueService(IssueRepository issueRepository, 
                        ProjectRepository projectRepository,
                        IssueTypeRepository issueTypeRepository,
                        SprintRepository sprintRepository,
                        LabelRepository labelRepository,
-                       CommentRepository commentRepository,
                        AuditService auditService,
-                       ProjectService projectService) {
+                       ProjectService projectService,
+                       IssueDtoAssembler issueDtoAssembler,
+                       IssueCounterService issueCounterService,
+                       CacheGenerationService cacheGenerationService,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       ChangeNotificationService changeNotificationService) {
         this.issueRepository = issueRepository;
         this.projectRepository = projectRepository;
         this.issueTypeRepository = issueTypeRepository;
         this.sprintRepository = sprintRepository;
         this.labelRepository = labelRepository;
-        this.commentRepository = commentRepository;
         this.auditService = auditService;
         this.projectService = projectService;
+        this.issueDtoAssembler = issueDtoAssembler;
+        this.issueCounterService = issueCounterService;
+        this.cacheGenerationService = cacheGenerationService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.changeNotificationService = changeNotificationService;
     }
 
     /**
@@ -64,10 +88,7 @@ public class IssueService {
      */
     @Caching(evict = {
         @CacheEvict(value = "dashboardMetrics", key = "#user.email"),
-        @CacheEvict(value = "dashboardSummary", key = "#user.email"),
-        @CacheEvict(value = "projectStatistics", key = "#request.projectId + '_' + #user.email"),
-        @CacheEvict(value = "userIssues", key = "#user.email"),
-        @CacheEvict(value = "sprintIssues", key = "#request.sprintId + '_' + #user.email", condition = "#request.sprintId != null")
+        @CacheEvict(value = "userIssues", key = "#user.email")
     })
     public IssueDto createIssue(CreateIssueRequest request, User user) {
         logger.debug("Creating issue '{}' for user {}", request.getTitle(), user.getId());
@@ -116,6 +137,12 @@ public class IssueService {
         validateAndSetEpicHierarchy(issue, request.getParentIssueId(), user);
 
         Issue savedIssue = issueRepository.save(issue);
+        issueCounterService.issueCreated(savedIssue);
+        issueCounterService.epicChildChanged(null, null, parentIdOf(savedIssue), savedIssue.getStatus());
+        cacheGenerationService.changed(user.getEmail(), List.of(project.getId()),
+                Collections.singleton(request.getSprintId()));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE,
+                Arrays.asList(savedIssue.getId(), parentIdOf(savedIssue)));
 
         // Create audit log
         auditService.logIssueCreated(savedIssue, user);
@@ -137,11 +164,7 @@ public class IssueService {
      */
     @Caching(evict = {
         @CacheEvict(value = "dashboardMetrics", key = "#user.email"),
-        @CacheEvict(value = "dashboardSummary", key = "#user.email"),
-        @CacheEvict(value = "projectStatistics", allEntries = true),
-        @CacheEvict(value = "sprintStatistics", allEntries = true),
-        @CacheEvict(value = "userIssues", key = "#user.email"),
-        @CacheEvict(value = "sprintIssues", allEntries = true)
+        @CacheEvict(value = "userIssues", key = "#user.email")
     })
     public IssueDto updateIssue(Long issueId, UpdateIssueRequest request, User user) {
         logger.info("📝 Updating issue {} for user: {}", issueId, user.getEmail());
@@ -149,7 +172,8 @@ public class IssueService {
         Issue issue = issueRepository.findByIdAndUser(issueId, user)
                 .orElseThrow(() -> ResourceNotFoundException.issue(issueId));
 
-        // Track changes for audit
+        // Track changes for audit and counters
+        IssueCounterService.Bucket oldBucket = IssueCounterService.Bucket.of(issue);
         String oldTitle = issue.getTitle();
         Priority oldPriority = issue.getPriority();
         Integer oldStoryPoints = issue.getStoryPoints();
@@ -196,6 +220,14 @@ public class IssueService {
         }
 
         Issue updatedIssue = issueRepository.save(issue);
+        issueCounterService.issueChanged(oldBucket, updatedIssue);
+        issueCounterService.epicChildChanged(oldParentIssue != null ? oldParentIssue.getId() : null,
+                updatedIssue.getStatus(), parentIdOf(updatedIssue), updatedIssue.getStatus());
+        cacheGenerationService.changed(user.getEmail(), List.of(updatedIssue.getProject().getId()),
+                Arrays.asList(sprintIdOf(oldSprint), sprintIdOf(updatedIssue.getSprint()),
+                        sprintIdOf(updatedIssue.getLastCompletedSprint())));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, Arrays.asList(updatedIssue.getId(),
+                oldParentIssue != null ? oldParentIssue.getId() : null, parentIdOf(updatedIssue)));
 
         // Create audit logs for changes
         if (!oldTitle.equals(updatedIssue.getTitle())) {
@@ -237,11 +269,7 @@ public class IssueService {
      */
     @Caching(evict = {
         @CacheEvict(value = "dashboardMetrics", key = "#user.email"),
-        @CacheEvict(value = "dashboardSummary", key = "#user.email"),
-        @CacheEvict(value = "projectStatistics", allEntries = true),
-        @CacheEvict(value = "sprintStatistics", allEntries = true),
-        @CacheEvict(value = "userIssues", key = "#user.email"),
-        @CacheEvict(value = "sprintIssues", allEntries = true)
+        @CacheEvict(value = "userIssues", key = "#user.email")
     })
     public IssueDto updateIssueStatus(Long issueId, StatusUpdateRequest request, User user) {
         logger.info("🔄 Updating status of issue {} to {} for user: {}", 
@@ -260,8 +288,15 @@ public class IssueService {
             throw InvalidWorkflowTransitionException.transition(oldStatus, newStatus);
         }
 
+        IssueCounterService.Bucket oldBucket = IssueCounterService.Bucket.of(issue);
         issue.setStatus(newStatus);
         Issue updatedIssue = issueRepository.save(issue);
+        issueCounterService.issueChanged(oldBucket, updatedIssue);
+        issueCounterService.epicChildChanged(parentIdOf(updatedIssue), oldStatus, parentIdOf(updatedIssue), newStatus);
+        cacheGenerationService.changed(user.getEmail(), List.of(updatedIssue.getProject().getId()),
+                Arrays.asList(sprintIdOf(updatedIssue.getSprint()), sprintIdOf(updatedIssue.getLastCompletedSprint())));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE,
+                Arrays.asList(updatedIssue.getId(), parentIdOf(updatedIssue)));
 
         // Create audit log for status change
         auditService.logStatusChange(updatedIssue, user, oldStatus, newStatus);
@@ -275,6 +310,154 @@ public class IssueService {
         return convertToDto(updatedIssue);
     }
 
+    /**
+     * Applies the same change to many issues with set-based updates in one transaction.
+     * Audit entries are written with one statement per distinct old value, parent epics are
+     * recalculated once each, and caches are evicted once for the whole request.
+     *
+     * @param request the issues and the changes to apply
+     * @param user the issue owner
+     * @return counts of the changed issues and the epics whose status changed
+     * @throws ResourceNotFoundException if an issue, the sprint or a label is not found or not owned by user
+     */
+    @Caching(evict = {
+        @CacheEvict(value = "dashboardMetrics", key = "#user.email"),
+        @CacheEvict(value = "userIssues", key = "#user.email")
+    })
+    public BulkIssueUpdateResultDto bulkUpdateIssues(BulkIssueUpdateRequest request, User user) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIssueIds());
+        logger.info("📦 Bulk updating {} issues for user: {}", ids.size(), user.getEmail());
+
+        // Lock the issues first, so the old values read here still hold when the updates run
+        // and the counter deltas and audit entries derived from them match what was changed
+        issueRepository.lockByUserAndIdIn(user.getId(), ids);
+        List<Object[]> refs = issueRepository.findBulkUpdateRefs(ids, user);
+        if (refs.size() < ids.size()) {
+            Set<Long> found = refs.stream().map(row -> (Long) row[0]).collect(Collectors.toSet());
+            Long missing = ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw ResourceNotFoundException.issue(missing);
+        }
+
+        Sprint sprint = null;
+        if (request.getSprintId() != null) {
+            sprint = sprintRepository.findByIdAndUser(request.getSprintId(), user)
+                    .orElseThrow(() -> ResourceNotFoundException.sprint(request.getSprintId()));
+        }
+        List<Long> addLabelIds = ownedLabelIds(request.getAddLabelIds(), user);
+        List<Long> removeLabelIds = ownedLabelIds(request.getRemoveLabelIds(), user);
+
+        BulkIssueUpdateResultDto result = new BulkIssueUpdateResultDto();
+        result.setMatchedCount(refs.size());
+        Instant now = Instant.now();
+
+        if (sprint != null || request.isRemoveFromSprint()) {
+            Long newSprintId = sprint != null ? sprint.getId() : null;
+            String newSprintName = sprint != null ? sprint.getName() : "None";
+            Map<Long, List<Long>> changedBySprint = new LinkedHashMap<>();
+            Map<Long, String> sprintNames = new HashMap<>();
+            for (Object[] row : refs) {
+                Long oldSprintId = (Long) row[3];
+                if (!Objects.equals(oldSprintId, newSprintId)) {
+                    changedBySprint.computeIfAbsent(oldSprintId, key -> new ArrayList<>()).add((Long) row[0]);
+                    sprintNames.put(oldSprintId, oldSprintId != null ? (String) row[4] : "None");
+                }
+            }
+            List<Long> changed = changedBySprint.values().stream().flatMap(List::stream).toList();
+            if (!changed.isEmpty()) {
+                if (sprint != null) {
+                    issueRepository.updateSprintByIdIn(changed, sprint, now);
+                } else {
+                    issueRepository.clearSprintByIdIn(changed, now);
+                }
+                changedBySprint.forEach((oldSprintId, issueIds) -> auditService.logFieldChanges(
+                        issueIds, user, "sprint", sprintNames.get(oldSprintId), newSprintName));
+            }
+            result.setSprintChangedCount(changed.size());
+        }
+
+        Set<Long> affectedEpicIds = new LinkedHashSet<>();
+        if (request.getStatus() != null) {
+            IssueStatus newStatus = request.getStatus();
+            Map<IssueStatus, List<Long>> changedByStatus = new EnumMap<>(IssueStatus.class);
+            for (Object[] row : refs) {
+                IssueStatus oldStatus = (IssueStatus) row[1];
+                if (oldStatus != newStatus && isValidTransition(oldStatus, newStatus)) {
+                    changedByStatus.computeIfAbsent(oldStatus, key -> new ArrayList<>()).add((Long) row[0]);
+                    if (row[5] != null) {
+                        affectedEpicIds.add((Long) row[5]);
+                    }
+                }
+            }
+            List<Long> changed = changedByStatus.values().stream().flatMap(List::stream).toList();
+            if (!changed.isEmpty()) {
+                List<Object[]> counterBuckets = issueRepository.aggregateCounterBucketsByIdIn(changed);
+                List<Object[]> epicProgress = issueRepository.aggregateChildProgressByIdIn(changed);
+                issueRepository.updateStatusByIdIn(changed, newStatus, now);
+                issueCounterService.issuesMovedToStatus(user.getId(), counterBuckets, newStatus);
+                issueCounterService.epicChildrenMovedToStatus(epicProgress, newStatus);
+                changedByStatus.forEach((oldStatus, issueIds) ->
+                        auditService.logStatusChanges(issueIds, user, oldStatus, newStatus));
+            }
+            result.setStatusChangedCount(changed.size());
+        }
+
+        if (request.getPriority() != null) {
+            Priority newPriority = request.getPriority();
+            Map<Priority, List<Long>> changedByPriority = new EnumMap<>(Priority.class);
+            for (Object[] row : refs) {
+                Priority oldPriority = (Priority) row[2];
+                if (oldPriority != newPriority) {
+                    changedByPriority.computeIfAbsent(oldPriority, key -> new ArrayList<>()).add((Long) row[0]);
+                }
+            }
+            List<Long> changed = changedByPriority.values().stream().flatMap(List::stream).toList();
+            if (!changed.isEmpty()) {
+                List<Object[]> counterBuckets = issueRepository.aggregateCounterBucketsByIdIn(changed);
+                issueRepository.updatePriorityByIdIn(changed, newPriority, now);
+                issueCounterService.issuesMovedToPriority(user.getId(), counterBuckets, newPriority);
+                changedByPriority.forEach((oldPriority, issueIds) -> auditService.logFieldChanges(
+                        issueIds, user, "priority", oldPriority.toString(), newPriority.toString()));
+            }
+            result.setPriorityChangedCount(changed.size());
+        }
+
+        if (!addLabelIds.isEmpty()) {
+            result.setLabelsAddedCount(issueRepository.addLabelsByIdIn(ids, addLabelIds));
+        }
+        if (!removeLabelIds.isEmpty()) {
+            result.setLabelsRemovedCount(issueRepository.removeLabelsByIdIn(ids, removeLabelIds));
+        }
+        if (result.getLabelsAddedCount() + result.getLabelsRemovedCount() > 0) {
+            issueRepository.touchByIdIn(ids, now);
+        }
+
+        // Each affected epic is recalculated once, however many of its children changed
+        for (Long epicId : affectedEpicIds) {
+            issueRepository.findByIdAndUser(epicId, user)
+                    .filter(epic -> recalculateEpicStatus(epic, user))
+                    .ifPresent(epic -> result.getUpdatedEpicIds().add(epic.getId()));
+        }
+
+        // The issues may span any number of projects and sprints, so all of the user's entries go at once
+        cacheGenerationService.userChanged(user.getEmail());
+        Set<Long> changedIssueIds = new LinkedHashSet<>(ids);
+        changedIssueIds.addAll(result.getUpdatedEpicIds());
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, changedIssueIds);
+
+        logger.info("✅ Bulk update for user {}: {}", user.getEmail(), result);
+        return result;
+    }
+
+    private List<Long> ownedLabelIds(List<Long> labelIds, User user) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return List.of();
+        }
+        return labelIds.stream().distinct()
+                .map(labelId -> labelRepository.findByIdAndUser(labelId, user)
+                        .orElseThrow(() -> ResourceNotFoundException.label(labelId)).getId())
+                .toList();
+    }
+
     /**
      * Retrieves an issue by ID with user isolation.
      *
@@ -287,7 +470,7 @@ public class IssueService {
     public IssueDto getIssue(Long issueId, User user) {
         logger.debug("Retrieving issue {} for user {}", issueId, user.getId());
 
-        Issue issue = issueRepository.findByIdAndUser(issueId, user)
+        Issue issue = issueRepository.findDetailByIdAndUser(issueId, user)
                 .orElseThrow(() -> ResourceNotFoundException.issue(issueId));
 
         return convertToDto(issue);
@@ -305,7 +488,7 @@ public class IssueService {
         logger.debug("Retrieving issues for user {} with pagination", user.getId());
 
         Page<Issue> issues = issueRepository.findByUserOrderByCreatedAtDesc(user, pageable);
-        return issues.map(this::convertToDto);
+        return issueDtoAssembler.toDtoPage(issues);
     }
 
     /**
@@ -335,7 +518,59 @@ public class IssueService {
         }
 
         Page<Issue> issues = issueRepository.findByUserWithFilters(user, project, status, priority, sprint, pageable);
-        return issues.map(this::convertToDto);
+        return issueDtoAssembler.toDtoPage(issues);
+    }
+
+    /**
+     * Retrieves issues with optional filters using keyset pagination, newest first.
+     * Unlike offset pages, the cost of a page does not grow with its depth and rows
+     * inserted while paging do not shift later pages.
+     *
+     * @param user the issue owner
+     * @param projectId optional project filter
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param sprintId optional sprint filter
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit requested page size
+     * @param includeTotal whether to run the count query for the total
+     * @return cursor page of issue DTOs
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<IssueDto> getIssuesPage(User user, Long projectId, IssueStatus status, Priority priority,
+                                             Long sprintId, String cursor, Integer limit, boolean includeTotal) {
+        logger.debug("Retrieving issue page for user {} after cursor {}", user.getId(), cursor);
+
+        PageCursor position = PageCursor.decode(cursor, PageCursor.NEWEST);
+        int pageSize = CursorPage.normalizeLimit(limit);
+
+        Project project = projectId != null ? projectRepository.findByIdAndUser(projectId, user).orElse(null) : null;
+        Sprint sprint = sprintId != null ? sprintRepository.findByIdAndUser(sprintId, user).orElse(null) : null;
+
+        List<Issue> rows = issueRepository.findKeysetPageByUserWithFilters(user, project, status, priority, sprint,
+                position.getCreatedAt(), position.getId(), PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal
+                ? issueRepository.countByUserWithFilters(user, project, status, priority, sprint)
+                : null;
+
+        return CursorPage.of(rows, pageSize, issue -> new PageCursor(issue.getCreatedAt(), issue.getId()), total)
+                .mapItems(issueDtoAssembler::toDtos);
+    }
+
+    /**
+     * Gets the user's issues changed after a sync feed position, in change order.
+     *
+     * @param user the issue owner
+     * @param after position of the last issue already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit maximum number of issues
+     * @return changed issue DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<IssueDto> getIssuesChangedSince(User user, PageCursor after, Instant until, int limit) {
+        List<Issue> rows = issueRepository.findChangedSince(user, after.getCreatedAt(), after.getId(), until,
+                PageRequest.of(0, limit));
+        return issueDtoAssembler.toDtos(rows);
     }
 
     /**
@@ -351,8 +586,29 @@ public class IssueService {
         Issue issue = issueRepository.findByIdAndUser(issueId, user)
                 .orElseThrow(() -> ResourceNotFoundException.issue(issueId));
 
-        // Delete issue (cascade will handle related entities)
+        // Child issues are removed by the cascade, so they leave the counters too
+        List<IssueCounterService.Bucket> deletedBuckets = new java.util.ArrayList<>();
+        deletedBuckets.add(IssueCounterService.Bucket.of(issue));
+        issue.getChildIssues().forEach(child -> deletedBuckets.add(IssueCounterService.Bucket.of(child)));
+
+        // Delete issue (cascade will handle related entities), leaving tombstones for the sync feed
+        List<Long> deletedIssueIds = new ArrayList<>();
+        deletedIssueIds.add(issue.getId());
+        issue.getChildIssues().forEach(child -> deletedIssueIds.add(child.getId()));
+        syncTombstoneRepository.recordIssuesDeleted(deletedIssueIds, Instant.now());
         issueRepository.delete(issue);
+        issueCounterService.issuesDeleted(deletedBuckets);
+        issueCounterService.epicChildChanged(parentIdOf(issue), issue.getStatus(), null, null);
+        Set<Long> deletedSprintIds = new LinkedHashSet<>();
+        deletedSprintIds.add(sprintIdOf(issue.getSprint()));
+        deletedSprintIds.add(sprintIdOf(issue.getLastCompletedSprint()));
+        issue.getChildIssues().forEach(child -> {
+            deletedSprintIds.add(sprintIdOf(child.getSprint()));
+            deletedSprintIds.add(sprintIdOf(child.getLastCompletedSprint()));
+        });
+        cacheGenerationService.changed(user.getEmail(), List.of(issue.getProject().getId()), deletedSprintIds);
+        changeNotificationService.deleted(user.getEmail(), SyncEntityType.ISSUE, deletedIssueIds);
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, Collections.singleton(parentIdOf(issue)));
 
         logger.info("Deleted issue '{}' (ID: {}) for user {}", 
                    issue.getTitle(), issue.getId(), user.getId());
@@ -395,6 +651,14 @@ public class IssueService {
         return true;
     }
 
+    private static Long parentIdOf(Issue issue) {
+        return issue.getParentIssue() != null ? issue.getParentIssue().getId() : null;
+    }
+
+    private static Long sprintIdOf(Sprint sprint) {
+        return sprint != null ? sprint.getId() : null;
+    }
+
     /**
      * Converts an Issue entity to IssueDto.
      *
@@ -402,68 +666,7 @@ public class IssueService {
      * @return the issue DTO
      */
     private IssueDto convertToDto(Issue issue) {
-        IssueDto dto = new IssueDto(
-                issue.getId(),
-                issue.getTitle(),
-                issue.getDescription(),
-                issue.getStatus(),
-                issue.getPriority(),
-                issue.getStoryPoints(),
-                issue.getCreatedAt(),
-                issue.getUpdatedAt()
-        );
-
-        // Set project information
-        dto.setProjectId(issue.getProject().getId());
-        dto.setProjectName(issue.getProject().getName());
-        dto.setProjectKey(issue.getProject().getKey());
-
-        // Set sprint information
-        if (issue.getSprint() != null) {
-            dto.setSprintId(issue.getSprint().getId());
-            dto.setSprintName(issue.getSprint().getName());
-        }
-
-        // Set last completed sprint information
-        if (issue.getLastCompletedSprint() != null) {
-            dto.setLastCompletedSprintId(issue.getLastCompletedSprint().getId());
-            dto.setLastCompletedSprintName(issue.getLastCompletedSprint().getName());
-        }
-
-        // Set issue type information
-        dto.setIssueTypeId(issue.getIssueType().getId());
-        dto.setIssueTypeName(issue.getIssueType().getName());
-
-        // Set labels
-        if (issue.getLabels() != null && !issue.getLabels().isEmpty()) {
-            List<LabelDto> labelDtos = issue.getLabels().stream()
-                    .map(label -> new LabelDto(label.getId(), label.getName(), label.getColor(), label.getCreatedAt()))
-                    .collect(Collectors.toList());
-            dto.setLabels(labelDtos);
-        }
-
-        // Set comment count
-        long commentCount = commentRepository.countByIssue(issue);
-        dto.setCommentCount(commentCount);
-
-        // Set epic hierarchy information
-        if (issue.getParentIssue() != null) {
-            dto.setParentIssueId(issue.getParentIssue().getId());
-            dto.setParentIssueTitle(issue.getParentIssue().getTitle());
-        }
-        
-        // Set epic status based on issue type, not parent relationship
-        dto.setEpic(issue.isEpic());
-
-        // Set child issue count for epics
-        if (issue.isEpic()) {
-            long childCount = issueRepository.countByParentIssueAndUser(issue, issue.getUser());
-            dto.setChildIssueCount(childCount);
-        } else {
-            dto.setChildIssueCount(0L);
-        }
-
-        return dto;
+        return issueDtoAssembler.toDto(issue);
     }
 
     /**
@@ -476,6 +679,18 @@ public class IssueService {
         return convertToDto(issue);
     }
 
+    /**
+     * Converts a list of Issue entities to IssueDtos for external use.
+     * The whole list is resolved in a constant number of queries.
+     *
+     * @param issues the issue entities
+     * @return the issue DTOs, in the same order
+     */
+    @Transactional(readOnly = true)
+    public List<IssueDto> convertIssuesToDtos(List<Issue> issues) {
+        return issueDtoAssembler.toDtos(issues);
+    }
+
     // Epic hierarchy methods
 
     /**
@@ -532,7 +747,7 @@ public class IssueService {
         logger.debug("Retrieving epics for user {}", user.getId());
 
         Page<Issue> epics = issueRepository.findByUserAndParentIssueIsNullOrderByCreatedAtDesc(user, pageable);
-        return epics.map(this::convertToDto);
+        return issueDtoAssembler.toDtoPage(epics);
     }
 
     /**
@@ -546,9 +761,7 @@ public class IssueService {
         logger.debug("Retrieving all epics for user {}", user.getId());
 
         List<Issue> epics = issueRepository.findByUserAndParentIssueIsNullOrderByCreatedAtDesc(user);
-        return epics.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return issueDtoAssembler.toDtos(epics);
     }
 
     /**
@@ -571,7 +784,7 @@ public class IssueService {
         }
 
         Page<Issue> children = issueRepository.findByParentIssueAndUserOrderByCreatedAtDesc(epic, user, pageable);
-        return children.map(this::convertToDto);
+        return issueDtoAssembler.toDtoPage(children);
     }
 
     /**
@@ -593,9 +806,7 @@ public class IssueService {
         }
 
         List<Issue> children = issueRepository.findByParentIssueAndUserOrderByCreatedAtDesc(epic, user);
-        return children.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return issueDtoAssembler.toDtos(children);
     }
 
     /**
@@ -630,8 +841,16 @@ public class IssueService {
             throw new IllegalArgumentException("Target epic must belong to the same project");
         }
 
+        IssueCounterService.Bucket oldBucket = IssueCounterService.Bucket.of(issue);
         issue.setParentIssue(newParentEpic);
         Issue updatedIssue = issueRepository.save(issue);
+        issueCounterService.issueChanged(oldBucket, updatedIssue);
+        issueCounterService.epicChildChanged(oldParent != null ? oldParent.getId() : null, updatedIssue.getStatus(),
+                newParentEpic.getId(), updatedIssue.getStatus());
+        cacheGenerationService.changed(user.getEmail(), List.of(updatedIssue.getProject().getId()),
+                Arrays.asList(sprintIdOf(updatedIssue.getSprint()), sprintIdOf(updatedIssue.getLastCompletedSprint())));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, Arrays.asList(updatedIssue.getId(),
+                oldParent != null ? oldParent.getId() : null, newParentEpic.getId()));
 
         // Create audit log
         String details = String.format("Moved from epic '%s' to epic '%s'", 
@@ -657,8 +876,13 @@ public class IssueService {
     public EpicStatisticsDto getEpicStatistics(User user) {
         logger.debug("Calculating epic statistics for user {}", user.getId());
 
-        long totalEpics = issueRepository.countByUserAndParentIssueIsNull(user);
-        long totalChildIssues = issueRepository.countByUserAndParentIssueIsNotNull(user);
+        long totalIssues = 0;
+        long totalEpics = 0;
+        for (Object[] row : issueCounterService.sumByStatusAndPriority(user)) {
+            totalIssues += ((Number) row[2]).longValue();
+            totalEpics += ((Number) row[3]).longValue();
+        }
+        long totalChildIssues = totalIssues - totalEpics;
 
         return new EpicStatisticsDto(totalEpics, totalChildIssues);
     }
@@ -676,64 +900,83 @@ public class IssueService {
             return;
         }
 
-        Issue parentEpic = childIssue.getParentIssue();
-        
+        recalculateEpicStatus(childIssue.getParentIssue(), user);
+    }
+
+    /**
+     * Completes an epic whose children are all DONE, or reopens a DONE epic with open children.
+     *
+     * @param parentEpic the epic to check
+     * @param user the user performing the operation
+     * @return true if the epic's status changed
+     */
+    private boolean recalculateEpicStatus(Issue parentEpic, User user) {
         // Only proceed if the parent is actually an epic
         if (!parentEpic.isEpic()) {
-            return;
+            return false;
         }
 
         logger.info("🔍 Checking if epic '{}' (ID: {}) should be auto-completed", 
                    parentEpic.getTitle(), parentEpic.getId());
 
-        // Get all child issues of this epic
-        List<Issue> childIssues = issueRepository.findByParentIssueAndUserOrderByCreatedAtDesc(parentEpic, user);
+        // The maintained child counters answer this without loading the children
+        IssueCounterService.EpicProgress progress = issueCounterService.getEpicProgress(parentEpic.getId());
         
-        if (childIssues.isEmpty()) {
+        if (progress.total() == 0) {
             logger.info("📋 Epic '{}' has no child issues, skipping auto-completion", parentEpic.getTitle());
-            return;
+            return false;
         }
 
         // Check if all child issues are DONE
-        boolean allChildrenDone = childIssues.stream()
-                .allMatch(child -> child.getStatus() == IssueStatus.DONE);
+        boolean allChildrenDone = progress.allDone();
 
         if (allChildrenDone && parentEpic.getStatus() != IssueStatus.DONE) {
             logger.info("✅ All child issues of epic '{}' are DONE, auto-completing epic", parentEpic.getTitle());
             
             IssueStatus oldEpicStatus = parentEpic.getStatus();
+            IssueCounterService.Bucket oldEpicBucket = IssueCounterService.Bucket.of(parentEpic);
             parentEpic.setStatus(IssueStatus.DONE);
             issueRepository.save(parentEpic);
+            issueCounterService.issueChanged(oldEpicBucket, parentEpic);
 
             // Create audit log for the epic status change
             auditService.logStatusChange(parentEpic, user, oldEpicStatus, IssueStatus.DONE);
+            // The epic may be planned in another sprint than the child that changed
+            cacheGenerationService.changed(user.getEmail(), List.of(parentEpic.getProject().getId()),
+                    Arrays.asList(sprintIdOf(parentEpic.getSprint()), sprintIdOf(parentEpic.getLastCompletedSprint())));
             
             logger.info("🎉 Epic '{}' (ID: {}) automatically completed - all {} child issues are DONE", 
-                       parentEpic.getTitle(), parentEpic.getId(), childIssues.size());
+                       parentEpic.getTitle(), parentEpic.getId(), progress.total());
             
             // Update project status if needed since an epic status changed
             projectService.updateProjectStatusIfNeeded(parentEpic.getProject(), user);
+            return true;
         } else if (!allChildrenDone && parentEpic.getStatus() == IssueStatus.DONE) {
             // If the epic was DONE but now has incomplete children, revert it to IN_PROGRESS
             logger.info("🔄 Epic '{}' has incomplete child issues, reverting from DONE to IN_PROGRESS", parentEpic.getTitle());
             
             IssueStatus oldEpicStatus = parentEpic.getStatus();
+            IssueCounterService.Bucket oldEpicBucket = IssueCounterService.Bucket.of(parentEpic);
             parentEpic.setStatus(IssueStatus.IN_PROGRESS);
             issueRepository.save(parentEpic);
+            issueCounterService.issueChanged(oldEpicBucket, parentEpic);
 
             // Create audit log for the epic status change
             auditService.logStatusChange(parentEpic, user, oldEpicStatus, IssueStatus.IN_PROGRESS);
+            // The epic may be planned in another sprint than the child that changed
+            cacheGenerationService.changed(user.getEmail(), List.of(parentEpic.getProject().getId()),
+                    Arrays.asList(sprintIdOf(parentEpic.getSprint()), sprintIdOf(parentEpic.getLastCompletedSprint())));
             
             logger.info("🔄 Epic '{}' (ID: {}) reverted to IN_PROGRESS - has incomplete child issues", 
                        parentEpic.getTitle(), parentEpic.getId());
             
             // Update project status if needed since an epic status changed
             projectService.updateProjectStatusIfNeeded(parentEpic.getProject(), user);
+            return true;
         } else {
             logger.info("📊 Epic '{}' status unchanged - {} of {} child issues are DONE", 
-                       parentEpic.getTitle(), 
-                       childIssues.stream().mapToInt(child -> child.getStatus() == IssueStatus.DONE ? 1 : 0).sum(),
-                       childIssues.size());
+                       parentEpic.getTitle(), progress.done(), progress.total());
+            return false;
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.issuetracker.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +16,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,12 +29,17 @@ import java.util.function.Function;
 /**
  * Service for JWT token generation, validation, and management.
  * Handles token creation, parsing, and validation for authentication.
+ * The signing key and parser are built once at startup, and verified claims are cached
+ * by token digest so a token's signature is checked at most once per cache TTL.
  */
 @Service
 public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String NAME_CLAIM = "name";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -34,6 +49,52 @@ public class JwtService {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    @Value("${jwt.claims-cache.ttl:PT5M}")
+    private Duration claimsCacheTtl;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
+
+    /**
+     * Builds the signing key, the parser and the verified claims cache.
+     * A max size of 0 disables the cache.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = decodeSigningKey();
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        if (claimsCacheMaxSize > 0) {
+            // Entries never outlive the token itself
+            claimsCache = Caffeine.newBuilder()
+                    .maximumSize(claimsCacheMaxSize)
+                    .expireAfter(new Expiry<String, Claims>() {
+                        @Override
+                        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                            return cacheDuration(claims).toNanos();
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String digest, Claims claims, long currentTime,
+                                                      long currentDuration) {
+                            return currentDuration;
+                        }
+
+                        @Override
+                        public long expireAfterRead(String digest, Claims claims, long currentTime,
+                                                    long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .build();
+        } else {
+            claimsCache = null;
+        }
+    }
+
     /**
      * Extracts username from JWT token.
      *
@@ -44,6 +105,21 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extracts the authenticated user from a JWT token's claims, without loading the user.
+     *
+     * @param token JWT token
+     * @return the principal, or null if the token was issued without a user ID claim
+     */
+    public AuthenticatedUser extractPrincipal(String token) {
+        final Claims claims = extractAllClaims(token);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), claims.get(NAME_CLAIM, String.class));
+    }
+
     /**
      * Extracts a specific claim from JWT token.
      *
@@ -96,32 +172,23 @@ public class JwtService {
      * @return true if token is valid
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
     /**
      * Checks if JWT token is expired.
      *
-     * @param token JWT token
+     * @param claims the token's claims
      * @return true if token is expired
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Extracts expiration date from JWT token.
-     *
-     * @param token JWT token
-     * @return expiration date
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
      * Builds JWT token with specified claims and expiration.
+     * Tokens for an {@link AuthenticatedUser} also carry the user ID and name.
      *
      * @param extraClaims additional claims
      * @param userDetails user details
@@ -129,37 +196,83 @@ public class JwtService {
      * @return JWT token
      */
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(NAME_CLAIM, user.getName());
+        }
         return Jwts
                 .builder()
-                .claims(extraClaims)
+                .claims(claims)
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * Extracts all claims from JWT token.
+     * Extracts all claims from JWT token, verifying it unless it was verified recently.
      *
      * @param token JWT token
      * @return all claims
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
+        if (claimsCache == null) {
+            return parseClaims(token);
+        }
+        return claimsCache.get(digest(token), digest -> parseClaims(token));
+    }
+
+    /**
+     * Verifies the token's signature and expiration and parses its claims.
+     *
+     * @param token JWT token
+     * @return all claims
+     */
+    private Claims parseClaims(String token) {
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
     /**
-     * Gets signing key for JWT token.
+     * Computes the cache duration of verified claims: the configured TTL, but no longer
+     * than until the token expires.
+     *
+     * @param claims the token's claims
+     * @return how long the claims may be served from the cache
+     */
+    private Duration cacheDuration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return claimsCacheTtl;
+        }
+        Duration untilExpiration = Duration.ofMillis(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        return untilExpiration.compareTo(claimsCacheTtl) < 0 ? untilExpiration : claimsCacheTtl;
+    }
+
+    /**
+     * Hashes a token for use as a cache key, so tokens are not kept in memory.
+     *
+     * @param token JWT token
+     * @return Base64 encoded SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Decodes the signing key for JWT tokens from the configured secret.
      *
      * @return signing key
      */
-    private SecretKey getSignInKey() {
+    private SecretKey decodeSigningKey() {
         try {
             byte[] keyBytes = Decoders.BASE64.decode(secretKey);
             return Keys.hmacShaKeyFor(keyBytes);
@@ -168,4 +281,4 @@ public class JwtService {
             throw new RuntimeException("Failed to initialize JWT signing key", e);
         }
     }
-}
\ No newline at end of file
+}
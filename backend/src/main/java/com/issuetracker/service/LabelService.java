@@ -29,9 +29,11 @@ public class LabelService {
     private static final Logger logger = LoggerFactory.getLogger(LabelService.class);
 
     private final LabelRepository labelRepository;
+    private final CacheGenerationService cacheGenerationService;
 
-    public LabelService(LabelRepository labelRepository) {
+    public LabelService(LabelRepository labelRepository, CacheGenerationService cacheGenerationService) {
         this.labelRepository = labelRepository;
+        this.cacheGenerationService = cacheGenerationService;
     }
 
     /**
@@ -87,6 +89,8 @@ public class LabelService {
         label.setColor(request.getColor());
 
         Label updatedLabel = labelRepository.save(label);
+        // Labels are shown with the issues of every project and sprint
+        cacheGenerationService.userChanged(user.getEmail());
 
         logger.info("Updated label '{}' (ID: {}) for user {}", 
                    updatedLabel.getName(), updatedLabel.getId(), user.getId());
@@ -207,6 +211,7 @@ public class LabelService {
 
         // Delete label (cascade will handle issue associations)
         labelRepository.delete(label);
+        cacheGenerationService.userChanged(user.getEmail());
 
         logger.info("Deleted label '{}' (ID: {}) for user {}", 
                    label.getName(), label.getId(), user.getId());
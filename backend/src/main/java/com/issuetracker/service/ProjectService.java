@@ -3,15 +3,16 @@ package com.issuetracker.service;
 import com.issuetracker.dto.CreateProjectRequest;
 import com.issuetracker.dto.ProjectDto;
 import com.issuetracker.dto.UpdateProjectRequest;
-import com.issuetracker.entity.Issue;
-import com.issuetracker.entity.IssueStatus;
 import com.issuetracker.entity.Project;
 import com.issuetracker.entity.ProjectStatus;
+import com.issuetracker.entity.SyncEntityType;
 import com.issuetracker.entity.User;
 import com.issuetracker.exception.DuplicateResourceException;
 import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.repository.CommentRepository;
 import com.issuetracker.repository.IssueRepository;
 import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.SyncTombstoneRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,10 +36,22 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final IssueRepository issueRepository;
-
-    public ProjectService(ProjectRepository projectRepository, IssueRepository issueRepository) {
+    private final CacheGenerationService cacheGenerationService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final CommentRepository commentRepository;
+    private final ChangeNotificationService changeNotificationService;
+
+    public ProjectService(ProjectRepository projectRepository, IssueRepository issueRepository,
+                          CacheGenerationService cacheGenerationService,
+                          SyncTombstoneRepository syncTombstoneRepository,
+                          CommentRepository commentRepository,
+                          ChangeNotificationService changeNotificationService) {
         this.projectRepository = projectRepository;
         this.issueRepository = issueRepository;
+        this.cacheGenerationService = cacheGenerationService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.commentRepository = commentRepository;
+        this.changeNotificationService = changeNotificationService;
     }
 
     /**
@@ -60,6 +74,7 @@ public class ProjectService {
         // Create and save project
         Project project = new Project(user, request.getName(), request.getKey(), request.getDescription());
         Project savedProject = projectRepository.save(project);
+        cacheGenerationService.changed(user.getEmail(), List.of(savedProject.getId()), List.of());
 
         logger.info("✅ Created project '{}' with key '{}' for user: {}", 
                    savedProject.getName(), savedProject.getKey(), user.getEmail());
@@ -87,6 +102,8 @@ public class ProjectService {
         project.setDescription(request.getDescription());
 
         Project updatedProject = projectRepository.save(project);
+        // Project names are shown with the issues of every sprint
+        cacheGenerationService.userChanged(user.getEmail());
 
         logger.info("Updated project '{}' (ID: {}) for user {}", 
                    updatedProject.getName(), updatedProject.getId(), user.getId());
@@ -190,8 +207,14 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndUser(projectId, user)
                 .orElseThrow(() -> ResourceNotFoundException.project(projectId));
 
-        // Delete project (cascade will handle related entities)
+        // Delete project (cascade will handle related entities), leaving tombstones for the sync feed
+        List<Long> deletedIssueIds = issueRepository.findIdsByProject(project);
+        List<Long> deletedCommentIds = commentRepository.findIdsByIssueProject(project);
+        syncTombstoneRepository.recordProjectDeleted(projectId, Instant.now());
         projectRepository.delete(project);
+        cacheGenerationService.userChanged(user.getEmail());
+        changeNotificationService.deleted(user.getEmail(), SyncEntityType.ISSUE, deletedIssueIds);
+        changeNotificationService.deleted(user.getEmail(), SyncEntityType.COMMENT, deletedCommentIds);
 
         logger.info("Deleted project '{}' (ID: {}) for user {}", 
                    project.getName(), project.getId(), user.getId());
@@ -259,10 +282,11 @@ public class ProjectService {
         logger.info("🔍 Checking if project '{}' (ID: {}) should update status based on epic completion", 
                    project.getName(), project.getId());
 
-        // Get all epic issues in this project (issues with no parent)
-        List<Issue> epics = issueRepository.findByUserAndProjectAndParentIssueIsNullOrderByCreatedAtDesc(user, project);
+        // One aggregate over the project's epics (issues with no parent) instead of loading them and their children
+        Object[] summary = issueRepository.summarizeEpicsByProject(user, project).get(0);
+        long epicCount = ((Number) summary[0]).longValue();
         
-        if (epics.isEmpty()) {
+        if (epicCount == 0) {
             logger.info("📋 Project '{}' has no epics, keeping status as IN_PROGRESS", project.getName());
             if (project.getStatus() != ProjectStatus.IN_PROGRESS) {
                 project.setStatus(ProjectStatus.IN_PROGRESS);
@@ -278,15 +302,9 @@ public class ProjectService {
         // 1. It has children and all children are DONE (epic auto-completes to DONE)
         // 2. It has no children but is manually set to DONE
         // 3. It has no children and is still in BACKLOG (considered neutral - doesn't block project completion)
-        boolean allEpicsComplete = epics.stream()
-                .allMatch(epic -> {
-                    if (epic.getStatus() == IssueStatus.DONE) {
-                        return true; // Epic is explicitly DONE
-                    }
-                    // If epic has no children, it doesn't block project completion
-                    List<Issue> children = issueRepository.findByParentIssueAndUserOrderByCreatedAtDesc(epic, user);
-                    return children.isEmpty();
-                });
+        // so only epics that are not DONE and have children block completion
+        long blockingEpics = ((Number) summary[3]).longValue();
+        boolean allEpicsComplete = blockingEpics == 0;
 
         if (allEpicsComplete && project.getStatus() != ProjectStatus.DONE) {
             logger.info("✅ All epics in project '{}' are complete (DONE or have no children), marking project as DONE", project.getName());
@@ -295,7 +313,7 @@ public class ProjectService {
             projectRepository.save(project);
             
             logger.info("🎉 Project '{}' (ID: {}) automatically completed - all {} epics are complete", 
-                       project.getName(), project.getId(), epics.size());
+                       project.getName(), project.getId(), epicCount);
         } else if (!allEpicsComplete && project.getStatus() == ProjectStatus.DONE) {
             logger.info("🔄 Project '{}' has incomplete epics, reverting from DONE to IN_PROGRESS", project.getName());
             
@@ -305,13 +323,10 @@ public class ProjectService {
             logger.info("🔄 Project '{}' (ID: {}) reverted to IN_PROGRESS - has incomplete epics", 
                        project.getName(), project.getId());
         } else {
-            long doneEpics = epics.stream().mapToLong(epic -> epic.getStatus() == IssueStatus.DONE ? 1 : 0).sum();
-            long epicsWithoutChildren = epics.stream().mapToLong(epic -> {
-                List<Issue> children = issueRepository.findByParentIssueAndUserOrderByCreatedAtDesc(epic, user);
-                return children.isEmpty() ? 1 : 0;
-            }).sum();
+            long doneEpics = ((Number) summary[1]).longValue();
+            long epicsWithoutChildren = ((Number) summary[2]).longValue();
             logger.info("📊 Project '{}' status unchanged - {} DONE epics, {} epics without children, {} total epics", 
-                       project.getName(), doneEpics, epicsWithoutChildren, epics.size());
+                       project.getName(), doneEpics, epicsWithoutChildren, epicCount);
         }
     }
 }
\ No newline at end of file
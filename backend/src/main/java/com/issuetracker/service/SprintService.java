@@ -1,6 +1,7 @@
 package com.issuetracker.service;
 
 import com.issuetracker.dto.CreateSprintRequest;
+import com.issuetracker.dto.PageCursor;
 import com.issuetracker.dto.SprintDto;
 import com.issuetracker.dto.SprintActivationResponse;
 import com.issuetracker.dto.UpdateSprintRequest;
@@ -9,16 +10,21 @@ import com.issuetracker.exception.InvalidSprintOperationException;
 import com.issuetracker.exception.ResourceNotFoundException;
 import com.issuetracker.repository.IssueRepository;
 import com.issuetracker.repository.SprintRepository;
+import com.issuetracker.repository.SyncTombstoneRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -34,11 +40,22 @@ public class SprintService {
     private final SprintRepository sprintRepository;
     private final IssueRepository issueRepository;
     private final AuditService auditService;
-
-    public SprintService(SprintRepository sprintRepository, IssueRepository issueRepository, AuditService auditService) {
+    private final IssueCounterService issueCounterService;
+    private final CacheGenerationService cacheGenerationService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ChangeNotificationService changeNotificationService;
+
+    public SprintService(SprintRepository sprintRepository, IssueRepository issueRepository, AuditService auditService,
+                         IssueCounterService issueCounterService, CacheGenerationService cacheGenerationService,
+                         SyncTombstoneRepository syncTombstoneRepository,
+                         ChangeNotificationService changeNotificationService) {
         this.sprintRepository = sprintRepository;
         this.issueRepository = issueRepository;
         this.auditService = auditService;
+        this.issueCounterService = issueCounterService;
+        this.cacheGenerationService = cacheGenerationService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.changeNotificationService = changeNotificationService;
     }
 
     /**
@@ -69,6 +86,8 @@ public class SprintService {
         // Create sprint
         Sprint sprint = new Sprint(user, request.getName(), request.getStartDate(), request.getEndDate(), request.getGoal());
         Sprint savedSprint = sprintRepository.save(sprint);
+        cacheGenerationService.changed(user.getEmail(), List.of(), List.of(savedSprint.getId()));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.SPRINT, List.of(savedSprint.getId()));
 
         logger.info("✅ Created sprint '{}' (ID: {}) for user: {}", 
                    savedSprint.getName(), savedSprint.getId(), user.getEmail());
@@ -112,6 +131,8 @@ public class SprintService {
         sprint.setGoal(request.getGoal());
 
         Sprint updatedSprint = sprintRepository.save(sprint);
+        cacheGenerationService.changed(user.getEmail(), List.of(), List.of(sprintId));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.SPRINT, List.of(sprintId));
 
         logger.info("Updated sprint '{}' (ID: {}) for user {}", 
                    updatedSprint.getName(), updatedSprint.getId(), user.getId());
@@ -169,25 +190,26 @@ public class SprintService {
         sprint.setStatus(SprintStatus.ACTIVE);
         Sprint activatedSprint = sprintRepository.save(sprint);
 
-        // Move all BACKLOG issues in this sprint to SELECTED_FOR_DEVELOPMENT
-        List<Issue> sprintIssues = issueRepository.findByUserAndSprint(user, activatedSprint);
-        logger.info("🔍 Found {} issues in sprint {} for user {}", sprintIssues.size(), sprintId, user.getEmail());
-        
-        List<Long> updatedIssueIds = new ArrayList<>();
+        // Move all BACKLOG issues in this sprint to SELECTED_FOR_DEVELOPMENT with one bulk update.
+        // The sprint's issues are locked first, so the issues read here are the ones updated and
+        // the counter deltas and audit entries derived from them match the update.
+        issueRepository.lockByUserAndSprint(user.getId(), activatedSprint.getId());
+        List<Long> updatedIssueIds = issueRepository.findIdsByUserAndSprintAndStatus(
+                user, activatedSprint, IssueStatus.BACKLOG);
+        logger.info("🔍 Found {} BACKLOG issues in sprint {} for user {}", updatedIssueIds.size(), sprintId, user.getEmail());
+
         int movedIssuesCount = 0;
-        for (Issue issue : sprintIssues) {
-            logger.debug("📋 Processing issue {} with status {}", issue.getId(), issue.getStatus());
-            if (issue.getStatus() == IssueStatus.BACKLOG) {
-                logger.info("🔄 Moving issue {} from BACKLOG to SELECTED_FOR_DEVELOPMENT", issue.getId());
-                issue.setStatus(IssueStatus.SELECTED_FOR_DEVELOPMENT);
-                issueRepository.save(issue);
-                updatedIssueIds.add(issue.getId());
-                movedIssuesCount++;
-                
-                // Log the status change for audit
-                auditService.logStatusChange(issue, user, IssueStatus.BACKLOG, IssueStatus.SELECTED_FOR_DEVELOPMENT);
-            }
+        if (!updatedIssueIds.isEmpty()) {
+            List<Object[]> counterBuckets = issueRepository.aggregateCounterBucketsByIdIn(updatedIssueIds);
+            movedIssuesCount = issueRepository.updateStatusByIdInAndStatus(updatedIssueIds, IssueStatus.BACKLOG,
+                    IssueStatus.SELECTED_FOR_DEVELOPMENT, Instant.now());
+            auditService.logStatusChanges(updatedIssueIds, user, IssueStatus.BACKLOG, IssueStatus.SELECTED_FOR_DEVELOPMENT);
+            issueCounterService.issuesMovedToStatus(user.getId(), counterBuckets, IssueStatus.SELECTED_FOR_DEVELOPMENT);
         }
+        // Moved issues and cleared sprint dates may belong to any project
+        cacheGenerationService.userChanged(user.getEmail());
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.SPRINT, List.of(activatedSprint.getId()));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, updatedIssueIds);
 
         logger.info("✅ Activated sprint '{}' (ID: {}) for user: {} and moved {} issues to SELECTED", 
                    activatedSprint.getName(), activatedSprint.getId(), user.getEmail(), movedIssuesCount);
@@ -252,40 +274,60 @@ public class SprintService {
             throw InvalidSprintOperationException.sprintNotActive();
         }
 
-        // Move incomplete issues back to backlog and track completed sprint
-        List<Issue> sprintIssues = issueRepository.findByUserAndSprint(user, sprint);
-        logger.info("🔍 Found {} total issues in sprint {}", sprintIssues.size(), sprint.getId());
-        
-        int movedIssues = 0;
-        for (Issue issue : sprintIssues) {
-            logger.info("🔍 Processing issue {} with status {}", issue.getId(), issue.getStatus());
-            if (issue.getStatus() != IssueStatus.DONE) {
-                logger.info("🔄 Moving incomplete issue {} to backlog and marking with completed sprint {}", 
-                           issue.getId(), sprint.getId());
-                
-                // Set reference to completed sprint before removing from current sprint
-                issue.setLastCompletedSprint(sprint);
-                issue.setSprint(null); // Remove from sprint (back to backlog)
-                issue.setStatus(IssueStatus.BACKLOG); // Ensure status is BACKLOG
-                issueRepository.save(issue);
-                movedIssues++;
-                
-                logger.info("✅ Issue {} successfully moved to backlog and marked as incomplete from sprint {}", 
-                           issue.getId(), sprint.getId());
-            } else {
-                logger.info("✅ Issue {} is DONE, keeping in sprint {}", issue.getId(), sprint.getId());
-            }
-        }
+        // Lock the sprint's issues so the snapshot, the moved issues and their counter deltas
+        // all describe the same state
+        issueRepository.lockByUserAndSprint(user.getId(), sprint.getId());
+
+        // Freeze the final totals before incomplete issues leave the sprint
+        recordCompletionSnapshot(sprint);
 
         sprint.setStatus(SprintStatus.COMPLETED);
         Sprint completedSprint = sprintRepository.save(sprint);
 
+        // Move incomplete issues back to backlog with one bulk update, marking them with the completed sprint.
+        // DONE issues stay in the sprint.
+        List<Long> incompleteIssueIds = issueRepository.findIdsByUserAndSprintAndStatusNot(
+                user, completedSprint, IssueStatus.DONE);
+        logger.info("🔍 Found {} incomplete issues in sprint {}", incompleteIssueIds.size(), sprint.getId());
+
+        int movedIssues = 0;
+        if (!incompleteIssueIds.isEmpty()) {
+            List<Object[]> counterBuckets = issueRepository.aggregateCounterBucketsByIdIn(incompleteIssueIds);
+            movedIssues = issueRepository.moveToBacklogFromCompletedSprint(incompleteIssueIds, completedSprint, Instant.now());
+            issueCounterService.issuesMovedToStatus(user.getId(), counterBuckets, IssueStatus.BACKLOG);
+        }
+        cacheGenerationService.userChanged(user.getEmail());
+        // Coalesced with the issue events into one message, however many issues moved
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.SPRINT, List.of(completedSprint.getId()));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, incompleteIssueIds);
+
         logger.info("✅ Completed sprint '{}' (ID: {}) for user: {} - moved {} incomplete issues to backlog", 
                    completedSprint.getName(), completedSprint.getId(), user.getEmail(), movedIssues);
 
         return convertToDto(completedSprint);
     }
 
+    /**
+     * Stores the sprint's final issue and story point totals on the sprint.
+     *
+     * @param sprint the sprint being completed, before its incomplete issues are moved out
+     */
+    private void recordCompletionSnapshot(Sprint sprint) {
+        Object[] totals = issueRepository.summarizeSprint(sprint).get(0);
+        int issueCount = ((Number) totals[0]).intValue();
+        int doneIssues = ((Number) totals[1]).intValue();
+        int storyPoints = ((Number) totals[2]).intValue();
+        int doneStoryPoints = ((Number) totals[3]).intValue();
+
+        sprint.setSnapshotIssueCount(issueCount);
+        sprint.setSnapshotDoneIssueCount(doneIssues);
+        sprint.setSnapshotStoryPoints(storyPoints);
+        sprint.setSnapshotDoneStoryPoints(doneStoryPoints);
+
+        logger.info("📸 Sprint {} snapshot: {}/{} issues done, {}/{} story points done",
+                   sprint.getId(), doneIssues, issueCount, doneStoryPoints, storyPoints);
+    }
+
     /**
      * Retrieves a sprint by ID with user isolation.
      *
@@ -400,6 +442,24 @@ public class SprintService {
         return completedIssues;
     }
 
+    /**
+     * Gets the user's sprints changed after a sync feed position, in change order.
+     * Issue counts are derived and do not mark a sprint as changed.
+     *
+     * @param user the sprint owner
+     * @param after position of the last sprint already returned
+     * @param until exclusive upper bound on the modification time
+     * @param limit maximum number of sprints
+     * @return changed sprint DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<SprintDto> getSprintsChangedSince(User user, PageCursor after, Instant until, int limit) {
+        return sprintRepository.findChangedSince(user, after.getCreatedAt(), after.getId(), until,
+                        PageRequest.of(0, limit)).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
     /**
      * Deletes a sprint and removes it from all associated issues.
      *
@@ -413,18 +473,18 @@ public class SprintService {
         Sprint sprint = sprintRepository.findByIdAndUser(sprintId, user)
                 .orElseThrow(() -> ResourceNotFoundException.sprint(sprintId));
 
-        // Remove sprint from all associated issues
-        List<Issue> sprintIssues = issueRepository.findByUserAndSprint(user, sprint);
-        for (Issue issue : sprintIssues) {
-            issue.setSprint(null);
-            issueRepository.save(issue);
-        }
+        // Remove sprint from all associated issues with one bulk update
+        Instant now = Instant.now();
+        int removedFromIssues = issueRepository.clearSprint(user, sprint, now);
 
-        // Delete sprint
+        // Delete sprint, leaving a tombstone for the sync feed
+        syncTombstoneRepository.recordDeleted(user.getId(), SyncEntityType.SPRINT.name(), sprintId, now);
         sprintRepository.delete(sprint);
+        cacheGenerationService.changed(user.getEmail(), List.of(), List.of(sprintId));
+        changeNotificationService.deleted(user.getEmail(), SyncEntityType.SPRINT, List.of(sprintId));
 
         logger.info("Deleted sprint '{}' (ID: {}) for user {} - removed from {} issues", 
-                   sprint.getName(), sprint.getId(), user.getId(), sprintIssues.size());
+                   sprint.getName(), sprint.getId(), user.getId(), removedFromIssues);
     }
 
     /**
@@ -445,11 +505,14 @@ public class SprintService {
                 .orElseThrow(() -> ResourceNotFoundException.sprint(sprintId));
 
         List<Issue> updatedIssues = new ArrayList<>();
+        Map<Long, IssueCounterService.Bucket> counterBuckets = new HashMap<>();
 
         for (Long issueId : issueIds) {
             Issue issue = issueRepository.findByIdAndUser(issueId, user)
                     .orElseThrow(() -> ResourceNotFoundException.issue(issueId));
 
+            counterBuckets.putIfAbsent(issue.getId(), IssueCounterService.Bucket.of(issue));
+
             // Assign issue to sprint
             issue.setSprint(sprint);
 
@@ -471,12 +534,20 @@ public class SprintService {
             // Log the status change for audit if status changed
             if (oldStatus != issue.getStatus()) {
                 auditService.logStatusChange(issue, user, oldStatus, issue.getStatus());
+                Long parentId = issue.getParentIssue() != null ? issue.getParentIssue().getId() : null;
+                issueCounterService.epicChildChanged(parentId, oldStatus, parentId, issue.getStatus());
             }
 
             logger.info("✅ Issue {} added to sprint {} with status {}", 
                        issueId, sprintId, issue.getStatus());
         }
 
+        issueCounterService.issuesChanged(counterBuckets, updatedIssues);
+        // The issues may come from any project and sprint
+        cacheGenerationService.userChanged(user.getEmail());
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.SPRINT, List.of(sprintId));
+        changeNotificationService.changed(user.getEmail(), SyncEntityType.ISSUE, issueIds);
+
         logger.info("✅ Successfully added {} issues to sprint {} for user: {}", 
                    updatedIssues.size(), sprintId, user.getEmail());
 
@@ -0,0 +1,159 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.*;
+import com.issuetracker.entity.SyncTombstone;
+import com.issuetracker.entity.User;
+import com.issuetracker.exception.InvalidCursorException;
+import com.issuetracker.repository.SyncTombstoneRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Service for the delta sync feed: the issues, comments and sprints of a user created, updated
+ * or deleted since a cursor.
+ *
+ * Each kind of change is read as its own stream in (updatedAt, id) order from the
+ * (user_id, updated_at, id) indexes, deletions from the tombstones recorded by the deleting
+ * transactions. Reads stop at a bound slightly in the past (the commit lag), since a row is
+ * timestamped before its transaction commits and could otherwise appear behind a cursor that
+ * has already passed it. On PostgreSQL the bound also stays behind the start of the oldest open
+ * transaction, so rows written by long transactions such as large imports are not skipped
+ * either; the commit lag then only has to cover clock skew and the time between a
+ * transaction's first statement and its timestamps. Once a stream is read up to the bound, its
+ * position moves to the bound, so idle streams are not scanned again and cursors of active
+ * clients never fall behind the tombstone retention.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final String OLDEST_OPEN_TRANSACTION_SQL =
+            "SELECT MIN(xact_start) FROM pg_stat_activity " +
+            "WHERE datname = current_database() AND backend_type = 'client backend' " +
+            "AND pid <> pg_backend_pid()";
+
+    private final IssueService issueService;
+    private final CommentService commentService;
+    private final SprintService sprintService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean openTransactionsVisible;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    public SyncService(IssueService issueService,
+                       CommentService commentService,
+                       SprintService sprintService,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       JdbcTemplate jdbcTemplate,
+                       EntityManagerFactory entityManagerFactory,
+                       @Value("${sync.commit-lag:PT5S}") Duration commitLag,
+                       @Value("${sync.tombstones.retention:P30D}") Duration tombstoneRetention) {
+        this.issueService = issueService;
+        this.commentService = commentService;
+        this.sprintService = sprintService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.openTransactionsVisible = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Gets the changes of a user's data since a cursor.
+     * Without a cursor, all live issues, comments and sprints are returned, page by page.
+     *
+     * @param user the owner
+     * @param cursor opaque cursor returned as nextCursor by the previous request
+     * @param limit maximum number of entries per kind of change (default 20, at most 100)
+     * @return the changes and the cursor to continue from
+     * @throws InvalidCursorException if the cursor is malformed or older than the tombstone retention
+     */
+    public SyncChangesDto getChanges(User user, String cursor, Integer limit) {
+        Instant now = Instant.now();
+        Instant until = readBound(now);
+        SyncCursor position = SyncCursor.decode(cursor, SyncCursor.initial(until));
+        if (position.getTombstones().getCreatedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw InvalidCursorException.expired();
+        }
+        int pageSize = CursorPage.normalizeLimit(limit);
+        logger.debug("Reading changes for user {} until {}", user.getId(), until);
+
+        // Upserts are read before deletions, so a row deleted meanwhile is followed by its tombstone
+        ChangeStream<IssueDto> issues = stream(
+                issueService.getIssuesChangedSince(user, position.getIssues(), until, pageSize + 1),
+                pageSize, position.getIssues(), until, issue -> new PageCursor(issue.getUpdatedAt(), issue.getId()));
+        ChangeStream<CommentDto> comments = stream(
+                commentService.getCommentsChangedSince(user, position.getComments(), until, pageSize + 1),
+                pageSize, position.getComments(), until,
+                comment -> new PageCursor(comment.getUpdatedAt(), comment.getId()));
+        ChangeStream<SprintDto> sprints = stream(
+                sprintService.getSprintsChangedSince(user, position.getSprints(), until, pageSize + 1),
+                pageSize, position.getSprints(), until, sprint -> new PageCursor(sprint.getUpdatedAt(), sprint.getId()));
+        ChangeStream<SyncTombstone> tombstones = stream(
+                syncTombstoneRepository.findChangedSince(user.getId(), position.getTombstones().getCreatedAt(),
+                        position.getTombstones().getId(), until, PageRequest.of(0, pageSize + 1)),
+                pageSize, position.getTombstones(), until,
+                tombstone -> new PageCursor(tombstone.getDeletedAt(), tombstone.getId()));
+
+        SyncCursor next = new SyncCursor(issues.next(), comments.next(), sprints.next(), tombstones.next());
+        List<SyncTombstoneDto> deleted = tombstones.items().stream()
+                .map(tombstone -> new SyncTombstoneDto(tombstone.getEntityType(), tombstone.getEntityId(),
+                        tombstone.getDeletedAt()))
+                .toList();
+        boolean hasMore = issues.hasMore() || comments.hasMore() || sprints.hasMore() || tombstones.hasMore();
+
+        return new SyncChangesDto(issues.items(), comments.items(), sprints.items(), deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Works out up to when changes can be read without skipping rows of uncommitted transactions.
+     * The oldest open transaction, e.g. a large import, may have timestamped rows long before it
+     * commits, so the bound does not pass its start.
+     */
+    private Instant readBound(Instant now) {
+        Instant until = now;
+        if (openTransactionsVisible) {
+            Timestamp oldestStart = jdbcTemplate.queryForObject(OLDEST_OPEN_TRANSACTION_SQL, Timestamp.class);
+            if (oldestStart != null && oldestStart.toInstant().isBefore(until)) {
+                until = oldestStart.toInstant();
+            }
+        }
+        return until.minus(commitLag);
+    }
+
+    /**
+     * Cuts one stream's rows, fetched with one row of look-ahead, to the page size
+     * and works out where the stream continues.
+     */
+    private static <T> ChangeStream<T> stream(List<T> rows, int limit, PageCursor after, Instant until,
+                                              Function<T, PageCursor> positionOf) {
+        if (rows.size() > limit) {
+            List<T> items = rows.subList(0, limit);
+            return new ChangeStream<>(items, positionOf.apply(items.get(limit - 1)), true);
+        }
+        // Everything before the bound has been read
+        PageCursor next = after.getCreatedAt().isBefore(until) ? new PageCursor(until, 0L) : after;
+        return new ChangeStream<>(rows, next, false);
+    }
+
+    private record ChangeStream<T>(List<T> items, PageCursor next, boolean hasMore) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.issuetracker.service;
+
+import com.issuetracker.repository.SyncTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Scheduled job that removes sync tombstones older than the retention period.
+ * Clients whose cursor is older than that are asked to resync instead (see {@link SyncService}).
+ */
+@Component
+public class SyncTombstoneCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncTombstoneCleanupJob.class);
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final Duration retention;
+
+    public SyncTombstoneCleanupJob(SyncTombstoneRepository syncTombstoneRepository,
+                                   @Value("${sync.tombstones.retention:P30D}") Duration retention) {
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Deletes the expired tombstones of all users.
+     *
+     * @return number of deleted tombstones
+     */
+    @Scheduled(cron = "${sync.tombstones.cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public int purgeExpired() {
+        int deleted = syncTombstoneRepository.deleteOlderThan(Instant.now().minus(retention));
+        logger.info("✅ Sync tombstone cleanup finished: {} tombstones deleted", deleted);
+        return deleted;
+    }
+}
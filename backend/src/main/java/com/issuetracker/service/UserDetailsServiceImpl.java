@@ -10,11 +10,11 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-
 /**
  * Implementation of Spring Security UserDetailsService.
  * Loads user details for authentication and authorization.
+ * Only used at login and for tokens without a user ID claim; other requests are
+ * authenticated from the token alone.
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -46,16 +46,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         logger.debug("User found: {}", user.getName());
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(new ArrayList<>()) // No roles for now, all users have same permissions
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
-                
+        // The principal carries the user ID so tokens can identify the user without a lookup
+        UserDetails userDetails = AuthenticatedUser.of(user);
+
         logger.debug("UserDetails created successfully");
         return userDetails;
     }
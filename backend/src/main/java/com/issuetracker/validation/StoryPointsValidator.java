@@ -26,14 +26,29 @@ public class StoryPointsValidator implements ConstraintValidator<ValidStoryPoint
             return true; // Allow null values (optional field)
         }
 
-        if (!VALID_STORY_POINTS.contains(value)) {
+        if (!isAllowed(value)) {
             context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(
-                "Story points must be one of: " + VALID_STORY_POINTS.toString()
-            ).addConstraintViolation();
+            context.buildConstraintViolationWithTemplate(invalidMessage()).addConstraintViolation();
             return false;
         }
 
         return true;
     }
+
+    /**
+     * Checks a story point value outside of bean validation, e.g. for imported rows.
+     *
+     * @param value the story points
+     * @return true if the value is one of the allowed estimates
+     */
+    public static boolean isAllowed(int value) {
+        return VALID_STORY_POINTS.contains(value);
+    }
+
+    /**
+     * @return the message reported for values that are not allowed
+     */
+    public static String invalidMessage() {
+        return "Story points must be one of: " + VALID_STORY_POINTS.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+-- Freeze sprint totals at completion time so dashboard averages no longer rescan sprint issues
+-- The snapshot columns stay NULL until a sprint is completed
+
+ALTER TABLE sprints ADD COLUMN snapshot_issue_count INTEGER;
+ALTER TABLE sprints ADD COLUMN snapshot_done_issue_count INTEGER;
+ALTER TABLE sprints ADD COLUMN snapshot_story_points INTEGER;
+ALTER TABLE sprints ADD COLUMN snapshot_done_story_points INTEGER;
+
+-- Backfill existing completed sprints.
+-- Done issues stay in the sprint on completion; incomplete issues were moved to the
+-- backlog with last_completed_sprint_id pointing at the sprint.
+UPDATE sprints s
+SET snapshot_issue_count = totals.issue_count,
+    snapshot_done_issue_count = totals.done_issue_count,
+    snapshot_story_points = totals.story_points,
+    snapshot_done_story_points = totals.done_story_points
+FROM (
+    SELECT sp.id AS sprint_id,
+           COUNT(i.id) AS issue_count,
+           COUNT(i.id) FILTER (WHERE i.sprint_id = sp.id AND i.status = 'DONE') AS done_issue_count,
+           COALESCE(SUM(i.story_points), 0) AS story_points,
+           COALESCE(SUM(i.story_points) FILTER (WHERE i.sprint_id = sp.id AND i.status = 'DONE'), 0) AS done_story_points
+    FROM sprints sp
+    LEFT JOIN issues i ON i.sprint_id = sp.id OR i.last_completed_sprint_id = sp.id
+    WHERE sp.status = 'COMPLETED'
+    GROUP BY sp.id
+) totals
+WHERE s.id = totals.sprint_id;
+
+COMMENT ON COLUMN sprints.snapshot_issue_count IS 'Number of issues in the sprint when it was completed';
+COMMENT ON COLUMN sprints.snapshot_done_issue_count IS 'Number of DONE issues in the sprint when it was completed';
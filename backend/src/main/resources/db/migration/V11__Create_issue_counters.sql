@@ -0,0 +1,26 @@
+-- Issue counters read model: issue counts per user, project, status and priority
+-- Maintained by the application in the same transaction as issue writes and
+-- verified by a scheduled reconciliation job
+
+CREATE TABLE issue_counters (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    status VARCHAR(30) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    issue_count BIGINT NOT NULL DEFAULT 0,
+    top_level_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_issue_counter_bucket UNIQUE (user_id, project_id, status, priority)
+);
+
+CREATE INDEX idx_issue_counter_project ON issue_counters(project_id);
+
+-- Backfill from existing issues
+INSERT INTO issue_counters (user_id, project_id, status, priority, issue_count, top_level_count)
+SELECT user_id, project_id, status, priority,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE parent_issue_id IS NULL)
+FROM issues
+GROUP BY user_id, project_id, status, priority;
+
+COMMENT ON TABLE issue_counters IS 'Precomputed issue counts per user, project, status and priority for dashboard reads';
@@ -0,0 +1,13 @@
+-- Keyset pagination indexes
+-- Timelines are paged with "WHERE (created_at, id) beyond the cursor ORDER BY created_at, id",
+-- so each index ends with the id tie-breaker and the seek is a single index range scan
+
+-- Issue lists, newest first
+CREATE INDEX idx_issue_user_created ON issues(user_id, created_at DESC, id DESC);
+
+-- Comment and audit timelines, oldest first (replace the indexes without the tie-breaker)
+DROP INDEX IF EXISTS idx_comment_created;
+CREATE INDEX idx_comment_created ON comments(issue_id, created_at, id);
+
+DROP INDEX IF EXISTS idx_audit_created;
+CREATE INDEX idx_audit_created ON audit_logs(issue_id, created_at, id);
@@ -0,0 +1,26 @@
+-- Full-text search
+-- Replaces LOWER(x) LIKE '%term%' scans with tsvector columns kept up to date by
+-- PostgreSQL (stored generated columns) and GIN indexes.
+-- Weights rank title matches above description matches above comment matches.
+
+ALTER TABLE issues ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_issue_search ON issues USING GIN (search_vector);
+
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(content, '')), 'C')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_comment_search ON comments USING GIN (search_vector);
+
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(details, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_audit_search ON audit_logs USING GIN (search_vector);
+
+COMMENT ON COLUMN issues.search_vector IS 'Weighted full-text vector of title (A) and description (B)';
+COMMENT ON COLUMN comments.search_vector IS 'Full-text vector of comment content (weight C)';
+COMMENT ON COLUMN audit_logs.search_vector IS 'Full-text vector of audit details';
@@ -0,0 +1,12 @@
+-- Pooled sequence ids for the tables written in bulk
+-- IDENTITY ids force Hibernate to insert each row on its own to read the generated key,
+-- which disables JDBC insert batching. Issue, Comment and AuditLog now take ids from
+-- these sequences with a pooled optimizer (allocationSize = 50): one nextval call
+-- reserves the 50 ids ending at the returned value.
+-- The column defaults stay in place, so plain SQL inserts keep working; they consume
+-- a whole block per row but never reuse an id handed out to Hibernate.
+-- issue_labels has no generated key and is batched as a collection table already.
+
+ALTER SEQUENCE issues_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE audit_logs_id_seq INCREMENT BY 50;
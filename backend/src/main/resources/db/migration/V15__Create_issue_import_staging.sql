@@ -0,0 +1,25 @@
+-- Staging table for the bulk issue import
+-- Each import batch is loaded with COPY, moved into issues with one INSERT ... SELECT
+-- and deleted again, so the table is normally empty. UNLOGGED skips WAL writes for
+-- these short-lived rows; its contents are lost on a crash, which only affects
+-- imports that were in progress and rolled back anyway.
+
+CREATE UNLOGGED TABLE issue_import_staging (
+    id BIGINT PRIMARY KEY,
+    import_id VARCHAR(36) NOT NULL,
+    line_number INTEGER NOT NULL,
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    issue_type_id BIGINT NOT NULL,
+    sprint_id BIGINT,
+    parent_issue_id BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(30) NOT NULL,
+    priority VARCHAR(10) NOT NULL,
+    story_points INTEGER
+);
+
+CREATE INDEX idx_issue_import_staging_import ON issue_import_staging(import_id, line_number);
+
+COMMENT ON TABLE issue_import_staging IS 'Transient rows of bulk issue imports, loaded with COPY and moved into issues per batch';
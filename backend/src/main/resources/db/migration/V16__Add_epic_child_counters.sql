@@ -0,0 +1,22 @@
+-- Child progress counters on epics
+-- child_total and child_done are maintained by the application in the same transaction
+-- as child creates, deletes, moves and status changes, so epic auto-completion no longer
+-- loads every child. The scheduled counter reconciliation repairs any drift.
+
+ALTER TABLE issues ADD COLUMN child_total INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE issues ADD COLUMN child_done INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from existing child issues
+UPDATE issues e
+SET child_total = c.total,
+    child_done = c.done
+FROM (
+    SELECT parent_issue_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE status = 'DONE') AS done
+    FROM issues
+    WHERE parent_issue_id IS NOT NULL
+    GROUP BY parent_issue_id
+) c
+WHERE e.id = c.parent_issue_id;
+
+COMMENT ON COLUMN issues.child_total IS 'Number of child issues of an epic';
+COMMENT ON COLUMN issues.child_done IS 'Number of DONE child issues of an epic';
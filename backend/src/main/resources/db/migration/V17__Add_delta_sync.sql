@@ -0,0 +1,24 @@
+-- Delta sync feed
+-- Clients read changes with "WHERE user_id = ? AND (updated_at, id) beyond the cursor
+-- ORDER BY updated_at, id", so each table gets a (user_id, updated_at, id) index and the
+-- read is a single index range scan per table.
+
+CREATE INDEX idx_issue_user_updated ON issues(user_id, updated_at, id);
+CREATE INDEX idx_comment_user_updated ON comments(user_id, updated_at, id);
+CREATE INDEX idx_sprint_user_updated ON sprints(user_id, updated_at, id);
+
+-- Deleted rows leave no trace in their tables, so deletes are recorded here in the
+-- deleting transaction and served from the same feed. Rows older than the retention
+-- period are removed by a scheduled job; cursors older than that must resync.
+CREATE TABLE sync_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_sync_tombstone_user_deleted ON sync_tombstones(user_id, deleted_at, id);
+CREATE INDEX idx_sync_tombstone_deleted ON sync_tombstones(deleted_at);
+
+COMMENT ON TABLE sync_tombstones IS 'Deleted issues, comments and sprints, served by the delta sync feed until retention expires';
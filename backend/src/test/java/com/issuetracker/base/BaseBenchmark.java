@@ -0,0 +1,110 @@
+package com.issuetracker.base;
+
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Base class for benchmarks run against Testcontainers PostgreSQL.
+ *
+ * Benchmarks are named *Benchmark so the default test run skips them.
+ * To run them:
+ * mvn test -Pbenchmarks
+ */
+public abstract class BaseBenchmark extends BaseTestcontainersTest {
+
+    private static final Logger logger = Logger.getLogger(BaseBenchmark.class.getName());
+
+    protected static final int WARMUP_RUNS = 3;
+    protected static final int MEASURED_RUNS = 10;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ProjectRepository projectRepository;
+
+    @Autowired
+    protected IssueTypeRepository issueTypeRepository;
+
+    /**
+     * Creates a user with a project and a story issue type to attach seeded issues to.
+     */
+    protected Project createBenchmarkProject(String email) {
+        User user = userRepository.save(new User(email, "password", "Benchmark User"));
+        return projectRepository.save(new Project(user, "Benchmark Project", "BENCH", "Benchmark project"));
+    }
+
+    protected IssueType createBenchmarkIssueType() {
+        return issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+    }
+
+    /**
+     * Inserts issues for the project owner with a single set-based statement.
+     * Statuses and priorities are spread evenly and every tenth issue is top level.
+     * Ids are drawn from the issue sequence, since the Hibernate-generated schema has no column default.
+     */
+    protected void seedIssues(Project project, IssueType issueType, int count) {
+        Long epicId = jdbcTemplate.queryForObject(
+                "INSERT INTO issues (id, user_id, project_id, issue_type_id, title, status, priority, created_at, updated_at) " +
+                "VALUES (nextval('issues_id_seq'), ?, ?, ?, 'Benchmark epic', 'BACKLOG', 'HIGH', now(), now()) RETURNING id",
+                Long.class, project.getUser().getId(), project.getId(), issueType.getId());
+
+        jdbcTemplate.update(
+                "INSERT INTO issues (id, user_id, project_id, issue_type_id, parent_issue_id, title, description, status, " +
+                "priority, story_points, created_at, updated_at) " +
+                "SELECT nextval('issues_id_seq'), ?, ?, ?, CASE WHEN g % 10 = 0 THEN NULL ELSE ? END, 'Benchmark issue ' || g, " +
+                "'Description for benchmark issue ' || g, " +
+                "(ARRAY['BACKLOG','SELECTED_FOR_DEVELOPMENT','IN_PROGRESS','IN_REVIEW','DONE'])[1 + g % 5], " +
+                "(ARRAY['LOW','MEDIUM','HIGH','CRITICAL'])[1 + g % 4], g % 8, " +
+                "now() - (g || ' seconds')::interval, now() - (g || ' seconds')::interval " +
+                "FROM generate_series(1, ?) g",
+                project.getUser().getId(), project.getId(), issueType.getId(), epicId, count - 1);
+
+        jdbcTemplate.execute("ANALYZE issues");
+    }
+
+    /**
+     * Applies a Flyway migration script to the Hibernate-generated schema, for benchmarks that
+     * depend on database objects Hibernate does not create (generated columns, GIN indexes, ...).
+     * The script must be idempotent.
+     */
+    protected void applyMigration(String script) {
+        ScriptUtils.executeSqlScript(DataSourceUtils.getConnection(jdbcTemplate.getDataSource()),
+                new ClassPathResource("db/migration/" + script));
+    }
+
+    /**
+     * Runs the action a few times to warm up, then returns the median of the measured runs in milliseconds.
+     */
+    protected double medianMillis(Supplier<?> action) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            action.get();
+        }
+
+        long[] timings = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            action.get();
+            timings[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(timings);
+        return timings[MEASURED_RUNS / 2] / 1_000_000.0;
+    }
+
+    protected void report(String benchmark, String variant, int size, double millis) {
+        logger.info(String.format("%s [%s] size=%d median=%.2f ms", benchmark, variant, size, millis));
+    }
+}
@@ -0,0 +1,71 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.base.BaseBenchmark;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.IssueCounterRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.service.IssueCounterService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the per-status/per-priority COUNT queries previously used for the dashboard
+ * issue metrics with summing the issue counter buckets that replaced them.
+ */
+public class DashboardIssueMetricsBenchmark extends BaseBenchmark {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueCounterRepository issueCounterRepository;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareCountQueriesWithCounterSum(int issueCount) {
+        Project project = createBenchmarkProject("dashboard-bench-" + issueCount + "@example.com");
+        seedIssues(project, createBenchmarkIssueType(), issueCount);
+        User user = project.getUser();
+        // The seeded rows bypass the counter writers, so build the buckets from them
+        issueCounterService.reconcile(user.getId());
+
+        double counts = medianMillis(() -> countQueries(user));
+        double counterSum = medianMillis(() -> issueCounterRepository.sumByStatusAndPriority(user));
+
+        report("DashboardIssueMetrics", "count queries", issueCount, counts);
+        report("DashboardIssueMetrics", "counter sum", issueCount, counterSum);
+
+        long aggregatedTotal = issueCounterRepository.sumByStatusAndPriority(user).stream()
+                .mapToLong(row -> ((Number) row[2]).longValue())
+                .sum();
+        assertThat(aggregatedTotal).isEqualTo(issueRepository.countByUser(user));
+    }
+
+    /**
+     * The query pattern calculateIssueMetrics used before the issue counters.
+     */
+    private List<Long> countQueries(User user) {
+        List<Long> results = new ArrayList<>();
+        results.add(issueRepository.countByUser(user));
+        for (IssueStatus status : IssueStatus.values()) {
+            results.add(issueRepository.countByUserAndStatus(user, status));
+        }
+        for (Priority priority : Priority.values()) {
+            results.add(issueRepository.countByUserAndPriority(user, priority));
+        }
+        results.add(issueRepository.countByUserAndStatus(user, IssueStatus.BACKLOG));
+        results.add(issueRepository.countByUserAndStatus(user, IssueStatus.DONE));
+        results.add(issueRepository.countByUserAndParentIssueIsNull(user));
+        results.add(issueRepository.countByUserAndParentIssueIsNotNull(user));
+        return results;
+    }
+}
@@ -0,0 +1,70 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.base.BaseBenchmark;
+import com.issuetracker.entity.Project;
+import com.issuetracker.service.ExportFormat;
+import com.issuetracker.service.ExportService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the streaming issue export at different sizes.
+ * Peak heap after a forced GC should stay roughly the same at every size.
+ */
+public class ExportBenchmark extends BaseBenchmark {
+
+    @Autowired
+    private ExportService exportService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void measureStreamingExport(int issueCount) {
+        Project project = createBenchmarkProject("export-bench-" + issueCount + "@example.com");
+        seedIssues(project, createBenchmarkIssueType(), issueCount);
+
+        double ndjson = medianMillis(() -> export(project, ExportFormat.NDJSON));
+        double csv = medianMillis(() -> export(project, ExportFormat.CSV));
+
+        System.gc();
+        resetPeakHeap();
+        long exported = export(project, ExportFormat.NDJSON);
+        long peakHeapMb = peakHeapBytes() / (1024 * 1024);
+
+        report("Export", "NDJSON", issueCount, ndjson);
+        report("Export", "CSV", issueCount, csv);
+        report("Export", "NDJSON peak heap MB=" + peakHeapMb, issueCount, 0);
+
+        assertThat(exported).isEqualTo(issueCount);
+    }
+
+    private long export(Project project, ExportFormat format) {
+        try {
+            return exportService.exportIssues(project.getUser(), format, OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void resetPeakHeap() {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+}
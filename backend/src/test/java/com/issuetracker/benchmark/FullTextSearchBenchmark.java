@@ -0,0 +1,68 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.base.BaseBenchmark;
+import com.issuetracker.dto.IssueSearchResultDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.CommentRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.service.IssueSearchService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the LOWER(x) LIKE '%term%' search queries with the GIN-indexed full-text search.
+ */
+public class FullTextSearchBenchmark extends BaseBenchmark {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private IssueSearchService issueSearchService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareLikeWithFullTextSearch(int issueCount) {
+        applyMigration("V13__Add_full_text_search.sql");
+        Project project = createBenchmarkProject("search-bench-" + issueCount + "@example.com");
+        seedIssues(project, createBenchmarkIssueType(), issueCount);
+        seedComments(project.getUser(), issueCount / 10);
+        User user = project.getUser();
+        PageRequest page = PageRequest.of(0, 20);
+
+        double titleLike = medianMillis(() -> issueRepository.findByUserAndTitleContainingIgnoreCase(user, "4242", page));
+        double issueFullText = medianMillis(() -> issueSearchService.searchIssues(user, "4242", page));
+        double commentLike = medianMillis(() -> commentRepository.findByUserAndContentContainingIgnoreCase(user, "rollback", page));
+        double commentFullText = medianMillis(() -> commentRepository.searchFullText(user.getId(), "rollback", page));
+
+        report("FullTextSearch", "issue title LIKE", issueCount, titleLike);
+        report("FullTextSearch", "issue ranked full-text (title, description, comments)", issueCount, issueFullText);
+        report("FullTextSearch", "comment LIKE", issueCount, commentLike);
+        report("FullTextSearch", "comment full-text", issueCount, commentFullText);
+
+        Page<IssueSearchResultDto> results = issueSearchService.searchIssues(user, "4242", page);
+        assertThat(results.getContent()).isNotEmpty();
+        assertThat(results.getContent().get(0).getHighlightedTitle()).contains("<mark>4242</mark>");
+    }
+
+    /**
+     * Adds one comment to each of the first issues of the user; a fifth of them mention "rollback".
+     */
+    private void seedComments(User user, int count) {
+        jdbcTemplate.update(
+                "INSERT INTO comments (id, user_id, issue_id, content, created_at, updated_at) " +
+                "SELECT nextval('comments_id_seq'), ?, i.id, CASE WHEN i.id % 5 = 0 THEN 'Needs a rollback plan before release ' || i.id " +
+                "ELSE 'Reviewed and looks fine ' || i.id END, now(), now() " +
+                "FROM issues i WHERE i.user_id = ? ORDER BY i.id LIMIT ?",
+                user.getId(), user.getId(), count);
+        jdbcTemplate.execute("ANALYZE comments");
+    }
+}
@@ -0,0 +1,83 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.base.BaseBenchmark;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.AuditLogRepository;
+import com.issuetracker.repository.IssueRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares row-by-row inserts, which is what IDENTITY ids forced, with JDBC-batched inserts
+ * of sequence-id entities for bulk issue creation and audit writes.
+ * Batch size 50 matches hibernate.jdbc.batch_size in application-prod.yml.
+ */
+public class InsertBatchingBenchmark extends BaseBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000})
+    void compareRowByRowWithBatchedInserts(int rowCount) {
+        Project project = createBenchmarkProject("insert-bench-" + rowCount + "@example.com");
+        IssueType issueType = createBenchmarkIssueType();
+        User user = project.getUser();
+
+        double rowByRowIssues = medianMillis(() -> insertIssues(project, issueType, rowCount, 1));
+        double batchedIssues = medianMillis(() -> insertIssues(project, issueType, rowCount, BATCH_SIZE));
+
+        Issue issue = issueRepository.save(new Issue(user, project, issueType, "Audited issue", null, Priority.MEDIUM));
+        double rowByRowAudit = medianMillis(() -> insertAuditLogs(user, issue, rowCount, 1));
+        double batchedAudit = medianMillis(() -> insertAuditLogs(user, issue, rowCount, BATCH_SIZE));
+
+        report("InsertBatching", "issues row by row", rowCount, rowByRowIssues);
+        report("InsertBatching", "issues batched", rowCount, batchedIssues);
+        report("InsertBatching", "audit logs row by row", rowCount, rowByRowAudit);
+        report("InsertBatching", "audit logs batched", rowCount, batchedAudit);
+
+        long runs = 2L * (WARMUP_RUNS + MEASURED_RUNS);
+        assertThat(issueRepository.countByUser(user)).isEqualTo(runs * rowCount + 1);
+        assertThat(auditLogRepository.countByUser(user)).isEqualTo(runs * rowCount);
+    }
+
+    /**
+     * Persists new issues and flushes them with the given JDBC batch size.
+     */
+    private int insertIssues(Project project, IssueType issueType, int count, int batchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(new Issue(project.getUser(), project, issueType, "Bulk issue " + i,
+                    "Created by the insert batching benchmark", Priority.values()[i % Priority.values().length]));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    /**
+     * Persists new audit entries and flushes them with the given JDBC batch size.
+     */
+    private int insertAuditLogs(User user, Issue issue, int count, int batchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(new AuditLog(user, issue, "STATUS_CHANGE", "Status changed from BACKLOG to IN_PROGRESS"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+}
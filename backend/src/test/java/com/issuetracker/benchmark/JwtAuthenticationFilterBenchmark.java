@@ -0,0 +1,102 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.config.JwtAuthenticationFilter;
+import com.issuetracker.entity.User;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the JWT filter path with and without the verified claims cache.
+ * Needs no database; the filter authenticates from the token claims alone.
+ * To run it:
+ * mvn test -Pbenchmarks -Dtest=JwtAuthenticationFilterBenchmark
+ */
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final Logger logger = Logger.getLogger(JwtAuthenticationFilterBenchmark.class.getName());
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcw==";
+    private static final int TOKENS = 100;
+    private static final int REQUESTS = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    @Test
+    void measureFilterPath() throws Exception {
+        double uncached = medianNanosPerRequest(0);
+        double cached = medianNanosPerRequest(10_000);
+
+        report("uncached", uncached);
+        report("claims cache", cached);
+
+        assertThat(cached).isLessThan(uncached);
+    }
+
+    private double medianNanosPerRequest(long claimsCacheMaxSize) throws Exception {
+        JwtService jwtService = jwtService(claimsCacheMaxSize);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, username -> {
+            throw new UsernameNotFoundException("Tokens carry the user, no lookup expected");
+        });
+
+        List<String> headers = new ArrayList<>();
+        for (int i = 0; i < TOKENS; i++) {
+            User user = new User("bench-" + i + "@example.com", "hash", "Benchmark User " + i);
+            user.setId((long) i + 1);
+            headers.add("Bearer " + jwtService.generateToken(AuthenticatedUser.of(user)));
+        }
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(filter, headers);
+        }
+        long[] timings = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run(filter, headers);
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return (double) timings[MEASURED_RUNS / 2] / REQUESTS;
+    }
+
+    private static void run(JwtAuthenticationFilter filter, List<String> headers) throws Exception {
+        for (int i = 0; i < REQUESTS; i++) {
+            // A new request each time, the filter marks requests it has seen
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues");
+            request.addHeader("Authorization", headers.get(i % TOKENS));
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static JwtService jwtService(long claimsCacheMaxSize) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", claimsCacheMaxSize);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    private static void report(String variant, double nanos) {
+        logger.info(String.format("JwtAuthenticationFilter [%s] requests=%d median=%.0f ns/request",
+                variant, REQUESTS, nanos));
+    }
+}
@@ -0,0 +1,76 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.config.RateLimitBucketStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Floods the rate limiting bucket store with a million distinct client keys, as a spoofed
+ * X-Forwarded-For flood would, and checks that the store size and the heap stay flat once
+ * the store is full.
+ * Needs no database.
+ * To run it:
+ * mvn test -Pbenchmarks -Dtest=RateLimitBucketStoreBenchmark
+ */
+public class RateLimitBucketStoreBenchmark {
+
+    private static final Logger logger = Logger.getLogger(RateLimitBucketStoreBenchmark.class.getName());
+
+    private static final int MAXIMUM_SIZE = 100_000;
+    private static final int KEYS = 1_000_000;
+    private static final int CHECKPOINT = 250_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Test
+    void measureMemoryUnderDistinctKeyFlood() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitBucketStore store = new RateLimitBucketStore("api", 200, 100, MAXIMUM_SIZE, meterRegistry);
+
+        long heapWhenFull = 0;
+        long start = System.nanoTime();
+        for (int i = 1; i <= KEYS; i++) {
+            store.bucketFor("ip:" + spoofedAddress(i)).tryConsume(1);
+            if (i % CHECKPOINT == 0) {
+                store.cleanUp();
+                long heap = usedHeapAfterGc();
+                report(i, store.estimatedSize(), heap);
+                assertThat(store.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+                if (i == CHECKPOINT) {
+                    heapWhenFull = heap;
+                } else {
+                    assertThat(heap - heapWhenFull).isLessThan(MAX_HEAP_GROWTH_BYTES);
+                }
+            }
+        }
+        double nanosPerRequest = (double) (System.nanoTime() - start) / KEYS;
+
+        double evictions = meterRegistry.get("cache.evictions").tag("cache", "rateLimitBuckets")
+                .functionCounter().count();
+        logger.info(String.format("RateLimitBucketStore keys=%d evictions=%.0f mean=%.0f ns/request",
+                KEYS, evictions, nanosPerRequest));
+        assertThat(evictions).isGreaterThanOrEqualTo(KEYS - MAXIMUM_SIZE);
+    }
+
+    private static String spoofedAddress(int i) {
+        return (i >>> 24 & 0xFF) + "." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void report(int keys, long size, long heapBytes) {
+        logger.info(String.format("RateLimitBucketStore keys=%d size=%d heap=%.1f MB",
+                keys, size, heapBytes / (1024.0 * 1024.0)));
+    }
+}
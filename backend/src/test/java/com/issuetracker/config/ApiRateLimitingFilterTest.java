@@ -0,0 +1,131 @@
+package com.issuetracker.config;
+
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the API rate limiting filter:
+ * - requests with a valid token are keyed by user ID
+ * - requests with an invalid or expired token fall back to the client IP
+ * - rejected requests are counted by endpoint type
+ */
+class ApiRateLimitingFilterTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcw==";
+
+    private final AuthenticatedUser user = new AuthenticatedUser(42L, "limited@example.com", "Limited User");
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingConfig.ApiRateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = jwtService(86400000L);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitingConfig.ApiRateLimitingFilter(jwtService, meterRegistry);
+        ReflectionTestUtils.setField(filter, "authRequestsPerMinute", 1);
+        ReflectionTestUtils.setField(filter, "authBurstCapacity", 1);
+        ReflectionTestUtils.setField(filter, "apiRequestsPerMinute", 1);
+        ReflectionTestUtils.setField(filter, "apiBurstCapacity", 1);
+        ReflectionTestUtils.setField(filter, "storeMaximumSize", 100L);
+        filter.init();
+    }
+
+    @Test
+    void shouldKeyRequestsWithAValidTokenByUserId() {
+        MockHttpServletRequest request = apiRequest("10.0.0.1");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+
+        assertThat(filter.clientKey(request, "10.0.0.1")).isEqualTo("user:42");
+    }
+
+    @Test
+    void shouldFallBackToTheClientIpForAnInvalidToken() {
+        MockHttpServletRequest request = apiRequest("10.0.0.1");
+        request.addHeader("Authorization", "Bearer malformed.jwt.token");
+
+        assertThat(filter.clientKey(request, "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void shouldFallBackToTheClientIpForAnExpiredToken() {
+        MockHttpServletRequest request = apiRequest("10.0.0.1");
+        request.addHeader("Authorization", "Bearer " + jwtService(-1000L).generateToken(user));
+
+        assertThat(filter.clientKey(request, "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void shouldFallBackToTheClientIpWithoutABearerToken() {
+        MockHttpServletRequest request = apiRequest("10.0.0.1");
+        request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+
+        assertThat(filter.clientKey(request, "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void shouldCountRejectedRequestsByType() throws Exception {
+        assertThat(filter(apiRequest("10.0.0.1")).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter(apiRequest("10.0.0.1")).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(filter(apiRequest("10.0.0.1")).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/api/auth/login");
+        login.setRemoteAddr("10.0.0.1");
+        assertThat(filter(login).getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(rejected("api")).isEqualTo(2);
+        assertThat(rejected("authentication")).isZero();
+    }
+
+    @Test
+    void shouldGiveUsersBehindOneAddressTheirOwnBuckets() throws Exception {
+        MockHttpServletRequest first = apiRequest("10.0.0.1");
+        first.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+        MockHttpServletRequest second = apiRequest("10.0.0.1");
+        second.addHeader("Authorization", "Bearer " + jwtService.generateToken(
+                new AuthenticatedUser(43L, "other@example.com", "Other User")));
+
+        assertThat(filter(first).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter(second).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejected("api")).isZero();
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double rejected(String type) {
+        return meterRegistry.get("ratelimit.rejected").tag("type", type).counter().count();
+    }
+
+    private static MockHttpServletRequest apiRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static JwtService jwtService(long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(service, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(service, "claimsCacheTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
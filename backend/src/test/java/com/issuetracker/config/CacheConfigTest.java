@@ -0,0 +1,77 @@
+package com.issuetracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the in-memory cache manager used without Redis:
+ * - every known cache is bounded and expires with its configured TTL
+ * - cache statistics are exported to Micrometer
+ * - cache.store selects the Redis cache manager instead
+ */
+@SpringBootTest(properties = "cache.caffeine.maximum-size=100")
+@ActiveProfiles("test")
+class CacheConfigTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldUseBoundedCachesWithPerCacheTtls() {
+        assertThat(cacheManager).isInstanceOf(CaffeineCacheManager.class);
+
+        assertThat(expireAfterWrite("dashboardMetrics")).isEqualTo(Duration.ofSeconds(180));
+        assertThat(expireAfterWrite("projectStatistics")).isEqualTo(Duration.ofSeconds(300));
+        assertThat(expireAfterWrite("sprintStatistics")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(expireAfterWrite("userProjects")).isEqualTo(Duration.ofSeconds(600));
+        assertThat(expireAfterWrite("sprintIssues")).isEqualTo(Duration.ofSeconds(180));
+        assertThat(nativeCache("userIssues").policy().eviction().orElseThrow().getMaximum()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRecordStatisticsAndExportThemToMicrometer() {
+        org.springframework.cache.Cache cache = cacheManager.getCache("userProjects");
+        cache.put("metrics@example.com", "projects");
+        cache.get("metrics@example.com");
+        cache.get("missing@example.com");
+
+        assertThat(nativeCache("userProjects").stats().hitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "userProjects").tag("result", "hit")
+                .functionCounter()).isNotNull();
+    }
+
+    @Test
+    void shouldSelectTheRedisCacheManagerByProperty() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(CacheConfig.class)
+                .withBean(RedisConnectionFactory.class, () -> mock(RedisConnectionFactory.class))
+                .withPropertyValues("cache.store=redis")
+                .run(context -> assertThat(context).getBean(CacheManager.class).isInstanceOf(RedisCacheManager.class));
+    }
+
+    private Duration expireAfterWrite(String name) {
+        return nativeCache(name).policy().expireAfterWrite().orElseThrow().getExpiresAfter();
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
@@ -0,0 +1,85 @@
+package com.issuetracker.config;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimitBucketStore:
+ * - buckets expire once idle for as long as an empty bucket takes to refill
+ * - buckets in use are kept
+ * - the store stays within its size bound
+ * Idle time is driven by a fake ticker instead of the clock.
+ */
+class RateLimitBucketStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 200 tokens refilled at 100 per minute: an empty bucket is full again after 2 minutes
+        store = new RateLimitBucketStore("api", 200, 100, 1000, meterRegistry, nanos::get);
+    }
+
+    @Test
+    void shouldExpireBucketsIdleForTheTimeToRefill() {
+        store.bucketFor("ip:10.0.0.1").tryConsume(200);
+
+        advance(Duration.ofMinutes(2).minusSeconds(1));
+        store.cleanUp();
+        assertThat(store.estimatedSize()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(1));
+        store.cleanUp();
+        assertThat(store.estimatedSize()).isZero();
+        assertThat(store.bucketFor("ip:10.0.0.1").getAvailableTokens()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldKeepBucketsThatAreStillInUse() {
+        Bucket bucket = store.bucketFor("user:1");
+        bucket.tryConsume(150);
+
+        for (int i = 0; i < 4; i++) {
+            advance(Duration.ofMinutes(1));
+            assertThat(store.bucketFor("user:1")).isSameAs(bucket);
+        }
+        store.cleanUp();
+        assertThat(store.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStayWithinTheSizeBound() {
+        RateLimitBucketStore small = new RateLimitBucketStore("authentication", 20, 10, 10, meterRegistry,
+                nanos::get);
+        for (int i = 0; i < 100; i++) {
+            small.bucketFor("ip:10.0.0." + i);
+        }
+        small.cleanUp();
+
+        assertThat(small.estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "rateLimitBuckets")
+                .tag("type", "authentication").functionCounter().count()).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void shouldRoundTheTimeToRefillUpToWholeMinutes() {
+        assertThat(RateLimitBucketStore.timeToRefill(200, 100)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(RateLimitBucketStore.timeToRefill(20, 10)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(RateLimitBucketStore.timeToRefill(25, 10)).isEqualTo(Duration.ofMinutes(3));
+        assertThat(RateLimitBucketStore.timeToRefill(5, 10)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
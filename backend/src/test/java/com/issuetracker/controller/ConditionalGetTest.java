@@ -0,0 +1,210 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.*;
+import com.issuetracker.entity.IssueStatus;
+import com.issuetracker.entity.IssueType;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.IssueTypeRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.AuthenticatedUser;
+import com.issuetracker.service.IssueService;
+import com.issuetracker.service.JwtService;
+import com.issuetracker.service.ProjectService;
+import com.issuetracker.service.SprintService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for conditional GETs on polled endpoints:
+ * - responses carry an ETag and a current If-None-Match is answered with 304 and no body
+ * - writes by the user advance the ETag, writes by another user do not
+ * - an epic reopened through one of its children advances the ETag of its completed sprint's board
+ * - an epic completed through its last child refreshes the cached statistics of the epic's sprint
+ *
+ * Not transactional, since versions are only advanced on commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private IssueService issueService;
+
+    private User testUser;
+    private User otherUser;
+    private String token;
+    private ProjectDto project;
+    private SprintDto sprint;
+    private final Map<Long, Long> epicTypeIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("etag-" + System.nanoTime() + "@example.com", "password", "ETag User"));
+        otherUser = userRepository.save(new User("etag-other-" + System.nanoTime() + "@example.com", "password", "Other User"));
+        token = "Bearer " + jwtService.generateToken(AuthenticatedUser.of(testUser));
+        project = projectService.createProject(new CreateProjectRequest("ETag Project", "ETAG", null), testUser);
+        sprint = sprintService.createSprint(new CreateSprintRequest("ETag Sprint",
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(14)), testUser);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForCurrentIssueList() throws Exception {
+        String etag = etagOf("/issues");
+
+        mockMvc.perform(get("/issues").header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldChangeETagWhenTheUsersIssuesChange() throws Exception {
+        String issues = etagOf("/issues");
+        String metrics = etagOf("/dashboard/metrics");
+
+        createIssue(otherUser, projectService.createProject(
+                new CreateProjectRequest("Other Project", "OTHER", null), otherUser).getId());
+        assertThat(etagOf("/issues")).isEqualTo(issues);
+
+        createIssue(testUser, project.getId());
+        mockMvc.perform(get("/issues").header("Authorization", token).header("If-None-Match", issues))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+        assertThat(etagOf("/issues")).isNotEqualTo(issues);
+        assertThat(etagOf("/dashboard/metrics")).isNotEqualTo(metrics);
+    }
+
+    @Test
+    void shouldChangeCompletedSprintIssuesETagWhenTheSprintsIssuesChange() throws Exception {
+        // Only completed sprints list their issues here, and only the ones finished in the sprint
+        Long issueId = createIssue(testUser, project.getId());
+        sprintService.addIssuesToSprint(sprint.getId(), List.of(issueId), testUser);
+        sprintService.activateSprint(sprint.getId(), testUser);
+        issueService.updateIssueStatus(issueId, new StatusUpdateRequest(IssueStatus.DONE), testUser);
+        sprintService.completeSprint(sprint.getId(), testUser);
+
+        String path = "/sprints/" + sprint.getId() + "/issues";
+        String etag = etagOf(path);
+
+        mockMvc.perform(get(path).header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        UpdateIssueRequest rename = new UpdateIssueRequest("Renamed issue", null, Priority.MEDIUM);
+        rename.setSprintId(sprint.getId());
+        issueService.updateIssue(issueId, rename, testUser);
+        mockMvc.perform(get(path).header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Renamed issue"));
+    }
+
+    @Test
+    void shouldChangeCompletedSprintIssuesETagWhenTheEpicReopensThroughAChild() throws Exception {
+        Long epicId = createIssue(testUser, project.getId());
+        sprintService.addIssuesToSprint(sprint.getId(), List.of(epicId), testUser);
+        Long childId = createChild(epicId);
+        sprintService.activateSprint(sprint.getId(), testUser);
+        issueService.updateIssueStatus(childId, new StatusUpdateRequest(IssueStatus.DONE), testUser);
+        sprintService.completeSprint(sprint.getId(), testUser);
+
+        String path = "/sprints/" + sprint.getId() + "/issues";
+        String etag = etagOf(path);
+        mockMvc.perform(get(path).header("Authorization", token))
+                .andExpect(jsonPath("$[0].id").value(epicId));
+
+        // The child is in no sprint, so only the epic's own sprint tells the board to refresh
+        issueService.updateIssueStatus(childId, new StatusUpdateRequest(IssueStatus.IN_PROGRESS), testUser);
+        mockMvc.perform(get(path).header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void shouldRefreshStatisticsOfTheEpicsSprintWhenItsLastChildCompletes() throws Exception {
+        Long epicId = createIssue(testUser, project.getId());
+        sprintService.addIssuesToSprint(sprint.getId(), List.of(epicId), testUser);
+        Long childId = createChild(epicId);
+
+        String path = "/dashboard/sprints/" + sprint.getId() + "/statistics";
+        mockMvc.perform(get(path).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issuesByStatus.DONE").doesNotExist());
+
+        issueService.updateIssueStatus(childId, new StatusUpdateRequest(IssueStatus.DONE), testUser);
+        mockMvc.perform(get(path).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issuesByStatus.DONE").value(1));
+    }
+
+    private String etagOf(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    private Long createIssue(User owner, Long projectId) {
+        return issueService.createIssue(new CreateIssueRequest("Polled issue", null, Priority.MEDIUM, projectId,
+                epicTypeId(projectId)), owner).getId();
+    }
+
+    /**
+     * Creates a story under an epic of the test project, outside any sprint.
+     */
+    private Long createChild(Long epicId) {
+        Long storyTypeId = issueTypeRepository.save(new IssueType(projectRepository.findById(project.getId())
+                .orElseThrow(), "STORY", "Story issue type")).getId();
+        CreateIssueRequest request = new CreateIssueRequest("Child issue", null, Priority.MEDIUM, project.getId(),
+                storyTypeId);
+        request.setParentIssueId(epicId);
+        return issueService.createIssue(request, testUser).getId();
+    }
+
+    /**
+     * Epic type scoped to the project. These tests commit, and global types left behind would
+     * show up in the lookups of other tests sharing the database.
+     */
+    private Long epicTypeId(Long projectId) {
+        return epicTypeIds.computeIfAbsent(projectId, id -> issueTypeRepository.save(
+                new IssueType(projectRepository.findById(id).orElseThrow(), "EPIC", "Epic issue type")).getId());
+    }
+}
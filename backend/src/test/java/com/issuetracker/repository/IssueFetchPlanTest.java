@@ -0,0 +1,150 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the Issue fetch plans ("list", "board" and "detail").
+ * Each plan must load the associations its view renders without per-row statements.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class IssueFetchPlanTest {
+
+    private static final int ISSUE_COUNT = 10;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Sprint testSprint;
+    private Issue epic;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("fetchplan@example.com", "password", "Fetch Plan User"));
+        Project project = projectRepository.save(new Project(testUser, "Fetch Plan Project", "FP", "Fetch plan project"));
+        IssueType storyType = issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+        IssueType epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+        Label backend = labelRepository.save(new Label(testUser, "backend", "#112233"));
+        Label frontend = labelRepository.save(new Label(testUser, "frontend", "#445566"));
+        testSprint = sprintRepository.save(new Sprint(testUser, "Sprint 1", LocalDate.now(), LocalDate.now().plusDays(14)));
+
+        epic = issueRepository.save(new Issue(testUser, project, epicType, "Epic", null, Priority.HIGH));
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            Issue issue = new Issue(testUser, project, storyType, "Story " + i, null, Priority.MEDIUM, epic);
+            issue.setSprint(testSprint);
+            issue.setLastCompletedSprint(testSprint);
+            issue.setStatus(IssueStatus.DONE);
+            issue.getLabels().add(backend);
+            issue.getLabels().add(frontend);
+            issueRepository.save(issue);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listPlanShouldLoadPageWithOneQueryAndLabelsWithOneBatch() {
+        Statistics statistics = clearedStatistics();
+
+        List<Issue> issues = issueRepository.findByUserOrderByCreatedAtDesc(testUser, PageRequest.of(0, 20)).getContent();
+        issues.forEach(this::renderToOneAssociations);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        issues.forEach(issue -> issue.getLabels().size());
+        assertThat(issues).hasSize(ISSUE_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void boardPlanShouldLoadIssuesAndLabelsWithOneQuery() {
+        Statistics statistics = clearedStatistics();
+
+        List<Issue> issues = issueRepository.findByUserAndSprintAndStatus(testUser, testSprint, IssueStatus.DONE);
+        for (Issue issue : issues) {
+            assertThat(Hibernate.isInitialized(issue.getProject())).isTrue();
+            assertThat(Hibernate.isInitialized(issue.getIssueType())).isTrue();
+            assertThat(Hibernate.isInitialized(issue.getSprint())).isTrue();
+            assertThat(Hibernate.isInitialized(issue.getLastCompletedSprint())).isTrue();
+            assertThat(Hibernate.isInitialized(issue.getParentIssue())).isTrue();
+            renderToOneAssociations(issue);
+            assertThat(issue.getLabels()).hasSize(2);
+        }
+
+        assertThat(issues).hasSize(ISSUE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detailPlanShouldLoadIssueWithOneQuery() {
+        Long issueId = issueRepository.findByParentIssueIdAndUser(epic.getId(), testUser).get(0).getId();
+        entityManager.clear();
+        Statistics statistics = clearedStatistics();
+
+        Issue issue = issueRepository.findDetailByIdAndUser(issueId, testUser).orElseThrow();
+        renderToOneAssociations(issue);
+
+        assertThat(issue.getLabels()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void renderToOneAssociations(Issue issue) {
+        issue.getProject().getKey();
+        issue.getIssueType().getName();
+        if (issue.getSprint() != null) {
+            issue.getSprint().getName();
+        }
+        if (issue.getLastCompletedSprint() != null) {
+            issue.getLastCompletedSprint().getName();
+        }
+        if (issue.getParentIssue() != null) {
+            issue.getParentIssue().getTitle();
+        }
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
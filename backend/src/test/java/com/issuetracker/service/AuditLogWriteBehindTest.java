@@ -0,0 +1,143 @@
+package com.issuetracker.service;
+
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the audit log write-behind:
+ * - entries are written only after the publishing transaction commits
+ * - entries from a rolled back transaction are never written
+ * - many entries are written with their original order and details (ids follow queue order)
+ *
+ * Not transactional, since entries are only queued on commit.
+ */
+@SpringBootTest(properties = "performance.audit.write-behind.enabled=true")
+@ActiveProfiles("test")
+public class AuditLogWriteBehindTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private AuditLogWriteBehind auditLogWriteBehind;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType issueType;
+    private Issue testIssue;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("write-behind-" + System.nanoTime() + "@example.com", "password", "Audit User"));
+        testProject = projectRepository.save(new Project(testUser, "Audit Project", "AUD", null));
+        issueType = issueTypeRepository.save(new IssueType("TASK", "Task issue type", true));
+        testIssue = issueRepository.save(new Issue(testUser, testProject, issueType, "Audited issue", null, Priority.MEDIUM));
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogWriteBehind.flush();
+        auditLogRepository.deleteAll(auditLogRepository.findByIssueOrderByCreatedAtAsc(testIssue));
+        issueRepository.delete(testIssue);
+        issueTypeRepository.delete(issueType);
+        projectRepository.delete(testProject);
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    void shouldWriteEntryAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            auditService.logStatusChange(testIssue, testUser, IssueStatus.BACKLOG, IssueStatus.IN_PROGRESS);
+            assertThat(auditLogRepository.countByIssue(testIssue)).isZero();
+        });
+
+        List<AuditLog> history = awaitHistory(1);
+        assertThat(history.get(0).getAction()).isEqualTo("STATUS_CHANGE");
+        assertThat(history.get(0).getDetails()).isEqualTo("Status changed from BACKLOG to IN_PROGRESS");
+        assertThat(history.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldNotWriteEntryWhenTransactionRollsBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            auditService.logStatusChange(testIssue, testUser, IssueStatus.BACKLOG, IssueStatus.IN_PROGRESS);
+            status.setRollbackOnly();
+        });
+        auditService.logFieldChange(testIssue, testUser, "priority", "MEDIUM", "HIGH");
+
+        List<AuditLog> history = awaitHistory(1);
+        assertThat(history).extracting(AuditLog::getAction).containsExactly("FIELD_CHANGE");
+    }
+
+    @Test
+    void shouldWriteManyEntriesInOrder() {
+        int entries = 120;
+        for (int i = 0; i < entries; i++) {
+            auditService.logFieldChange(testIssue, testUser, "title", "v" + i, "v" + (i + 1));
+        }
+
+        List<AuditLog> history = awaitHistory(entries).stream()
+                .sorted(Comparator.comparing(AuditLog::getId))
+                .toList();
+        for (int i = 0; i < entries; i++) {
+            assertThat(history.get(i).getDetails()).isEqualTo("Field 'title' changed from 'v" + i + "' to 'v" + (i + 1) + "'");
+        }
+        assertThat(meterRegistry.get("audit.writebehind.dropped").counter().count()).isZero();
+        assertThat(meterRegistry.get("audit.writebehind.queue.size").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    /**
+     * Waits until the write-behind has written the expected number of entries for the test issue.
+     */
+    private List<AuditLog> awaitHistory(int expected) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<AuditLog> history = auditLogRepository.findByIssueIdAndIssueUserOrderByCreatedAtAsc(testIssue.getId(), testUser);
+        while (history.size() < expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            history = auditLogRepository.findByIssueIdAndIssueUserOrderByCreatedAtAsc(testIssue.getId(), testUser);
+        }
+        assertThat(history).hasSize(expected);
+        return history;
+    }
+}
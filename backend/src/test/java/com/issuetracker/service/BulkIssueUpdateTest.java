@@ -0,0 +1,232 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.BulkIssueUpdateRequest;
+import com.issuetracker.dto.BulkIssueUpdateResultDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for bulk issue updates:
+ * - status, priority, sprint and label changes apply to every selected issue
+ * - audit entries and issue counters match the per-issue behaviour
+ * - parent epics are recalculated once per epic
+ * - the number of statements does not grow with the number of issues
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class BulkIssueUpdateTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+    private IssueType storyType;
+    private Issue epic;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("bulk-issues@example.com", "password", "Bulk Issue User"));
+        testProject = projectRepository.save(new Project(testUser, "Bulk Issues", "BI", null));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+        storyType = issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+        epic = issueRepository.save(new Issue(testUser, testProject, epicType, "Epic", null, Priority.MEDIUM));
+    }
+
+    @Test
+    void shouldUpdateStatusAndPriorityWithAuditAndCounters() {
+        List<Long> backlogIds = createChildren(IssueStatus.BACKLOG, 3);
+        List<Long> inProgressIds = createChildren(IssueStatus.IN_PROGRESS, 2);
+        prepareCounters();
+
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest(concat(backlogIds, inProgressIds));
+        request.setStatus(IssueStatus.IN_PROGRESS);
+        request.setPriority(Priority.HIGH);
+        BulkIssueUpdateResultDto result = issueService.bulkUpdateIssues(request, testUser);
+
+        assertThat(result.getMatchedCount()).isEqualTo(5);
+        assertThat(result.getStatusChangedCount()).isEqualTo(3);
+        assertThat(result.getPriorityChangedCount()).isEqualTo(5);
+        for (Long id : concat(backlogIds, inProgressIds)) {
+            Issue issue = issueRepository.findById(id).orElseThrow();
+            assertThat(issue.getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+            assertThat(issue.getPriority()).isEqualTo(Priority.HIGH);
+        }
+
+        Issue moved = issueRepository.findById(backlogIds.get(0)).orElseThrow();
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(moved)).extracting(AuditLog::getDetails)
+                .containsExactlyInAnyOrder("Status changed from BACKLOG to IN_PROGRESS",
+                        "Field 'priority' changed from 'MEDIUM' to 'HIGH'");
+        Issue unchanged = issueRepository.findById(inProgressIds.get(0)).orElseThrow();
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(unchanged)).extracting(AuditLog::getAction)
+                .containsExactly("FIELD_CHANGE");
+
+        entityManager.flush();
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    void shouldCompleteParentEpicOnceWhenAllChildrenAreDone() {
+        List<Long> childIds = createChildren(IssueStatus.IN_PROGRESS, 4);
+        prepareCounters();
+
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest(childIds);
+        request.setStatus(IssueStatus.DONE);
+        BulkIssueUpdateResultDto result = issueService.bulkUpdateIssues(request, testUser);
+
+        assertThat(result.getUpdatedEpicIds()).containsExactly(epic.getId());
+        Issue updatedEpic = issueRepository.findById(epic.getId()).orElseThrow();
+        assertThat(updatedEpic.getStatus()).isEqualTo(IssueStatus.DONE);
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(updatedEpic)).extracting(AuditLog::getAction)
+                .containsExactly("STATUS_CHANGE");
+    }
+
+    @Test
+    void shouldMoveIssuesBetweenSprintsAndChangeLabels() {
+        Sprint oldSprint = sprintRepository.save(new Sprint(testUser, "Old", LocalDate.now(), LocalDate.now().plusDays(14)));
+        Sprint newSprint = sprintRepository.save(new Sprint(testUser, "New", LocalDate.now(), LocalDate.now().plusDays(14)));
+        Label keep = labelRepository.save(new Label(testUser, "keep", "#000000"));
+        Label drop = labelRepository.save(new Label(testUser, "drop", "#ffffff"));
+        List<Long> ids = createChildren(IssueStatus.BACKLOG, 3);
+        Issue first = issueRepository.findById(ids.get(0)).orElseThrow();
+        first.setSprint(oldSprint);
+        first.getLabels().add(keep);
+        first.getLabels().add(drop);
+        issueRepository.save(first);
+        prepareCounters();
+
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest(ids);
+        request.setSprintId(newSprint.getId());
+        request.setAddLabelIds(List.of(keep.getId()));
+        request.setRemoveLabelIds(List.of(drop.getId()));
+        BulkIssueUpdateResultDto result = issueService.bulkUpdateIssues(request, testUser);
+
+        assertThat(result.getSprintChangedCount()).isEqualTo(3);
+        assertThat(result.getLabelsAddedCount()).isEqualTo(2);
+        assertThat(result.getLabelsRemovedCount()).isEqualTo(1);
+        for (Long id : ids) {
+            Issue issue = issueRepository.findById(id).orElseThrow();
+            assertThat(issue.getSprint().getId()).isEqualTo(newSprint.getId());
+            assertThat(issue.getLabels()).extracting(Label::getName).containsExactly("keep");
+        }
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(issueRepository.findById(ids.get(0)).orElseThrow()))
+                .extracting(AuditLog::getDetails).containsExactly("Field 'sprint' changed from 'Old' to 'New'");
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(issueRepository.findById(ids.get(1)).orElseThrow()))
+                .extracting(AuditLog::getDetails).containsExactly("Field 'sprint' changed from 'None' to 'New'");
+    }
+
+    @Test
+    void shouldRejectIssuesOwnedByAnotherUser() {
+        User otherUser = userRepository.save(new User("bulk-other@example.com", "password", "Other User"));
+        Project otherProject = projectRepository.save(new Project(otherUser, "Other", "OT", null));
+        Issue foreign = issueRepository.save(new Issue(otherUser, otherProject, epicType, "Not mine", null, Priority.LOW));
+        List<Long> ids = createChildren(IssueStatus.BACKLOG, 1);
+
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest(concat(ids, List.of(foreign.getId())));
+        request.setStatus(IssueStatus.DONE);
+
+        assertThatThrownBy(() -> issueService.bulkUpdateIssues(request, testUser))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(issueRepository.findById(ids.get(0)).orElseThrow().getStatus()).isEqualTo(IssueStatus.BACKLOG);
+    }
+
+    @Test
+    void shouldUseTheSameNumberOfStatementsForAnyNumberOfIssues() {
+        List<Long> small = createChildren(IssueStatus.BACKLOG, 2);
+        List<Long> large = createChildren(IssueStatus.BACKLOG, 40);
+        prepareCounters();
+
+        long smallStatements = countStatements(() -> issueService.bulkUpdateIssues(statusRequest(small), testUser));
+        long largeStatements = countStatements(() -> issueService.bulkUpdateIssues(statusRequest(large), testUser));
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private BulkIssueUpdateRequest statusRequest(List<Long> ids) {
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest(ids);
+        request.setStatus(IssueStatus.IN_REVIEW);
+        request.setPriority(Priority.LOW);
+        return request;
+    }
+
+    private List<Long> createChildren(IssueStatus status, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Issue issue = new Issue(testUser, testProject, storyType, status + " " + i, null, Priority.MEDIUM);
+            issue.setParentIssue(epic);
+            issue.setStatus(status);
+            ids.add(issueRepository.save(issue).getId());
+        }
+        return ids;
+    }
+
+    private static List<Long> concat(List<Long> first, List<Long> second) {
+        List<Long> ids = new ArrayList<>(first);
+        ids.addAll(second);
+        return ids;
+    }
+
+    private void prepareCounters() {
+        entityManager.flush();
+        issueCounterService.reconcile(testUser.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
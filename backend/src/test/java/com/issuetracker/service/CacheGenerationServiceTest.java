@@ -0,0 +1,91 @@
+package com.issuetracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for generation-based cache invalidation:
+ * - a change invalidates only the entries of the changed project or sprint
+ * - a user change invalidates all of that user's entries and no one else's
+ * - generations advance only once the changing transaction commits
+ *
+ * Not transactional, since generations are only advanced on commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheGenerationServiceTest {
+
+    private static final AtomicLong IDS = new AtomicLong(System.nanoTime());
+
+    @Autowired
+    private CacheGenerationService cacheGenerationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldInvalidateOnlyTheChangedScope() {
+        long changedProject = IDS.incrementAndGet();
+        long otherProject = IDS.incrementAndGet();
+        String changedKey = cacheGenerationService.projectStatisticsKey(changedProject, "owner@example.com");
+        String otherKey = cacheGenerationService.projectStatisticsKey(otherProject, "other@example.com");
+        Cache statistics = cacheManager.getCache("projectStatistics");
+        statistics.put(changedKey, "changed statistics");
+        statistics.put(otherKey, "other statistics");
+
+        cacheGenerationService.changed("owner@example.com", List.of(changedProject), Arrays.asList((Long) null));
+
+        String newKey = cacheGenerationService.projectStatisticsKey(changedProject, "owner@example.com");
+        assertThat(newKey).isNotEqualTo(changedKey);
+        assertThat(statistics.get(newKey)).isNull();
+        assertThat(cacheGenerationService.projectStatisticsKey(otherProject, "other@example.com")).isEqualTo(otherKey);
+        assertThat(statistics.get(otherKey).get()).isEqualTo("other statistics");
+    }
+
+    @Test
+    void shouldInvalidateAllEntriesOfAChangedUser() {
+        long project = IDS.incrementAndGet();
+        long sprint = IDS.incrementAndGet();
+        String owner = "bulk-" + project + "@example.com";
+        String projectKey = cacheGenerationService.projectStatisticsKey(project, owner);
+        String sprintKey = cacheGenerationService.sprintStatisticsKey(sprint, owner);
+        String otherKey = cacheGenerationService.projectStatisticsKey(project, "other@example.com");
+
+        cacheGenerationService.userChanged(owner);
+
+        assertThat(cacheGenerationService.projectStatisticsKey(project, owner)).isNotEqualTo(projectKey);
+        assertThat(cacheGenerationService.sprintStatisticsKey(sprint, owner)).isNotEqualTo(sprintKey);
+        assertThat(cacheGenerationService.projectStatisticsKey(project, "other@example.com")).isEqualTo(otherKey);
+    }
+
+    @Test
+    void shouldAdvanceGenerationsOnlyAfterCommit() {
+        long sprint = IDS.incrementAndGet();
+        String key = cacheGenerationService.sprintStatisticsKey(sprint, "owner@example.com");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            cacheGenerationService.changed("owner@example.com", List.of(), List.of(sprint));
+            assertThat(cacheGenerationService.sprintStatisticsKey(sprint, "owner@example.com")).isEqualTo(key);
+            status.setRollbackOnly();
+        });
+        assertThat(cacheGenerationService.sprintStatisticsKey(sprint, "owner@example.com")).isEqualTo(key);
+
+        transactionTemplate.executeWithoutResult(status ->
+                cacheGenerationService.changed("owner@example.com", List.of(), List.of(sprint)));
+        assertThat(cacheGenerationService.sprintStatisticsKey(sprint, "owner@example.com")).isNotEqualTo(key);
+    }
+}
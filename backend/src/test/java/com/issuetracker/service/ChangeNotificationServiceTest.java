@@ -0,0 +1,251 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ChangeNotificationDto;
+import com.issuetracker.dto.CreateCommentRequest;
+import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.dto.CreateProjectRequest;
+import com.issuetracker.dto.ProjectDto;
+import com.issuetracker.entity.IssueType;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.SyncEntityType;
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.IssueTypeRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for change notifications over WebSocket:
+ * - changes committed together reach the owner as one message listing their IDs
+ * - other users' changes are not delivered
+ * - bursts listing too many IDs ask the client to resync
+ * - connections without a valid token are refused
+ *
+ * Not transactional, since notifications are only sent on commit.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "websocket.changes.max-ids=5")
+@ActiveProfiles("test")
+class ChangeNotificationServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SimpUserRegistry userRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final BlockingQueue<ChangeNotificationDto> received = new LinkedBlockingQueue<>();
+    private WebSocketStompClient stompClient;
+    private StompSession session;
+    private User testUser;
+    private ProjectDto project;
+    private final Map<Long, Long> epicTypeIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testUser = userRepository.save(new User("push-" + System.nanoTime() + "@example.com", "password", "Push User"));
+        project = projectService.createProject(new CreateProjectRequest("Push Project", "PUSH", null), testUser);
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        session = connect("Bearer " + jwtService.generateToken(AuthenticatedUser.of(testUser)));
+        session.subscribe("/user" + ChangeNotificationService.DESTINATION, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChangeNotificationDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((ChangeNotificationDto) payload);
+            }
+        });
+        awaitSubscription();
+        received.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+        stompClient.stop();
+    }
+
+    @Test
+    void shouldCoalesceChangesCommittedTogetherIntoOneMessage() throws Exception {
+        double sentBefore = meterRegistry.counter("websocket.changes.sent").count();
+
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> created = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                created.add(createIssue(testUser, project.getId(), "Pushed issue " + i));
+            }
+            return created;
+        });
+
+        ChangeNotificationDto message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.isResync()).isFalse();
+        assertThat(message.getChanged().get(SyncEntityType.ISSUE)).containsExactlyElementsOf(ids);
+        assertThat(message.getDeleted()).isEmpty();
+        assertThat(received.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.counter("websocket.changes.sent").count()).isEqualTo(sentBefore + 1);
+        assertThat(meterRegistry.get("websocket.connections").gauge().value()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldNotDeliverChangesOfOtherUsers() throws Exception {
+        User otherUser = userRepository.save(new User("push-other-" + System.nanoTime() + "@example.com",
+                "password", "Other User"));
+        ProjectDto otherProject = projectService.createProject(
+                new CreateProjectRequest("Other Project", "OTHER", null), otherUser);
+
+        createIssue(otherUser, otherProject.getId(), "Other issue");
+        assertThat(received.poll(1, TimeUnit.SECONDS)).isNull();
+
+        Long ownIssue = createIssue(testUser, project.getId(), "Own issue");
+        ChangeNotificationDto message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.getChanged().get(SyncEntityType.ISSUE)).containsExactly(ownIssue);
+    }
+
+    @Test
+    void shouldAskForResyncWhenABurstListsTooManyIds() throws Exception {
+        double truncatedBefore = meterRegistry.counter("websocket.changes.truncated").count();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 8; i++) {
+                createIssue(testUser, project.getId(), "Burst issue " + i);
+            }
+        });
+
+        ChangeNotificationDto message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.isResync()).isTrue();
+        assertThat(message.getChanged()).isEmpty();
+        assertThat(meterRegistry.counter("websocket.changes.truncated").count()).isEqualTo(truncatedBefore + 1);
+    }
+
+    @Test
+    void shouldReportIssuesAndCommentsDeletedWithTheirProject() throws Exception {
+        Long issueId = createIssue(testUser, project.getId(), "Doomed issue");
+        Long commentId = commentService.createComment(new CreateCommentRequest("Doomed comment", issueId),
+                testUser).getId();
+        awaitChanges();
+
+        projectService.deleteProject(project.getId(), testUser);
+
+        ChangeNotificationDto message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.getDeleted().get(SyncEntityType.ISSUE)).containsExactly(issueId);
+        assertThat(message.getDeleted().get(SyncEntityType.COMMENT)).containsExactly(commentId);
+    }
+
+    @Test
+    void shouldRefuseConnectionsWithoutAValidToken() {
+        assertThatThrownBy(() -> connect("Bearer not-a-token"))
+                .isInstanceOfAny(ExecutionException.class, TimeoutException.class);
+    }
+
+    private StompSession connect(String authorization) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", authorization);
+        return stompClient.connectAsync("ws://localhost:" + port + "/api/ws", new WebSocketHttpHeaders(),
+                connectHeaders, new StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Subscriptions are registered asynchronously, so wait until the broker knows about this one.
+     */
+    private void awaitSubscription() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (userRegistry.findSubscriptions(subscription ->
+                subscription.getSession().getUser().getName().equals(testUser.getEmail())).isEmpty()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Drains the messages about the setup of a test, so that only the changes under test remain.
+     */
+    private void awaitChanges() throws InterruptedException {
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        while (received.poll(500, TimeUnit.MILLISECONDS) != null) {
+            // keep draining
+        }
+    }
+
+    private Long createIssue(User owner, Long projectId, String title) {
+        return issueService.createIssue(new CreateIssueRequest(title, null, Priority.MEDIUM, projectId,
+                epicTypeId(projectId)), owner).getId();
+    }
+
+    /**
+     * Epic type scoped to the project. These tests commit, and global types left behind would
+     * show up in the lookups of other tests sharing the database.
+     */
+    private Long epicTypeId(Long projectId) {
+        return epicTypeIds.computeIfAbsent(projectId, id -> issueTypeRepository.save(
+                new IssueType(projectRepository.findById(id).orElseThrow(), "EPIC", "Epic issue type")).getId());
+    }
+}
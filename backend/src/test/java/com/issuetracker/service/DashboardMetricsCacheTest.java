@@ -0,0 +1,212 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.DashboardMetricsDto;
+import com.issuetracker.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardMetricsCache.
+ * Tests request coalescing, stale-while-revalidate, the refresh metrics, writes overlapping
+ * a computation and the wait timeout.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardMetricsCache Tests")
+class DashboardMetricsCacheTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private CacheGenerationService cacheGenerationService;
+
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testUser = new User("dashboard@example.com", "hashedPassword", "Dashboard User");
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should compute concurrent misses once")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        int callers = 8;
+        DashboardMetricsDto metrics = metrics();
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardService.calculateDashboardMetrics(testUser)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return metrics;
+        });
+        DashboardMetricsCache cache = cache(60);
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<DashboardMetricsDto>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get(testUser)));
+            }
+            // Every caller has joined the first computation or is about to read the cache
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (Future<DashboardMetricsDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(metrics);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(dashboardService, times(1)).calculateDashboardMetrics(testUser);
+        assertThat(meterRegistry.get("dashboard.metrics.computation").tag("mode", "load").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve stale metrics while one background refresh runs")
+    void shouldServeStaleMetricsWhileRefreshing() {
+        // Given
+        DashboardMetricsDto stale = metrics();
+        DashboardMetricsDto refreshed = metrics();
+        when(dashboardService.calculateDashboardMetrics(testUser)).thenReturn(stale, refreshed);
+        DashboardMetricsCache cache = cache(0);
+        assertThat(cache.get(testUser)).isSameAs(stale);
+
+        // When
+        DashboardMetricsDto first = cache.get(testUser);
+        DashboardMetricsDto second = cache.get(testUser);
+
+        // Then
+        assertThat(first).isSameAs(stale);
+        assertThat(second).isSameAs(stale);
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.remove(0).run();
+        assertThat(cache.get(testUser)).isSameAs(refreshed);
+        verify(dashboardService, times(2)).calculateDashboardMetrics(testUser);
+        assertThat(meterRegistry.get("dashboard.metrics.computation").tag("mode", "refresh").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("dashboard.metrics.requests").tag("result", "stale").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should serve fresh metrics from the cache")
+    void shouldServeFreshMetricsFromCache() {
+        // Given
+        DashboardMetricsDto metrics = metrics();
+        when(dashboardService.calculateDashboardMetrics(testUser)).thenReturn(metrics);
+        DashboardMetricsCache cache = cache(60);
+        cache.get(testUser);
+
+        // When
+        DashboardMetricsDto result = cache.get(testUser);
+
+        // Then
+        assertThat(result).isSameAs(metrics);
+        assertThat(backgroundTasks).isEmpty();
+        verify(dashboardService, times(1)).calculateDashboardMetrics(testUser);
+    }
+
+    @Test
+    @DisplayName("Should keep the stale metrics when a background refresh fails")
+    void shouldKeepStaleMetricsWhenRefreshFails() {
+        // Given
+        DashboardMetricsDto stale = metrics();
+        when(dashboardService.calculateDashboardMetrics(testUser))
+                .thenReturn(stale)
+                .thenThrow(new IllegalStateException("database unavailable"));
+        DashboardMetricsCache cache = cache(0);
+        cache.get(testUser);
+
+        // When
+        cache.get(testUser);
+        backgroundTasks.remove(0).run();
+
+        // Then
+        assertThat(cache.get(testUser)).isSameAs(stale);
+        assertThat(backgroundTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a background refresh that overlapped a write")
+    void shouldNotCacheRefreshOverlappingAWrite() {
+        // Given
+        DashboardMetricsDto stale = metrics();
+        DashboardMetricsDto overlapping = metrics();
+        DashboardMetricsDto current = metrics();
+        when(dashboardService.calculateDashboardMetrics(testUser)).thenReturn(stale, overlapping, current);
+        when(cacheGenerationService.userVersion(testUser)).thenReturn("1-1", "1-1", "1-1", "1-1", "1-2");
+        DashboardMetricsCache cache = cache(0);
+        cache.get(testUser);
+
+        // When the user's data changes while the refresh computes
+        cache.get(testUser);
+        backgroundTasks.remove(0).run();
+
+        // Then the refresh is dropped and the stale entry stays until the write evicts it
+        assertThat(cache.get(testUser)).isSameAs(stale);
+        assertThat(backgroundTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for another caller's computation after the wait timeout")
+    void shouldTimeOutWaitingForAnotherComputation() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardService.calculateDashboardMetrics(testUser)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return metrics();
+        });
+        DashboardMetricsCache cache = new DashboardMetricsCache(dashboardService, new ConcurrentMapCacheManager(),
+                cacheGenerationService, backgroundTasks::add, meterRegistry, 60, 180, 1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<DashboardMetricsDto> first = pool.submit(() -> cache.get(testUser));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When / Then
+            assertThatThrownBy(() -> cache.get(testUser))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Timed out");
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private DashboardMetricsCache cache(long softTtlSeconds) {
+        return new DashboardMetricsCache(dashboardService, new ConcurrentMapCacheManager(), cacheGenerationService,
+                backgroundTasks::add, meterRegistry, softTtlSeconds, 180, 30);
+    }
+
+    private static DashboardMetricsDto metrics() {
+        return new DashboardMetricsDto(null, null, null);
+    }
+}
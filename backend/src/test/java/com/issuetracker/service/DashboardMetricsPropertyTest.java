@@ -54,6 +54,9 @@ class DashboardMetricsPropertyTest extends BasePostgreSQLTest {
     @Autowired
     private IssueTypeRepository issueTypeRepository;
 
+    @Autowired
+    private IssueCounterService issueCounterService;
+
     /**
      * Property 11: Metrics and Reporting Accuracy
      * 
@@ -88,6 +91,9 @@ class DashboardMetricsPropertyTest extends BasePostgreSQLTest {
                         }
                     }
                     
+                    // Issues were saved directly, so rebuild the counter read model from them
+                    issueCounterService.reconcile(user.getId());
+
                     // Calculate dashboard metrics
                     DashboardMetricsDto metrics = dashboardService.calculateDashboardMetrics(user);
                     
@@ -155,6 +161,9 @@ class DashboardMetricsPropertyTest extends BasePostgreSQLTest {
                         issueRepository.save(issue);
                     }
                     
+                    // Issues were saved directly, so rebuild the counter read model from them
+                    issueCounterService.reconcile(user.getId());
+
                     // Get project statistics
                     Map<String, Object> stats = dashboardService.getProjectStatistics(project.getId(), user);
                     
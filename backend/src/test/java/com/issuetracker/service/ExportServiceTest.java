@@ -0,0 +1,134 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the streaming issue and audit trail exports:
+ * - one record per issue, with its labels, sprint and epic
+ * - CSV header, quoting and formula escaping
+ * - only the requesting user's rows are exported
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType issueType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("export@example.com", "password", "Export User"));
+        testProject = projectRepository.save(new Project(testUser, "Export Project", "EXP", null));
+        issueType = issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+    }
+
+    @Test
+    void shouldExportIssuesAsNdjsonWithLabelsSprintAndEpic() throws Exception {
+        Sprint sprint = sprintRepository.save(new Sprint(testUser, "Sprint 1", LocalDate.now(), LocalDate.now().plusDays(14)));
+        Issue epic = issueRepository.save(new Issue(testUser, testProject, issueType, "Epic", null, Priority.HIGH));
+        Issue child = new Issue(testUser, testProject, issueType, "Child", "Details", Priority.LOW);
+        child.setParentIssue(epic);
+        child.setSprint(sprint);
+        child.setStoryPoints(5);
+        child.getLabels().add(labelRepository.save(new Label(testUser, "backend", "#000000")));
+        child.getLabels().add(labelRepository.save(new Label(testUser, "api", "#ffffff")));
+        issueRepository.save(child);
+
+        User otherUser = userRepository.save(new User("other-export@example.com", "password", "Other User"));
+        Project otherProject = projectRepository.save(new Project(otherUser, "Other Project", "OTH", null));
+        issueRepository.save(new Issue(otherUser, otherProject, issueType, "Not mine", null, Priority.LOW));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.exportIssues(testUser, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode epicRow = objectMapper.readTree(lines.get(0));
+        assertThat(epicRow.get("title").asText()).isEqualTo("Epic");
+        assertThat(epicRow.get("epicId").isNull()).isTrue();
+        assertThat(epicRow.get("labels")).isEmpty();
+
+        JsonNode childRow = objectMapper.readTree(lines.get(1));
+        assertThat(childRow.get("id").asLong()).isEqualTo(child.getId());
+        assertThat(childRow.get("projectKey").asText()).isEqualTo("EXP");
+        assertThat(childRow.get("storyPoints").asInt()).isEqualTo(5);
+        assertThat(childRow.get("sprintName").asText()).isEqualTo("Sprint 1");
+        assertThat(childRow.get("epicId").asLong()).isEqualTo(epic.getId());
+        assertThat(childRow.get("epicTitle").asText()).isEqualTo("Epic");
+        assertThat(childRow.get("labels")).extracting(JsonNode::asText).containsExactly("api", "backend");
+    }
+
+    @Test
+    void shouldExportIssuesAsCsvWithEscaping() throws Exception {
+        issueRepository.save(new Issue(testUser, testProject, issueType, "Fix \"login\", again", "=HYPERLINK(\"x\")", Priority.MEDIUM));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportIssues(testUser, ExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).isEqualTo(String.join(",", ExportService.ISSUE_COLUMNS));
+        assertThat(lines.get(1)).contains(",\"Fix \"\"login\"\", again\",\"'=HYPERLINK(\"\"x\"\")\",BACKLOG,MEDIUM,");
+    }
+
+    @Test
+    void shouldExportAuditTrailOldestFirst() throws Exception {
+        Issue issue = issueRepository.save(new Issue(testUser, testProject, issueType, "Audited", null, Priority.MEDIUM));
+        auditLogRepository.save(new AuditLog(testUser, issue, "ISSUE_CREATED", "created"));
+        auditLogRepository.save(new AuditLog(testUser, issue, "STATUS_CHANGE", "moved"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.exportAuditTrail(testUser, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("action").asText()).isEqualTo("ISSUE_CREATED");
+        assertThat(objectMapper.readTree(lines.get(1)).get("action").asText()).isEqualTo("STATUS_CHANGE");
+        assertThat(objectMapper.readTree(lines.get(1)).get("issueTitle").asText()).isEqualTo("Audited");
+    }
+}
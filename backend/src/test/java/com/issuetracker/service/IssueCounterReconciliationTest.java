@@ -0,0 +1,116 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.entity.IssueType;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.Project;
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.IssueCounterRepository;
+import com.issuetracker.repository.IssueTypeRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for counter reconciliation running alongside writers:
+ * - reconciliation waits for a writer that is adding a new bucket of the same user
+ * - the writer's bucket survives the reconciliation that follows its commit
+ *
+ * Not transactional, since the writer and the reconciliation need transactions of their own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IssueCounterReconciliationTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private IssueCounterRepository issueCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("reconcile-" + System.nanoTime() + "@example.com", "password", "Reconcile User"));
+        testProject = projectRepository.save(new Project(testUser, "Reconcile Project", "RP", "Reconcile project"));
+        // Scoped to the project, since global types left behind would show up in other tests' lookups
+        epicType = issueTypeRepository.save(new IssueType(testProject, "EPIC", "Epic issue type"));
+    }
+
+    @Test
+    void shouldWaitForWritersOfTheSameUser() throws Exception {
+        createIssue("Existing", Priority.MEDIUM);
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = pool.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                // A bucket that does not exist yet, so only the user lock can hold reconciliation back
+                createIssue("Concurrent", Priority.HIGH);
+                written.countDown();
+                await(release);
+            }));
+            assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Integer> reconciliation = pool.submit(() -> issueCounterService.reconcile(testUser.getId()));
+            Thread.sleep(300);
+            assertThat(reconciliation.isDone()).isFalse();
+
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertThat(reconciliation.get(5, TimeUnit.SECONDS)).isZero();
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+
+        long total = issueCounterRepository.sumByStatusAndPriority(testUser).stream()
+                .mapToLong(row -> ((Number) row[2]).longValue())
+                .sum();
+        assertThat(total).isEqualTo(2);
+    }
+
+    private void createIssue(String title, Priority priority) {
+        issueService.createIssue(new CreateIssueRequest(title, null, priority, testProject.getId(), epicType.getId()), testUser);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
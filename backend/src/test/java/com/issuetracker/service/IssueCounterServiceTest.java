@@ -0,0 +1,191 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.*;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the issue counters read model and epic child progress:
+ * - issue and sprint operations keep the counters in step with the issues table
+ * - creates, moves, status changes and deletes keep epic progress in step with the children
+ * - reconciliation detects and repairs drift
+ * - project statistics only count the project's own buckets
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class IssueCounterServiceTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private IssueCounterRepository issueCounterRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType storyType;
+    private IssueType epicType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("counters@example.com", "password", "Counter User"));
+        testProject = projectRepository.save(new Project(testUser, "Counter Project", "CP", "Counter project"));
+        storyType = issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+    }
+
+    @Test
+    void shouldKeepCountersInStepWithIssueAndSprintOperations() {
+        IssueDto epic = createIssue("Epic", epicType, null, null);
+        IssueDto story1 = createIssue("Story 1", storyType, epic.getId(), null);
+        IssueDto story2 = createIssue("Story 2", storyType, epic.getId(), null);
+        createIssue("Second epic", epicType, null, null);
+
+        UpdateIssueRequest update = new UpdateIssueRequest("Story 1", null, Priority.CRITICAL);
+        update.setParentIssueId(epic.getId());
+        issueService.updateIssue(story1.getId(), update, testUser);
+        issueService.updateIssueStatus(story2.getId(), new StatusUpdateRequest(IssueStatus.IN_PROGRESS), testUser);
+
+        SprintDto sprint = sprintService.createSprint(
+                new CreateSprintRequest("Counter Sprint", LocalDate.now(), LocalDate.now().plusDays(14)), testUser);
+        sprintService.addIssuesToSprint(sprint.getId(), List.of(story1.getId(), story1.getId()), testUser);
+        sprintService.activateSprint(sprint.getId(), testUser);
+        sprintService.completeSprint(sprint.getId(), testUser);
+
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+        assertThat(totalCount()).isEqualTo(4);
+
+        // Reload so the delete cascade sees the audit logs written above
+        entityManager.flush();
+        entityManager.clear();
+        issueService.deleteIssue(epic.getId(), testUser);
+
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+        assertThat(totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRepairDriftedCounters() {
+        IssueDto epic = createIssue("Epic", epicType, null, null);
+        createIssue("Story", storyType, epic.getId(), null);
+
+        issueCounterRepository.adjust(testUser.getId(), testProject.getId(), IssueStatus.BACKLOG, Priority.MEDIUM, 5, 0);
+
+        assertThat(issueCounterService.reconcile(testUser.getId())).isEqualTo(1);
+        assertThat(totalCount()).isEqualTo(2);
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    void shouldKeepEpicProgressInStepWithChildren() {
+        IssueDto epic = createIssue("Epic", epicType, null, null);
+        IssueDto otherEpic = createIssue("Other epic", epicType, null, null);
+        IssueDto story1 = createIssue("Story 1", storyType, epic.getId(), null);
+        IssueDto story2 = createIssue("Story 2", storyType, epic.getId(), null);
+        IssueDto story3 = createIssue("Story 3", storyType, epic.getId(), null);
+
+        issueService.updateIssueStatus(story1.getId(), new StatusUpdateRequest(IssueStatus.DONE), testUser);
+        issueService.moveIssueToEpic(story2.getId(), otherEpic.getId(), testUser);
+        assertThat(issueCounterService.getEpicProgress(epic.getId()))
+                .isEqualTo(new IssueCounterService.EpicProgress(2, 1));
+        assertThat(issueCounterService.getEpicProgress(otherEpic.getId()))
+                .isEqualTo(new IssueCounterService.EpicProgress(1, 0));
+
+        // Deleting an open child does not recalculate the epic, but the counts follow
+        entityManager.flush();
+        entityManager.clear();
+        issueService.deleteIssue(story3.getId(), testUser);
+        assertThat(issueCounterService.getEpicProgress(epic.getId()))
+                .isEqualTo(new IssueCounterService.EpicProgress(1, 1));
+
+        // The next status change of the remaining child decides from the counters alone
+        issueService.updateIssueStatus(story1.getId(), new StatusUpdateRequest(IssueStatus.IN_PROGRESS), testUser);
+        issueService.updateIssueStatus(story1.getId(), new StatusUpdateRequest(IssueStatus.DONE), testUser);
+        assertThat(issueService.getIssue(epic.getId(), testUser).getStatus()).isEqualTo(IssueStatus.DONE);
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    void shouldRepairDriftedEpicProgress() {
+        IssueDto epic = createIssue("Epic", epicType, null, null);
+        createIssue("Story", storyType, epic.getId(), null);
+
+        issueRepository.setChildProgress(epic.getId(), 7, 7);
+
+        assertThat(issueCounterService.reconcile(testUser.getId())).isEqualTo(1);
+        assertThat(issueCounterService.getEpicProgress(epic.getId()))
+                .isEqualTo(new IssueCounterService.EpicProgress(1, 0));
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldScopeProjectStatisticsToTheProject() {
+        Project otherProject = projectRepository.save(new Project(testUser, "Other Project", "OP", "Other project"));
+        IssueDto epic = createIssue("Epic", epicType, null, null);
+        issueService.updateIssueStatus(epic.getId(), new StatusUpdateRequest(IssueStatus.IN_PROGRESS), testUser);
+        CreateIssueRequest other = new CreateIssueRequest("Other epic", null, Priority.HIGH, otherProject.getId(), epicType.getId());
+        issueService.createIssue(other, testUser);
+
+        Map<String, Object> stats = dashboardService.getProjectStatistics(testProject.getId(), testUser);
+
+        assertThat(stats.get("totalIssues")).isEqualTo(1L);
+        Map<IssueStatus, Long> issuesByStatus = (Map<IssueStatus, Long>) stats.get("issuesByStatus");
+        assertThat(issuesByStatus.get(IssueStatus.IN_PROGRESS)).isEqualTo(1L);
+        assertThat(issuesByStatus.get(IssueStatus.BACKLOG)).isZero();
+        Map<Priority, Long> issuesByPriority = (Map<Priority, Long>) stats.get("issuesByPriority");
+        assertThat(issuesByPriority.get(Priority.MEDIUM)).isEqualTo(1L);
+        assertThat(issuesByPriority.get(Priority.HIGH)).isZero();
+    }
+
+    private IssueDto createIssue(String title, IssueType type, Long parentIssueId, Long sprintId) {
+        CreateIssueRequest request = new CreateIssueRequest(title, null, Priority.MEDIUM, testProject.getId(), type.getId());
+        request.setParentIssueId(parentIssueId);
+        request.setSprintId(sprintId);
+        return issueService.createIssue(request, testUser);
+    }
+
+    private long totalCount() {
+        return issueCounterRepository.sumByStatusAndPriority(testUser).stream()
+                .mapToLong(row -> ((Number) row[2]).longValue())
+                .sum();
+    }
+}
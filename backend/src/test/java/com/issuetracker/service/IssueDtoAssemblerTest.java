@@ -0,0 +1,206 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for page-level issue DTO assembly:
+ * - comment and child counts are resolved correctly for every row
+ * - the number of statements per page does not grow with the page size
+ * - epics of several owners get their own child counts
+ * - issues deleted since they were read are left out, and out of the page total
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class IssueDtoAssemblerTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueDtoAssembler issueDtoAssembler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType storyType;
+    private IssueType epicType;
+    private Label label;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("assembler@example.com", "password", "Assembler User"));
+        testProject = projectRepository.save(new Project(testUser, "Assembler Project", "AP", "Assembler project"));
+        storyType = issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+        label = labelRepository.save(new Label(testUser, "backend", "#112233"));
+    }
+
+    @Test
+    void shouldResolveCommentAndChildCountsForWholePage() {
+        Issue epic = issueRepository.save(new Issue(testUser, testProject, epicType, "Epic", null, Priority.HIGH));
+        Issue child1 = createChild(epic, "Child 1");
+        createChild(epic, "Child 2");
+        commentRepository.save(new Comment(testUser, child1, "first"));
+        commentRepository.save(new Comment(testUser, child1, "second"));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<IssueDto> dtos = issueService.getIssues(testUser, PageRequest.of(0, 20)).getContent();
+
+        IssueDto epicDto = findByTitle(dtos, "Epic");
+        assertThat(epicDto.isEpic()).isTrue();
+        assertThat(epicDto.getChildIssueCount()).isEqualTo(2L);
+        assertThat(epicDto.getCommentCount()).isZero();
+
+        IssueDto child1Dto = findByTitle(dtos, "Child 1");
+        assertThat(child1Dto.getCommentCount()).isEqualTo(2L);
+        assertThat(child1Dto.getChildIssueCount()).isZero();
+        assertThat(child1Dto.getParentIssueTitle()).isEqualTo("Epic");
+        assertThat(child1Dto.getProjectKey()).isEqualTo("AP");
+        assertThat(child1Dto.getLabels()).extracting("name").containsExactly("backend");
+    }
+
+    @Test
+    void shouldUseSameNumberOfStatementsRegardlessOfPageSize() {
+        Issue epic = issueRepository.save(new Issue(testUser, testProject, epicType, "Epic", null, Priority.HIGH));
+        createChild(epic, "Child 1");
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPage = countStatements(() -> issueService.getIssues(testUser, PageRequest.of(0, 20)));
+
+        for (int i = 2; i <= 30; i++) {
+            Issue child = createChild(issueRepository.getReferenceById(epic.getId()), "Child " + i);
+            commentRepository.save(new Comment(testUser, child, "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long largePage = countStatements(() -> issueService.getIssues(testUser, PageRequest.of(0, 20)));
+
+        assertThat(largePage).isLessThanOrEqualTo(smallPage + 1); // +1 for the separate count query of a full page
+    }
+
+    @Test
+    void shouldCountChildrenOfEpicsOwnedByDifferentUsers() {
+        User otherUser = userRepository.save(new User("assembler-other@example.com", "password", "Other User"));
+        Project otherProject = projectRepository.save(new Project(otherUser, "Other Project", "OP", null));
+        Issue epic = issueRepository.save(new Issue(testUser, testProject, epicType, "Epic", null, Priority.HIGH));
+        createChild(epic, "Child 1");
+        Issue otherEpic = issueRepository.save(new Issue(otherUser, otherProject, epicType, "Other epic", null,
+                Priority.HIGH));
+        issueRepository.save(new Issue(otherUser, otherProject, storyType, "Other child 1", null, Priority.LOW,
+                otherEpic));
+        issueRepository.save(new Issue(otherUser, otherProject, storyType, "Other child 2", null, Priority.LOW,
+                otherEpic));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<IssueDto> dtos = issueDtoAssembler.toDtos(issueRepository.findAllById(
+                List.of(epic.getId(), otherEpic.getId())));
+
+        assertThat(findByTitle(dtos, "Epic").getChildIssueCount()).isEqualTo(1L);
+        assertThat(findByTitle(dtos, "Other epic").getChildIssueCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldLeaveOutIssuesDeletedSinceTheyWereRead() {
+        Issue kept = issueRepository.save(new Issue(testUser, testProject, epicType, "Kept", null, Priority.HIGH));
+        Issue deleted = issueRepository.save(new Issue(testUser, testProject, epicType, "Deleted", null,
+                Priority.HIGH));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Issue> issues = List.of(issueRepository.findById(kept.getId()).orElseThrow(),
+                issueRepository.findById(deleted.getId()).orElseThrow());
+        entityManager.createNativeQuery("DELETE FROM issues WHERE id = :id")
+                .setParameter("id", deleted.getId())
+                .executeUpdate();
+
+        List<IssueDto> dtos = issueDtoAssembler.toDtos(issues);
+
+        assertThat(dtos).extracting(IssueDto::getTitle).containsExactly("Kept");
+    }
+
+    @Test
+    void shouldNotCountIssuesDeletedSinceThePageWasRead() {
+        Issue kept = issueRepository.save(new Issue(testUser, testProject, epicType, "Kept", null, Priority.HIGH));
+        Issue deleted = issueRepository.save(new Issue(testUser, testProject, epicType, "Deleted", null,
+                Priority.HIGH));
+        entityManager.flush();
+        entityManager.clear();
+
+        // A first page of two out of three issues
+        Page<Issue> issues = new PageImpl<>(List.of(issueRepository.findById(kept.getId()).orElseThrow(),
+                issueRepository.findById(deleted.getId()).orElseThrow()), PageRequest.of(0, 2), 3);
+        entityManager.createNativeQuery("DELETE FROM issues WHERE id = :id")
+                .setParameter("id", deleted.getId())
+                .executeUpdate();
+
+        Page<IssueDto> page = issueDtoAssembler.toDtoPage(issues);
+
+        assertThat(page.getContent()).extracting(IssueDto::getTitle).containsExactly("Kept");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private Issue createChild(Issue epic, String title) {
+        Issue child = new Issue(testUser, testProject, storyType, title, null, Priority.MEDIUM, epic);
+        child.getLabels().add(labelRepository.getReferenceById(label.getId()));
+        return issueRepository.save(child);
+    }
+
+    private IssueDto findByTitle(List<IssueDto> dtos, String title) {
+        return dtos.stream().filter(dto -> title.equals(dto.getTitle())).findFirst().orElseThrow();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
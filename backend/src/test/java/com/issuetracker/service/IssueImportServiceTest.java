@@ -0,0 +1,186 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueImportResultDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.exception.InvalidImportException;
+import com.issuetracker.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the bulk issue import:
+ * - references are resolved by key and name, epics may be created earlier in the same file
+ * - invalid rows are rejected with per-row errors while valid rows are imported
+ * - counters and audit logs cover imported issues
+ * - an exported file imports back into another account
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class IssueImportServiceTest {
+
+    @Autowired
+    private IssueImportService issueImportService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    private User testUser;
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("import@example.com", "password", "Import User"));
+        testProject = projectRepository.save(new Project(testUser, "Import Project", "IMP", null));
+        issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+        issueTypeRepository.save(new IssueType("STORY", "Story issue type", true));
+        labelRepository.save(new Label(testUser, "backend", "#000000"));
+        labelRepository.save(new Label(testUser, "api", "#ffffff"));
+    }
+
+    @Test
+    void shouldImportEpicsChildrenLabelsAndSprints() throws Exception {
+        Sprint sprint = sprintRepository.save(new Sprint(testUser, "Sprint 1", LocalDate.now(), LocalDate.now().plusDays(14)));
+        String ndjson = """
+                {"id":"e1","projectKey":"IMP","issueType":"EPIC","title":"Payments","priority":"HIGH"}
+                {"projectKey":"IMP","issueType":"STORY","title":"Card form","priority":"medium","storyPoints":5,"sprintName":"Sprint 1","epicId":"e1","labels":["api","backend"]}
+                {"projectKey":"IMP","issueType":"STORY","title":"Refunds","priority":"LOW","status":"IN_PROGRESS","epicTitle":"Payments"}
+                """;
+
+        IssueImportResultDto result = importNdjson(ndjson);
+
+        assertThat(result.getProcessedRows()).isEqualTo(3);
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getErrors()).isEmpty();
+
+        List<Issue> issues = issuesOf(testUser).stream()
+                .sorted(Comparator.comparing(Issue::getId)).toList();
+        assertThat(issues).extracting(Issue::getTitle).containsExactly("Payments", "Card form", "Refunds");
+
+        Issue epic = issues.get(0);
+        Issue story = issues.get(1);
+        assertThat(epic.getParentIssue()).isNull();
+        assertThat(story.getParentIssue().getId()).isEqualTo(epic.getId());
+        assertThat(story.getSprint().getId()).isEqualTo(sprint.getId());
+        assertThat(story.getStoryPoints()).isEqualTo(5);
+        assertThat(story.getPriority()).isEqualTo(Priority.MEDIUM);
+        assertThat(story.getStatus()).isEqualTo(IssueStatus.BACKLOG);
+        assertThat(story.getLabels()).extracting(Label::getName).containsExactlyInAnyOrder("api", "backend");
+        assertThat(issues.get(2).getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+        assertThat(issues.get(2).getParentIssue().getId()).isEqualTo(epic.getId());
+
+        assertThat(auditLogRepository.findByIssueOrderByCreatedAtAsc(story))
+                .extracting(AuditLog::getAction).containsExactly("ISSUE_CREATED");
+        long counted = issueCounterService.sumByStatusAndPriority(testUser).stream()
+                .mapToLong(row -> ((Number) row[2]).longValue()).sum();
+        assertThat(counted).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectInvalidRowsAndImportTheRest() throws Exception {
+        String csv = "projectKey,issueType,title,priority,storyPoints,labels,epicTitle\n" +
+                "IMP,EPIC,Platform,HIGH,,,\n" +
+                "NOPE,STORY,Unknown project,HIGH,,,Platform\n" +
+                "IMP,STORY,Bad points,HIGH,4,,Platform\n" +
+                "IMP,STORY,No epic,URGENT,,,\n" +
+                "IMP,STORY,\"Quoted, \"\"title\"\"\",LOW,3,missing;api,Platform\n" +
+                "IMP,STORY,Good,LOW,3,api,Platform\n";
+
+        IssueImportResultDto result = issueImportService.importIssues(testUser, ExportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getProcessedRows()).isEqualTo(6);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getRejectedCount()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(error -> error.getRow() + ":" + error.getField())
+                .containsExactly("2:projectKey", "3:storyPoints", "4:priority", "4:epicId", "5:labels");
+        assertThat(issuesOf(testUser))
+                .extracting(Issue::getTitle).containsExactlyInAnyOrder("Platform", "Good");
+    }
+
+    @Test
+    void shouldRejectMalformedFilesAsAWhole() {
+        String missingColumn = "projectKey,issueType,title\nIMP,EPIC,Platform\n";
+        assertThatThrownBy(() -> issueImportService.importIssues(testUser, ExportFormat.CSV,
+                new ByteArrayInputStream(missingColumn.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageContaining("priority");
+
+        String brokenJson = "{\"projectKey\":\"IMP\",\"issueType\":\"EPIC\",\"title\":\"Ok\",\"priority\":\"LOW\"}\n{\"title\":";
+        assertThatThrownBy(() -> importNdjson(brokenJson))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageContaining("record 2");
+    }
+
+    @Test
+    void shouldImportAnExportIntoAnotherAccount() throws Exception {
+        importNdjson("""
+                {"id":"e1","projectKey":"IMP","issueType":"EPIC","title":"Payments","priority":"HIGH"}
+                {"projectKey":"IMP","issueType":"STORY","title":"Card form","priority":"LOW","epicId":"e1","labels":["api"]}
+                """);
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        exportService.exportIssues(testUser, ExportFormat.CSV, exported);
+
+        User otherUser = userRepository.save(new User("import-other@example.com", "password", "Other User"));
+        projectRepository.save(new Project(otherUser, "Import Project", "IMP", null));
+        labelRepository.save(new Label(otherUser, "api", "#ffffff"));
+
+        IssueImportResultDto result = issueImportService.importIssues(otherUser, ExportFormat.CSV,
+                new ByteArrayInputStream(exported.toByteArray()));
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        Issue child = issuesOf(otherUser).stream()
+                .filter(issue -> issue.getTitle().equals("Card form")).findFirst().orElseThrow();
+        assertThat(child.getParentIssue().getTitle()).isEqualTo("Payments");
+        assertThat(child.getParentIssue().getUser().getId()).isEqualTo(otherUser.getId());
+    }
+
+    private List<Issue> issuesOf(User user) {
+        return issueRepository.findByUserOrderByCreatedAtDesc(user, Pageable.unpaged()).getContent();
+    }
+
+    private IssueImportResultDto importNdjson(String ndjson) throws Exception {
+        return issueImportService.importIssues(testUser, ExportFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.issuetracker.service;
+
+import com.issuetracker.base.BaseTestcontainersTest;
+import com.issuetracker.entity.IssueStatus;
+import com.issuetracker.entity.IssueType;
+import com.issuetracker.entity.Label;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.Project;
+import com.issuetracker.entity.User;
+import com.issuetracker.repository.IssueTypeRepository;
+import com.issuetracker.repository.LabelRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the COPY path of the import staging loader on PostgreSQL:
+ * - quotes, commas, embedded newlines and backslashes survive the CSV encoding
+ * - NULL and the empty string stay distinct
+ * - labels are attached through their own COPY
+ *
+ * The H2 test database takes the batched INSERT path, so this needs Docker and is skipped without it.
+ * To run: mvn test -Dtest="IssueImportStagingLoaderTestcontainersTest"
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IssueImportStagingLoaderTestcontainersTest extends BaseTestcontainersTest {
+
+    private static final List<String> AWKWARD_VALUES = List.of(
+            "Plain title",
+            "He said \"ship it\", then left",
+            "\"\"",
+            "first line\nsecond line\r\nthird line",
+            "C:\\temp\\new folder\\",
+            "\\N",
+            "line before\n\\.\nline after",
+            "trailing comma,",
+            "tab\tand unicode: caf\u00e9 \u2603",
+            "");
+
+    @Autowired
+    private IssueImportStagingLoader stagingLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+    private Label label;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("copy@example.com", "password", "Copy User"));
+        testProject = projectRepository.save(new Project(testUser, "Copy Project", "CPY", null));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+        label = labelRepository.save(new Label(testUser, "backend", "#000000"));
+    }
+
+    @Test
+    void shouldRoundTripAwkwardTextThroughCopy() {
+        List<IssueImportStagingLoader.StagedIssue> batch = new ArrayList<>();
+        for (int i = 0; i < AWKWARD_VALUES.size(); i++) {
+            String value = AWKWARD_VALUES.get(i);
+            // Titles cannot be empty, so the value goes into the title only where it is not
+            String title = value.isEmpty() ? "Empty description" : value;
+            batch.add(staged(i + 1, title, value));
+        }
+        batch.add(staged(batch.size() + 1, "Null description", null));
+
+        int inserted = stagingLoader.load("copy-round-trip", batch, Instant.now());
+
+        assertThat(inserted).isEqualTo(batch.size());
+        for (IssueImportStagingLoader.StagedIssue issue : batch) {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT title, description, story_points FROM issues WHERE id = ?", issue.id());
+            assertThat(row.get("title")).isEqualTo(issue.title());
+            assertThat(row.get("description")).isEqualTo(issue.description());
+            assertThat(row.get("story_points")).isEqualTo(issue.storyPoints());
+        }
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE description = '' AND user_id = ?", Long.class,
+                testUser.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE description IS NULL AND user_id = ?", Long.class,
+                testUser.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issue_labels WHERE label_id = ?", Long.class, label.getId()))
+                .isEqualTo(batch.size());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issue_import_staging", Long.class)).isZero();
+    }
+
+    private IssueImportStagingLoader.StagedIssue staged(int lineNumber, String title, String description) {
+        return new IssueImportStagingLoader.StagedIssue(stagingLoader.nextIssueId(), lineNumber, testUser.getId(),
+                testProject.getId(), epicType.getId(), null, null, title, description, IssueStatus.BACKLOG,
+                Priority.MEDIUM, lineNumber % 2 == 0 ? lineNumber : null, List.of(label.getId()));
+    }
+}
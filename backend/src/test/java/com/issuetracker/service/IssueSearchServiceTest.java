@@ -0,0 +1,105 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueSearchResultDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for issue search on the H2 test database, which uses the LIKE fallback.
+ * The PostgreSQL full-text path is exercised by FullTextSearchBenchmark.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class IssueSearchServiceTest {
+
+    @Autowired
+    private IssueSearchService issueSearchService;
+
+    @Autowired
+    private FullTextSearch fullTextSearch;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("search@example.com", "password", "Search User"));
+        testProject = projectRepository.save(new Project(testUser, "Search Project", "SP", "Search project"));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+    }
+
+    @Test
+    void shouldMatchTitleDescriptionAndCommentsRankingTitleHigher() {
+        Issue titleHit = save("Deploy pipeline", "Set up CI");
+        Issue descriptionHit = save("Release checklist", "Run the deploy dry run first");
+        Issue commentHit = save("Database upgrade", "Postgres 15");
+        commentRepository.save(new Comment(testUser, commentHit, "Blocked until the deploy freeze ends"));
+        save("Unrelated", "Nothing to see");
+
+        Page<IssueSearchResultDto> results = issueSearchService.searchIssues(testUser, "DEPLOY", PageRequest.of(0, 20));
+
+        assertThat(fullTextSearch.isAvailable()).isFalse();
+        assertThat(results.getTotalElements()).isEqualTo(3);
+        assertThat(results.getContent()).extracting(result -> result.getIssue().getId())
+                .containsExactlyInAnyOrder(titleHit.getId(), descriptionHit.getId(), commentHit.getId());
+        assertThat(rankOf(results, titleHit)).isGreaterThan(rankOf(results, descriptionHit));
+        assertThat(rankOf(results, descriptionHit)).isGreaterThan(rankOf(results, commentHit));
+    }
+
+    @Test
+    void shouldEscapeAndHighlightMatches() {
+        Issue issue = save("Fix <script> in deploy form", null);
+
+        IssueSearchResultDto result = issueSearchService.searchIssues(testUser, "deploy", PageRequest.of(0, 20))
+                .getContent().get(0);
+
+        assertThat(result.getIssue().getId()).isEqualTo(issue.getId());
+        assertThat(result.getHighlightedTitle()).isEqualTo("Fix &lt;script&gt; in <mark>deploy</mark> form");
+        assertThat(result.getSnippet()).isNull();
+    }
+
+    @Test
+    void shouldReturnEmptyPageForBlankQuery() {
+        save("Deploy pipeline", null);
+
+        assertThat(issueSearchService.searchIssues(testUser, "  ", PageRequest.of(0, 20))).isEmpty();
+    }
+
+    private Issue save(String title, String description) {
+        return issueRepository.save(new Issue(testUser, testProject, epicType, title, description, Priority.MEDIUM));
+    }
+
+    private double rankOf(Page<IssueSearchResultDto> results, Issue issue) {
+        return results.getContent().stream()
+                .filter(result -> result.getIssue().getId().equals(issue.getId()))
+                .findFirst().orElseThrow()
+                .getRank();
+    }
+}
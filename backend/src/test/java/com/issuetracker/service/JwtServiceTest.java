@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +29,9 @@ class JwtServiceTest {
         ReflectionTestUtils.setField(jwtService, "secretKey", "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcw==");
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L); // 24 hours
         ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L); // 7 days
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheTtl", Duration.ofMinutes(5));
+        jwtService.init();
         
         userDetails = User.builder()
                 .username("test@example.com")
@@ -96,6 +100,9 @@ class JwtServiceTest {
         ReflectionTestUtils.setField(shortExpirationService, "secretKey", "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcw==");
         ReflectionTestUtils.setField(shortExpirationService, "jwtExpiration", 1L); // 1 millisecond
         ReflectionTestUtils.setField(shortExpirationService, "refreshExpiration", 1L);
+        ReflectionTestUtils.setField(shortExpirationService, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(shortExpirationService, "claimsCacheTtl", Duration.ofMinutes(5));
+        shortExpirationService.init();
         
         String token = shortExpirationService.generateToken(userDetails);
         
@@ -148,4 +155,59 @@ class JwtServiceTest {
         assertThat(jwtService.extractUsername(token)).isEqualTo("test@example.com");
         assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void extractPrincipal_ShouldCarryUserIdWithoutLookup() {
+        com.issuetracker.entity.User user = new com.issuetracker.entity.User("test@example.com", "hash", "Test User");
+        user.setId(42L);
+
+        String token = jwtService.generateToken(AuthenticatedUser.of(user));
+        AuthenticatedUser principal = jwtService.extractPrincipal(token);
+
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("test@example.com");
+        assertThat(principal.getName()).isEqualTo("Test User");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(jwtService.isTokenValid(token, principal)).isTrue();
+
+        com.issuetracker.entity.User reference = principal.toUserReference();
+        assertThat(reference).isEqualTo(user);
+        assertThat(reference.getName()).isEqualTo("Test User");
+    }
+
+    @Test
+    void extractPrincipal_WithTokenWithoutUserId_ShouldReturnNull() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.extractPrincipal(token)).isNull();
+    }
+
+    @Test
+    void isTokenValid_WithCachedClaims_ShouldValidateLikeAFreshParse() {
+        String token = jwtService.generateToken(userDetails);
+        UserDetails wrongUser = User.builder()
+                .username("wrong@example.com")
+                .password("password")
+                .authorities(new ArrayList<>())
+                .build();
+
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+        assertThat(jwtService.isTokenValid(token, wrongUser)).isFalse();
+
+        String tamperedToken = token.substring(0, token.length() - 5) + "XXXXX";
+        assertThatThrownBy(() -> jwtService.isTokenValid(tamperedToken, userDetails))
+                .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    void isTokenValid_WithoutClaimsCache_ShouldStillValidate() {
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 0L);
+        jwtService.init();
+
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+        assertThat(jwtService.extractUsername(token)).isEqualTo("test@example.com");
+    }
+}
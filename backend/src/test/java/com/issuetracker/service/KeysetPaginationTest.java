@@ -0,0 +1,175 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.AuditLogDto;
+import com.issuetracker.dto.CommentDto;
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.PageCursor;
+import com.issuetracker.entity.*;
+import com.issuetracker.exception.InvalidCursorException;
+import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for keyset (cursor) pagination of the issue, comment and audit timelines:
+ * - walking all pages returns every row exactly once, in order
+ * - rows sharing a creation time are split across pages by ID
+ * - the total count is only computed on request
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class KeysetPaginationTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("keyset@example.com", "password", "Keyset User"));
+        testProject = projectRepository.save(new Project(testUser, "Keyset Project", "KP", "Keyset project"));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+    }
+
+    @Test
+    void shouldWalkIssuePagesNewestFirstWithoutGapsOrDuplicates() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(issueRepository.save(new Issue(testUser, testProject, epicType, "Epic " + i, null, Priority.LOW)).getId());
+        }
+        // Force a tie on the first three so the ID tie-breaker decides their order
+        Instant base = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < ids.size(); i++) {
+            Instant createdAt = i < 3 ? base : base.plusSeconds(i);
+            entityManager.createQuery("UPDATE Issue i SET i.createdAt = :createdAt WHERE i.id = :id")
+                    .setParameter("createdAt", createdAt)
+                    .setParameter("id", ids.get(i))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<IssueDto> page = issueService.getIssuesPage(testUser, null, null, null, null, cursor, 3, false);
+            page.getItems().forEach(dto -> seen.add(dto.getId()));
+            assertThat(page.getTotalCount()).isNull();
+            assertThat(page.isHasMore()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = new ArrayList<>(List.of(ids.get(6), ids.get(5), ids.get(4), ids.get(3)));
+        expected.addAll(List.of(ids.get(2), ids.get(1), ids.get(0)));
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void shouldApplyFiltersAndReturnTotalOnRequest() {
+        for (int i = 0; i < 4; i++) {
+            Issue issue = new Issue(testUser, testProject, epicType, "Epic " + i, null, i % 2 == 0 ? Priority.HIGH : Priority.LOW);
+            issueRepository.save(issue);
+        }
+
+        CursorPage<IssueDto> page = issueService.getIssuesPage(testUser, null, null, Priority.HIGH, null, null, 1, true);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(page.getTotalCount()).isEqualTo(2L);
+        assertThat(page.isHasMore()).isTrue();
+    }
+
+    @Test
+    void shouldWalkCommentAndAuditPagesOldestFirst() {
+        Issue issue = issueRepository.save(new Issue(testUser, testProject, epicType, "Epic", null, Priority.LOW));
+        List<Long> commentIds = new ArrayList<>();
+        List<Long> auditIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            commentIds.add(commentRepository.save(new Comment(testUser, issue, "comment " + i)).getId());
+            auditIds.add(auditLogRepository.save(new AuditLog(testUser, issue, "UPDATED", "change " + i)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seenComments = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<CommentDto> page = commentService.getIssueCommentsPage(issue.getId(), testUser, cursor, 2, true);
+            assertThat(page.getTotalCount()).isEqualTo(5L);
+            page.getItems().forEach(dto -> seenComments.add(dto.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seenComments).containsExactlyElementsOf(commentIds);
+
+        List<Long> seenAudit = new ArrayList<>();
+        cursor = null;
+        do {
+            CursorPage<AuditLogDto> page = auditService.getIssueHistoryPage(issue.getId(), testUser, cursor, 2, false);
+            page.getItems().forEach(dto -> seenAudit.add(dto.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seenAudit).containsExactlyElementsOf(auditIds);
+    }
+
+    @Test
+    void shouldRoundTripCursorAndRejectMalformedOnes() {
+        PageCursor cursor = new PageCursor(Instant.parse("2024-03-01T10:15:30.123456Z"), 42L);
+
+        PageCursor decoded = PageCursor.decode(cursor.encode(), PageCursor.NEWEST);
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(PageCursor.decode(null, PageCursor.OLDEST)).isSameAs(PageCursor.OLDEST);
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor", PageCursor.NEWEST))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThat(CursorPage.normalizeLimit(null)).isEqualTo(CursorPage.DEFAULT_LIMIT);
+        assertThat(CursorPage.normalizeLimit(1000)).isEqualTo(CursorPage.MAX_LIMIT);
+    }
+}
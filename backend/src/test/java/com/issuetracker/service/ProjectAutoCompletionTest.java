@@ -1,8 +1,13 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.CreateIssueRequest;
 import com.issuetracker.dto.StatusUpdateRequest;
 import com.issuetracker.entity.*;
 import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +19,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Test class for project auto-completion functionality.
- * Verifies that projects automatically change status based on epic completion.
+ * Verifies that projects automatically change status based on epic completion,
+ * with a fixed number of statements regardless of the number of epics and children.
  */
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @Transactional
 class ProjectAutoCompletionTest {
@@ -39,6 +45,12 @@ class ProjectAutoCompletionTest {
     @Autowired
     private IssueTypeRepository issueTypeRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User testUser;
     private Project testProject;
     private IssueType epicType;
@@ -174,13 +186,51 @@ class ProjectAutoCompletionTest {
         assertThat(testProject.getStatus()).isEqualTo(ProjectStatus.DONE);
     }
 
+    @Test
+    void shouldCheckProjectStatusWithTheSameNumberOfStatementsForAnyNumberOfEpics() {
+        // Given: A small project and a large project, each with an epic that still has open work
+        Project smallProject = testProject;
+        createStory("Open story", null, createEpic("Small epic", null));
+
+        Project largeProject = projectRepository.save(new Project(testUser, "Large Project", "LARGE", null));
+        for (int i = 0; i < 20; i++) {
+            Issue epic = issueRepository.save(new Issue(testUser, largeProject, epicType, "Epic " + i, null, Priority.MEDIUM));
+            for (int j = 0; j < 3; j++) {
+                issueRepository.save(new Issue(testUser, largeProject, storyType, "Story " + i + "-" + j, null,
+                        Priority.MEDIUM, epic));
+            }
+        }
+        entityManager.flush();
+
+        // When: Checking both projects
+        long smallStatements = countStatements(() -> projectService.updateProjectStatusIfNeeded(smallProject, testUser));
+        long largeStatements = countStatements(() -> projectService.updateProjectStatusIfNeeded(largeProject, testUser));
+
+        // Then: Both stay IN_PROGRESS and the check does not grow with the number of epics
+        assertThat(smallProject.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+        assertThat(largeProject.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
     private Issue createEpic(String title, String description) {
         Issue epic = new Issue(testUser, testProject, epicType, title, description, Priority.MEDIUM);
         return issueRepository.save(epic);
     }
 
+    /**
+     * Creates a child story through the service, so its epic's progress counters include it.
+     */
     private Issue createStory(String title, String description, Issue parentEpic) {
-        Issue story = new Issue(testUser, testProject, storyType, title, description, Priority.MEDIUM, parentEpic);
-        return issueRepository.save(story);
+        CreateIssueRequest request = new CreateIssueRequest(title, description, Priority.MEDIUM,
+                testProject.getId(), storyType.getId());
+        request.setParentIssueId(parentEpic.getId());
+        return issueRepository.findById(issueService.createIssue(request, testUser).getId()).orElseThrow();
     }
 }
\ No newline at end of file
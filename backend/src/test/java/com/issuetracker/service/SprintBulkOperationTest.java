@@ -0,0 +1,202 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.SprintActivationResponse;
+import com.issuetracker.dto.SprintDto;
+import com.issuetracker.entity.*;
+import com.issuetracker.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the set-based sprint activation, completion and deletion:
+ * - the activation response and the resulting issue state match the per-issue behaviour
+ * - audit entries and issue counters are written for every affected issue
+ * - the number of statements does not grow with the number of issues in the sprint
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class SprintBulkOperationTest {
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private IssueCounterService issueCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Project testProject;
+    private IssueType epicType;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("bulk-sprint@example.com", "password", "Bulk Sprint User"));
+        testProject = projectRepository.save(new Project(testUser, "Bulk Project", "BP", "Bulk project"));
+        epicType = issueTypeRepository.save(new IssueType("EPIC", "Epic issue type", true));
+    }
+
+    @Test
+    void shouldActivateSprintMovingOnlyBacklogIssues() {
+        Sprint sprint = createSprint("Sprint 1");
+        List<Long> backlogIds = createIssues(sprint, IssueStatus.BACKLOG, 3);
+        List<Long> inProgressIds = createIssues(sprint, IssueStatus.IN_PROGRESS, 2);
+        prepareCounters();
+
+        SprintActivationResponse response = sprintService.activateSprint(sprint.getId(), testUser);
+
+        assertThat(response.getMovedIssuesCount()).isEqualTo(3);
+        assertThat(response.getUpdatedIssueIds()).containsExactlyElementsOf(backlogIds);
+        assertThat(response.getSprint().getStatus()).isEqualTo(SprintStatus.ACTIVE);
+        assertThat(response.getSprint().getIssueCount()).isEqualTo(5L);
+        backlogIds.forEach(id -> assertThat(statusOf(id)).isEqualTo(IssueStatus.SELECTED_FOR_DEVELOPMENT));
+        inProgressIds.forEach(id -> assertThat(statusOf(id)).isEqualTo(IssueStatus.IN_PROGRESS));
+
+        for (Long id : backlogIds) {
+            List<AuditLog> history = auditLogRepository.findByIssueIdAndIssueUserOrderByCreatedAtAsc(id, testUser);
+            assertThat(history).hasSize(1);
+            assertThat(history.get(0).getAction()).isEqualTo("STATUS_CHANGE");
+            assertThat(history.get(0).getDetails()).isEqualTo("Status changed from BACKLOG to SELECTED_FOR_DEVELOPMENT");
+            assertThat(history.get(0).getUser().getId()).isEqualTo(testUser.getId());
+        }
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    void shouldCompleteSprintMovingIncompleteIssuesToBacklog() {
+        Sprint sprint = createSprint("Sprint 1");
+        List<Long> doneIds = createIssues(sprint, IssueStatus.DONE, 2);
+        List<Long> openIds = createIssues(sprint, IssueStatus.IN_REVIEW, 3);
+        sprint.setStatus(SprintStatus.ACTIVE);
+        sprintRepository.save(sprint);
+        prepareCounters();
+
+        SprintDto completed = sprintService.completeSprint(sprint.getId(), testUser);
+
+        assertThat(completed.getStatus()).isEqualTo(SprintStatus.COMPLETED);
+        assertThat(completed.getIssueCount()).isEqualTo(2L);
+        for (Long id : openIds) {
+            Issue issue = issueRepository.findById(id).orElseThrow();
+            assertThat(issue.getStatus()).isEqualTo(IssueStatus.BACKLOG);
+            assertThat(issue.getSprint()).isNull();
+            assertThat(issue.getLastCompletedSprint().getId()).isEqualTo(sprint.getId());
+        }
+        for (Long id : doneIds) {
+            assertThat(issueRepository.findById(id).orElseThrow().getSprint().getId()).isEqualTo(sprint.getId());
+        }
+
+        Sprint stored = sprintRepository.findById(sprint.getId()).orElseThrow();
+        assertThat(stored.getSnapshotIssueCount()).isEqualTo(5);
+        assertThat(stored.getSnapshotDoneIssueCount()).isEqualTo(2);
+        assertThat(issueCounterService.reconcile(testUser.getId())).isZero();
+    }
+
+    @Test
+    void shouldDeleteSprintDetachingItsIssues() {
+        Sprint sprint = createSprint("Sprint 1");
+        List<Long> ids = createIssues(sprint, IssueStatus.BACKLOG, 3);
+
+        sprintService.deleteSprint(sprint.getId(), testUser);
+
+        assertThat(sprintRepository.findById(sprint.getId())).isEmpty();
+        ids.forEach(id -> assertThat(issueRepository.findById(id).orElseThrow().getSprint()).isNull());
+    }
+
+    @Test
+    void shouldUseSameNumberOfStatementsRegardlessOfSprintSize() {
+        // Separate projects so both runs create the same number of new counter buckets
+        Sprint small = createSprint("Small");
+        createIssues(testProject, small, IssueStatus.BACKLOG, 2);
+        Sprint large = createSprint("Large");
+        createIssues(projectRepository.save(new Project(testUser, "Large Project", "LP", null)), large, IssueStatus.BACKLOG, 40);
+        prepareCounters();
+
+        long smallStatements = countStatements(() -> {
+            sprintService.activateSprint(small.getId(), testUser);
+            sprintService.completeSprint(small.getId(), testUser);
+        });
+        long largeStatements = countStatements(() -> {
+            sprintService.activateSprint(large.getId(), testUser);
+            sprintService.completeSprint(large.getId(), testUser);
+        });
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private Sprint createSprint(String name) {
+        return sprintRepository.save(new Sprint(testUser, name, LocalDate.now(), LocalDate.now().plusDays(14)));
+    }
+
+    private List<Long> createIssues(Sprint sprint, IssueStatus status, int count) {
+        return createIssues(testProject, sprint, status, count);
+    }
+
+    private List<Long> createIssues(Project project, Sprint sprint, IssueStatus status, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Issue issue = new Issue(testUser, project, epicType, sprint.getName() + " " + status + " " + i, null, Priority.MEDIUM);
+            issue.setSprint(sprint);
+            issue.setStatus(status);
+            ids.add(issueRepository.save(issue).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Fixtures are saved through the repository, so build the counters from them first.
+     */
+    private void prepareCounters() {
+        entityManager.flush();
+        issueCounterService.reconcile(testUser.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private IssueStatus statusOf(Long issueId) {
+        return issueRepository.findById(issueId).orElseThrow().getStatus();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
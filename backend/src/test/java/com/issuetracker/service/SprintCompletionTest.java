@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * Test to verify that sprint completion works correctly:
@@ -43,6 +44,9 @@ public class SprintCompletionTest {
     @Autowired
     private IssueTypeRepository issueTypeRepository;
 
+    @Autowired
+    private SprintRepository sprintRepository;
+
     private User testUser;
     private Project testProject;
     private IssueType storyType;
@@ -160,6 +164,12 @@ public class SprintCompletionTest {
         assertThat(inProgressIssueAfter.getStatus()).isEqualTo(IssueStatus.BACKLOG);
         assertThat(inProgressIssueAfter.getSprintId()).isNull();
         assertThat(inProgressIssueAfter.getLastCompletedSprintId()).isEqualTo(sprint.getId());
+
+        // Completion snapshot keeps the totals from before incomplete issues were moved
+        Sprint sprintEntity = sprintRepository.findById(sprint.getId()).orElseThrow();
+        assertThat(sprintEntity.getSnapshotIssueCount()).isEqualTo(3);
+        assertThat(sprintEntity.getSnapshotDoneIssueCount()).isEqualTo(1);
+        assertThat(sprintRepository.averageCompletionFromSnapshots(testUser)).isCloseTo(100.0 / 3, within(0.01));
     }
 
     @Test
@@ -0,0 +1,194 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.*;
+import com.issuetracker.entity.IssueType;
+import com.issuetracker.entity.Priority;
+import com.issuetracker.entity.SyncEntityType;
+import com.issuetracker.entity.User;
+import com.issuetracker.exception.InvalidCursorException;
+import com.issuetracker.repository.IssueTypeRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for the delta sync feed:
+ * - the first read returns all live issues, comments and sprints of the user only
+ * - later reads return only what changed since the cursor, with tombstones for deletes
+ * - changes are paged without gaps or duplicates
+ * - malformed and expired cursors are rejected
+ *
+ * Not transactional, since the feed only serves committed changes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueTypeRepository issueTypeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private User testUser;
+    private ProjectDto project;
+    private final Map<Long, Long> epicTypeIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(new User("sync-" + System.nanoTime() + "@example.com", "password", "Sync User"));
+        project = projectService.createProject(new CreateProjectRequest("Sync Project", "SYNC", null), testUser);
+    }
+
+    @Test
+    void shouldReturnAllLiveEntriesOfTheUserOnFirstRead() {
+        IssueDto issue = createIssue("First issue");
+        CommentDto comment = commentService.createComment(new CreateCommentRequest("First comment", issue.getId()), testUser);
+        SprintDto sprint = sprintService.createSprint(new CreateSprintRequest("Sync Sprint",
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(14)), testUser);
+
+        User otherUser = userRepository.save(new User("sync-other-" + System.nanoTime() + "@example.com",
+                "password", "Other User"));
+        ProjectDto otherProject = projectService.createProject(new CreateProjectRequest("Other", "OTH", null), otherUser);
+        issueService.createIssue(new CreateIssueRequest("Other issue", null, Priority.LOW, otherProject.getId(),
+                epicTypeId(otherProject.getId())), otherUser);
+
+        SyncChangesDto changes = syncService.getChanges(testUser, null, null);
+
+        assertThat(changes.getIssues()).extracting(IssueDto::getId).containsExactly(issue.getId());
+        assertThat(changes.getComments()).extracting(CommentDto::getId).containsExactly(comment.getId());
+        assertThat(changes.getSprints()).extracting(SprintDto::getId).containsExactly(sprint.getId());
+        assertThat(changes.getDeleted()).isEmpty();
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(changes.getNextCursor()).isNotBlank();
+    }
+
+    @Test
+    void shouldReturnOnlyChangesSinceTheCursor() {
+        IssueDto changed = createIssue("Changed issue");
+        createIssue("Unchanged issue");
+        String cursor = syncService.getChanges(testUser, null, null).getNextCursor();
+
+        assertThat(syncService.getChanges(testUser, cursor, null).getIssues()).isEmpty();
+
+        issueService.updateIssue(changed.getId(), new UpdateIssueRequest("Renamed issue", null, Priority.HIGH), testUser);
+        SyncChangesDto changes = syncService.getChanges(testUser, cursor, null);
+
+        assertThat(changes.getIssues()).extracting(IssueDto::getTitle).containsExactly("Renamed issue");
+        assertThat(changes.getComments()).isEmpty();
+        assertThat(changes.getSprints()).isEmpty();
+        assertThat(syncService.getChanges(testUser, changes.getNextCursor(), null).getIssues()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTombstonesForDeletedEntries() {
+        IssueDto issue = createIssue("Doomed issue");
+        CommentDto issueComment = commentService.createComment(
+                new CreateCommentRequest("Goes with the issue", issue.getId()), testUser);
+        IssueDto kept = createIssue("Kept issue");
+        CommentDto comment = commentService.createComment(
+                new CreateCommentRequest("Deleted comment", kept.getId()), testUser);
+        SprintDto sprint = sprintService.createSprint(new CreateSprintRequest("Doomed Sprint",
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(14)), testUser);
+        String cursor = syncService.getChanges(testUser, null, null).getNextCursor();
+
+        issueService.deleteIssue(issue.getId(), testUser);
+        commentService.deleteComment(comment.getId(), testUser);
+        sprintService.deleteSprint(sprint.getId(), testUser);
+        SyncChangesDto changes = syncService.getChanges(testUser, cursor, null);
+
+        assertThat(changes.getDeleted())
+                .extracting(SyncTombstoneDto::getType, SyncTombstoneDto::getId)
+                .containsExactlyInAnyOrder(
+                        tuple(SyncEntityType.ISSUE, issue.getId()),
+                        tuple(SyncEntityType.COMMENT, issueComment.getId()),
+                        tuple(SyncEntityType.COMMENT, comment.getId()),
+                        tuple(SyncEntityType.SPRINT, sprint.getId()));
+        assertThat(changes.getIssues()).isEmpty();
+    }
+
+    @Test
+    void shouldPageThroughChangesWithoutGapsOrDuplicates() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createIssue("Issue " + i).getId());
+        }
+
+        List<Long> synced = new ArrayList<>();
+        String cursor = null;
+        SyncChangesDto changes;
+        do {
+            changes = syncService.getChanges(testUser, cursor, 2);
+            assertThat(changes.getIssues()).hasSizeLessThanOrEqualTo(2);
+            changes.getIssues().forEach(issue -> synced.add(issue.getId()));
+            cursor = changes.getNextCursor();
+        } while (changes.isHasMore());
+
+        assertThat(synced).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void shouldRejectMalformedCursors() {
+        assertThatThrownBy(() -> syncService.getChanges(testUser, "not-a-cursor", null))
+                .isInstanceOf(InvalidCursorException.class)
+                .matches(e -> !((InvalidCursorException) e).isExpired());
+    }
+
+    @Test
+    void shouldRejectCursorsOlderThanTheTombstoneRetention() {
+        PageCursor old = new PageCursor(Instant.now().minus(400, ChronoUnit.DAYS), 0L);
+        String cursor = new SyncCursor(old, old, old, old).encode();
+
+        assertThatThrownBy(() -> syncService.getChanges(testUser, cursor, null))
+                .isInstanceOf(InvalidCursorException.class)
+                .matches(e -> ((InvalidCursorException) e).isExpired());
+    }
+
+    private IssueDto createIssue(String title) {
+        return issueService.createIssue(new CreateIssueRequest(title, null, Priority.MEDIUM, project.getId(),
+                epicTypeId(project.getId())), testUser);
+    }
+
+    /**
+     * Epic type scoped to the project. These tests commit, and global types left behind would
+     * show up in the lookups of other tests sharing the database.
+     */
+    private Long epicTypeId(Long projectId) {
+        return epicTypeIds.computeIfAbsent(projectId, id -> issueTypeRepository.save(
+                new IssueType(projectRepository.findById(id).orElseThrow(), "EPIC", "Epic issue type")).getId());
+    }
+}